@@ -0,0 +1,64 @@
+package uk.ac.ebi.atlas.releasenotes.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRule;
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules;
+import uk.ac.ebi.atlas.releasenotes.classify.CommitClassifier;
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.classify.RuleType;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassificationBenchmark {
+
+    private static final ClassificationRules CONVENTIONAL_RULES = new ClassificationRules(
+            List.of(
+                    new ClassificationRule(ClassificationRules.NEW_FEATURES, RuleType.CONVENTIONAL_COMMIT, "feat"),
+                    new ClassificationRule(ClassificationRules.BUG_FIXES, RuleType.CONVENTIONAL_COMMIT, "fix"),
+                    new ClassificationRule(ClassificationRules.NEW_FEATURES, RuleType.PREFIX, "Merge"),
+                    new ClassificationRule(ClassificationRules.BUG_FIXES, RuleType.REGEX, "(?i)fix(es|ed)?\\b")),
+            ClassificationRules.OTHER_CHANGES);
+
+    @Param({"1000", "10000", "100000"})
+    int historySize;
+
+    private List<Commit> history;
+    private CommitClassifier defaultClassifier;
+    private CommitClassifier conventionalClassifier;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        history = SyntheticHistory.generate(historySize);
+        defaultClassifier = CommitClassifier.compile(ClassificationRules.DEFAULT);
+        conventionalClassifier = CommitClassifier.compile(CONVENTIONAL_RULES);
+    }
+
+    @Benchmark
+    public List<ReleaseSection> classifyWithDefaultRules() {
+        return defaultClassifier.classify(history);
+    }
+
+    @Benchmark
+    public List<ReleaseSection> classifyWithConventionalRules() {
+        return conventionalClassifier.classify(history);
+    }
+}
@@ -0,0 +1,83 @@
+package uk.ac.ebi.atlas.releasenotes.benchmark;
+
+import feign.Request;
+import feign.Response;
+import feign.codec.Decoder;
+import feign.jackson.JacksonDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.json.CommitPageDecoder;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Decodes one page of 100 commits, as returned by the commits endpoint, with the tree-binding Jackson decoder and
+ * with the streaming decoder. Run with {@code -PjmhProfilers=gc} to compare the allocation per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommitDecodingBenchmark {
+
+    private static final Type COMMIT_PAGE_TYPE = CommitPage.class.getGenericInterfaces()[0];
+
+    // Gives access to the List<Commit> type the Feign client decodes into
+    private interface CommitPage extends List<Commit> {
+    }
+
+    private byte[] page;
+    private Request request;
+    private Decoder jacksonDecoder;
+    private Decoder commitPageDecoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = SyntheticHistory.generate(100).stream()
+                .map(SyntheticHistory::toGitHubJson)
+                .collect(Collectors.joining(",", "[", "]"))
+                .getBytes(StandardCharsets.UTF_8);
+        request = Request.create(Request.HttpMethod.GET, "https://api.github.com/repos/owner/repo/commits",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        jacksonDecoder = new JacksonDecoder(ReleaseNotesApplication.objectMapper);
+        commitPageDecoder = new CommitPageDecoder(ReleaseNotesApplication.objectMapper);
+    }
+
+    @Benchmark
+    public Object jacksonDecoder() throws IOException {
+        return jacksonDecoder.decode(response(), COMMIT_PAGE_TYPE);
+    }
+
+    @Benchmark
+    public Object commitPageDecoder() throws IOException {
+        return commitPageDecoder.decode(response(), COMMIT_PAGE_TYPE);
+    }
+
+    private Response response() {
+        return Response.builder()
+                .status(200)
+                .request(request)
+                .headers(Map.of())
+                .body(page)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package uk.ac.ebi.atlas.releasenotes.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.range.CommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static uk.ac.ebi.atlas.releasenotes.benchmark.SyntheticHistory.OWNER;
+import static uk.ac.ebi.atlas.releasenotes.benchmark.SyntheticHistory.REPO;
+
+/**
+ * Fetches whole histories from a local stub of the GitHub API: sequentially through the commits endpoint, and through
+ * the compare endpoint with one or several pages in flight.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PaginationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int historySize;
+
+    @Param({"0", "5"})
+    long latencyMillis;
+
+    private List<Commit> history;
+    private StubGitHubServer server;
+    private GitHubClient gitHubClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        history = SyntheticHistory.generate(historySize);
+        server = new StubGitHubServer(history, latencyMillis);
+        gitHubClient = server.createClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public List<Commit> fetchAllPages() {
+        return gitHubClient.getCommits(OWNER, REPO, history.get(0).sha());
+    }
+
+    @Benchmark
+    public List<Commit> resolveSequentially() {
+        return new CommitRangeResolver(gitHubClient, 1)
+                .resolve(OWNER, REPO, history.get(history.size() - 1).sha(), history.get(0).sha());
+    }
+
+    @Benchmark
+    public List<Commit> resolveInParallel() {
+        return new CommitRangeResolver(gitHubClient)
+                .resolve(OWNER, REPO, history.get(history.size() - 1).sha(), history.get(0).sha());
+    }
+}
@@ -0,0 +1,67 @@
+package uk.ac.ebi.atlas.releasenotes.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.ebi.atlas.releasenotes.cache.CachingCommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.cache.CommitStore;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static uk.ac.ebi.atlas.releasenotes.benchmark.SyntheticHistory.OWNER;
+import static uk.ac.ebi.atlas.releasenotes.benchmark.SyntheticHistory.REPO;
+
+/**
+ * Resolves a range that is fully covered by the cached history, so no request reaches GitHub.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeSlicingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int historySize;
+
+    private CachingCommitRangeResolver resolver;
+    private String sinceSha;
+    private String untilSha;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Commit> history = SyntheticHistory.generate(historySize);
+        CommitStore commitStore = new CommitStore() {
+            @Override
+            public List<Commit> load(String owner, String repo) {
+                return history;
+            }
+
+            @Override
+            public void store(String owner, String repo, List<Commit> commits) {
+            }
+        };
+        resolver = new CachingCommitRangeResolver(null, commitStore);
+
+        // A release in the middle of the history, abbreviated like a user would type it
+        sinceSha = history.get(historySize * 3 / 4).sha().substring(0, 7);
+        untilSha = history.get(historySize / 2).sha().substring(0, 7);
+    }
+
+    @Benchmark
+    public List<Commit> sliceCachedHistory() {
+        return resolver.resolve(OWNER, REPO, sinceSha, untilSha);
+    }
+}
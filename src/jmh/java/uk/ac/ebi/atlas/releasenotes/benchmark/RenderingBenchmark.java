@@ -0,0 +1,64 @@
+package uk.ac.ebi.atlas.releasenotes.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.render.OutputFormat;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesGenerator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classifies and renders a history into a writer that discards its output, so only the generator is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int historySize;
+
+    @Param({"MARKDOWN", "HTML", "JSON", "ASCIIDOC", "SLACK"})
+    OutputFormat format;
+
+    private List<Commit> history;
+    private GitHubProject project;
+    private ReleaseNotesGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        history = SyntheticHistory.generate(historySize);
+        project = new GitHubProject("develop", SyntheticHistory.REPO, "Expression Atlas web application",
+                "https://github.com/ebi-gene-expression-group/atlas-web", OffsetDateTime.parse("2024-06-01T12:00:00Z"));
+        generator = new ReleaseNotesGenerator();
+    }
+
+    @Benchmark
+    public void renderToWriter() throws IOException {
+        generator.renderReleaseNotes(history, project, "v1.0.0", format, Writer.nullWriter());
+    }
+
+    @Benchmark
+    public String renderToString() {
+        return generator.generateReleaseNotes(history, project, "v1.0.0", format);
+    }
+}
@@ -0,0 +1,134 @@
+package uk.ac.ebi.atlas.releasenotes.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.jackson.JacksonDecoder;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Serves a synthetic history through the commits, single commit and compare endpoints of the GitHub REST API, with
+ * a fixed delay per request to simulate network latency.
+ */
+final class StubGitHubServer implements AutoCloseable {
+
+    private static final Pattern COMMITS = Pattern.compile("/repos/[^/]+/[^/]+/commits");
+    private static final Pattern COMMIT = Pattern.compile("/repos/[^/]+/[^/]+/commits/([0-9a-f]+)");
+    private static final Pattern COMPARE = Pattern.compile("/repos/[^/]+/[^/]+/compare/([0-9a-f]+)\\.\\.\\.([0-9a-f]+)");
+
+    private final List<Commit> history;
+    private final List<String> commitJson;
+    private final Map<String, Integer> indexBySha = new HashMap<>();
+    private final long latencyMillis;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    StubGitHubServer(List<Commit> history, long latencyMillis) throws IOException {
+        this.history = history;
+        this.commitJson = history.stream().map(SyntheticHistory::toGitHubJson).toList();
+        for (int i = 0; i < history.size(); i++) {
+            indexBySha.put(history.get(i).sha(), i);
+        }
+        this.latencyMillis = latencyMillis;
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    GitHubClient createClient() {
+        return Feign.builder()
+                .decoder(new JacksonDecoder(ReleaseNotesApplication.objectMapper))
+                .target(GitHubClient.class, url());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        URI uri = exchange.getRequestURI();
+        Map<String, String> query = parseQuery(uri.getRawQuery());
+        int page = Integer.parseInt(query.getOrDefault("page", "1"));
+        int perPage = Integer.parseInt(query.getOrDefault("per_page", "30"));
+
+        Matcher matcher;
+        String body;
+        if ((matcher = COMPARE.matcher(uri.getPath())).matches()) {
+            int baseIdx = indexBySha.get(matcher.group(1));
+            int headIdx = indexBySha.get(matcher.group(2));
+            // The compare endpoint lists the commits after the base, oldest first
+            List<String> range = new ArrayList<>(commitJson.subList(headIdx, baseIdx));
+            Collections.reverse(range);
+            body = "{\"status\":\"ahead\",\"total_commits\":%d,\"commits\":%s}"
+                    .formatted(range.size(), toJsonArray(page(range, page, perPage)));
+        } else if ((matcher = COMMIT.matcher(uri.getPath())).matches()) {
+            body = commitJson.get(indexBySha.get(matcher.group(1)));
+        } else if (COMMITS.matcher(uri.getPath()).matches()) {
+            int headIdx = indexBySha.getOrDefault(query.get("sha"), 0);
+            body = toJsonArray(page(commitJson.subList(headIdx, history.size()), page, perPage));
+        } else {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static List<String> page(List<String> elements, int page, int perPage) {
+        int from = Math.min(elements.size(), (page - 1) * perPage);
+        return elements.subList(from, Math.min(elements.size(), from + perPage));
+    }
+
+    private static String toJsonArray(List<String> elements) {
+        return elements.stream().collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String parameter : rawQuery.split("&")) {
+                String[] keyValue = parameter.split("=", 2);
+                query.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "");
+            }
+        }
+        return query;
+    }
+}
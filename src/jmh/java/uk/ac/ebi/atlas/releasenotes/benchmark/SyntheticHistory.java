@@ -0,0 +1,95 @@
+package uk.ac.ebi.atlas.releasenotes.benchmark;
+
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Generates reproducible commit histories, newest first, with a realistic mix of merge, fix and other commits. Every
+ * commit has the next one as its first parent, and merge commits also have the one after that.
+ */
+final class SyntheticHistory {
+
+    static final String OWNER = "ebi-gene-expression-group";
+    static final String REPO = "atlas-web";
+
+    private static final String[] SUBJECTS = {
+            "Merge pull request #%d from ebi-gene-expression-group/feature/%d",
+            "Fix failing test in module %d (#%d)",
+            "feat(search): add facet %d to the results page %d",
+            "fix(cache): evict stale entry %d after %d seconds",
+            "Update dependency versions %d.%d",
+            "Refactor experiment loader %d for batch %d",
+    };
+
+    private SyntheticHistory() {
+    }
+
+    static List<Commit> generate(int size) {
+        Random random = new Random(size);
+        HexFormat hex = HexFormat.of();
+        Instant newest = Instant.parse("2024-06-01T12:00:00Z");
+
+        String[] shas = new String[size];
+        for (int i = 0; i < size; i++) {
+            byte[] shaBytes = new byte[20];
+            random.nextBytes(shaBytes);
+            shas[i] = hex.formatHex(shaBytes);
+        }
+
+        List<Commit> commits = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String sha = shas[i];
+            int subjectIdx = random.nextInt(SUBJECTS.length);
+            String subject = SUBJECTS[subjectIdx].formatted(random.nextInt(5000), random.nextInt(100));
+            String message = subject + "\n\n" + "Longer description of the change, wrapped at seventy two characters.\n".repeat(3);
+            Author author = new Author("developer" + random.nextInt(40) + "@ebi.ac.uk", newest.minusSeconds(600L * i));
+
+            List<CommitParent> parents = new ArrayList<>(2);
+            if (i + 1 < size) {
+                parents.add(new CommitParent(shas[i + 1]));
+            }
+            if (subjectIdx == 0 && i + 2 < size) {
+                parents.add(new CommitParent(shas[i + 2]));
+            }
+
+            commits.add(new Commit(sha, new CommitDetails(message, author),
+                    "https://github.com/%s/%s/commit/%s".formatted(OWNER, REPO, sha), null, parents));
+        }
+        return commits;
+    }
+
+    /**
+     * Serialises a commit the way the GitHub REST API does, including the fields the generator doesn't use.
+     */
+    static String toGitHubJson(Commit commit) {
+        String date = commit.commit().author().date().toString();
+        String email = commit.commit().author().email();
+        String message = commit.commit().message().replace("\n", "\\n");
+        String parents = commit.parents().stream()
+                .map(parent -> "{\"sha\":\"%1$s\",\"url\":\"https://api.github.com/repos/%2$s/%3$s/commits/%1$s\"}"
+                        .formatted(parent.sha(), OWNER, REPO))
+                .collect(Collectors.joining(","));
+        return """
+                {"sha":"%1$s","node_id":"C_kwDOA%1$s","html_url":"%2$s",\
+                "url":"https://api.github.com/repos/%3$s/%4$s/commits/%1$s",\
+                "comments_url":"https://api.github.com/repos/%3$s/%4$s/commits/%1$s/comments",\
+                "commit":{"author":{"name":"Developer","email":"%5$s","date":"%6$s"},\
+                "committer":{"name":"GitHub","email":"noreply@github.com","date":"%6$s"},\
+                "message":"%7$s","tree":{"sha":"%1$s","url":"https://api.github.com/repos/%3$s/%4$s/git/trees/%1$s"},\
+                "url":"https://api.github.com/repos/%3$s/%4$s/git/commits/%1$s","comment_count":0,\
+                "verification":{"verified":false,"reason":"unsigned","signature":null,"payload":null}},\
+                "author":{"login":"developer","id":1234567,"type":"User","site_admin":false},\
+                "committer":{"login":"web-flow","id":19864447,"type":"User","site_admin":false},\
+                "parents":[%8$s]}"""
+                .formatted(commit.sha(), commit.htmlUrl(), OWNER, REPO, email, date, message, parents);
+    }
+}
@@ -0,0 +1,257 @@
+package uk.ac.ebi.atlas.releasenotes;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.exception.GitHubApiException;
+import uk.ac.ebi.atlas.releasenotes.http.CachedResponse;
+import uk.ac.ebi.atlas.releasenotes.http.GitHubRateLimiter;
+import uk.ac.ebi.atlas.releasenotes.http.HttpResponseCache;
+import uk.ac.ebi.atlas.releasenotes.json.CommitJsonReader;
+import uk.ac.ebi.atlas.releasenotes.metrics.ReleaseNotesMetrics;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link GitHubClient} on {@link HttpClient}, so concurrent requests are multiplexed over
+ * one HTTP/2 connection. At most {@code maxConcurrentRequests} requests are in flight; the rest wait in a queue
+ * without holding a thread. Requests are paced by the shared {@link GitHubRateLimiter} and revalidated against the
+ * shared {@link HttpResponseCache}, like those of the Feign clients.
+ */
+@Slf4j
+public class AsyncGitHubClient {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(502, 503, 504);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String BEARER = "Bearer ";
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Supplier<String> tokenSupplier;
+    private final Function<String, Optional<String>> tokenRefresher;
+    private final ObjectMapper objectMapper;
+    private final GitHubRateLimiter rateLimiter;
+    private final HttpResponseCache responseCache;
+    private final Semaphore permits;
+    private final Queue<Runnable> pendingRequests = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param tokenRefresher called with the token of a request GitHub answered with 401 Unauthorized; the request is
+     *                       sent again, with the token of {@code tokenSupplier}, if it returns another token
+     */
+    public AsyncGitHubClient(String baseUrl, Supplier<String> tokenSupplier,
+                             Function<String, Optional<String>> tokenRefresher, ObjectMapper objectMapper,
+                             GitHubRateLimiter rateLimiter, HttpResponseCache responseCache, int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be positive, was " + maxConcurrentRequests);
+        }
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        this.baseUrl = baseUrl;
+        this.tokenSupplier = tokenSupplier;
+        this.tokenRefresher = tokenRefresher;
+        this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.responseCache = responseCache;
+        this.permits = new Semaphore(maxConcurrentRequests);
+    }
+
+    public CompletableFuture<GitHubProject> getProject(String owner, String repo) {
+        return get("getProject", "/repos/%s/%s".formatted(owner, repo), parser -> objectMapper.readValue(parser, GitHubProject.class));
+    }
+
+    public CompletableFuture<List<Commit>> getCommitsPage(String owner, String repo, String sha, int page, int perPage) {
+        return get("getCommitsPage", "/repos/%s/%s/commits?sha=%s&page=%d&per_page=%d".formatted(owner, repo, encode(sha), page, perPage),
+                CommitJsonReader::readCommits);
+    }
+
+    public CompletableFuture<Commit> getCommit(String owner, String repo, String ref) {
+        return get("getCommit", "/repos/%s/%s/commits/%s".formatted(owner, repo, encode(ref)),
+                CommitJsonReader::readCommit);
+    }
+
+    public CompletableFuture<CommitComparison> compareCommits(String owner, String repo, String base, String head,
+                                                              int page, int perPage) {
+        return get("compareCommits", "/repos/%s/%s/compare/%s...%s?page=%d&per_page=%d"
+                        .formatted(owner, repo, encode(base), encode(head), page, perPage),
+                CommitJsonReader::readComparison);
+    }
+
+    private <T> CompletableFuture<T> get(String endpoint, String path, CommitJsonReader.ValueReader<T> reader) {
+        String url = baseUrl + path;
+        return submit(() -> send(endpoint, url, 1)).thenApply(body -> decode(body, reader, url));
+    }
+
+    /**
+     * Queues the request and starts as many queued requests as there are free permits. Whoever enqueues a request or
+     * returns a permit drains the queue afterwards, so no request is left behind with a permit free.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pendingRequests.add(() -> start(request).whenComplete((value, error) -> {
+            permits.release();
+            drainPendingRequests();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        }));
+        drainPendingRequests();
+        return result;
+    }
+
+    private void drainPendingRequests() {
+        while (!pendingRequests.isEmpty() && permits.tryAcquire()) {
+            Runnable next = pendingRequests.poll();
+            if (next == null) {
+                permits.release();
+            } else {
+                next.run();
+            }
+        }
+    }
+
+    private static <T> CompletableFuture<T> start(Supplier<CompletableFuture<T>> request) {
+        try {
+            return request.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<byte[]> send(String endpoint, String url, int attempt) {
+        CachedResponse cachedResponse = responseCache.get(url);
+        return CompletableFuture.supplyAsync(() -> createRequest(url, cachedResponse), delayed(rateLimiter.reserve()))
+                .thenCompose(request -> exchange(endpoint, request))
+                .thenCompose(response -> handleResponse(endpoint, url, cachedResponse, response, attempt));
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> exchange(String endpoint, HttpRequest request) {
+        long startNanos = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    String status = response == null ? "IO_ERROR" : Integer.toString(response.statusCode());
+                    ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.HTTP_REQUESTS,
+                            "endpoint", endpoint, "status", status);
+                    if (response != null) {
+                        ReleaseNotesMetrics.recordResponseSize(response.body().length, endpoint);
+                    }
+                });
+    }
+
+    private HttpRequest createRequest(String url, CachedResponse cachedResponse) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/vnd.github+json")
+                .header("X-GitHub-Api-Version", "2022-11-28")
+                .header(AUTHORIZATION, BEARER + tokenSupplier.get())
+                .GET();
+        if (cachedResponse != null && cachedResponse.etag() != null) {
+            request.header("If-None-Match", cachedResponse.etag());
+        } else if (cachedResponse != null) {
+            request.header("If-Modified-Since", cachedResponse.lastModified());
+        }
+        return request.build();
+    }
+
+    private CompletableFuture<byte[]> handleResponse(String endpoint, String url, CachedResponse cachedResponse,
+                                                     HttpResponse<byte[]> response, int attempt) {
+        Map<String, Collection<String>> headers = toCaseInsensitiveMap(response.headers());
+        rateLimiter.update(headers);
+        int status = response.statusCode();
+
+        if (status == 304 && cachedResponse != null) {
+            log.debug("Not modified, using cached response for {}", url);
+            return CompletableFuture.completedFuture(cachedResponse.body());
+        }
+
+        if (status == 401 && tokenRefresher.apply(getToken(response.request())).isPresent()) {
+            log.info("GitHub API responded 401 to {}, retrying with another token", url);
+            return send(endpoint, url, attempt);
+        }
+
+        if ((rateLimiter.isRateLimited(status, headers) || RETRYABLE_STATUSES.contains(status)) && attempt < MAX_ATTEMPTS) {
+            long delayMillis = rateLimiter.getRetryDelayMillis(headers, attempt);
+            log.warn("GitHub API responded {} to {}, retrying in {} ms (attempt {} of {})",
+                    status, url, delayMillis, attempt + 1, MAX_ATTEMPTS);
+            return CompletableFuture.supplyAsync(() -> url, delayed(delayMillis))
+                    .thenCompose(retryUrl -> send(endpoint, retryUrl, attempt + 1));
+        }
+
+        if (status != 200) {
+            return CompletableFuture.failedFuture(new GitHubApiException(status,
+                    "[%d] during [GET] to [%s]: %s".formatted(status, url, new String(response.body(), StandardCharsets.UTF_8))));
+        }
+
+        String etag = response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+        if (etag != null || lastModified != null) {
+            String contentType = response.headers().firstValue("Content-Type").orElse(null);
+            responseCache.put(url, new CachedResponse(etag, lastModified, contentType, response.body()));
+        }
+        return CompletableFuture.completedFuture(response.body());
+    }
+
+    private static String getToken(HttpRequest request) {
+        return request.headers().firstValue(AUTHORIZATION).map(value -> value.substring(BEARER.length())).orElseThrow();
+    }
+
+    private <T> T decode(byte[] body, CommitJsonReader.ValueReader<T> reader, String url) {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            parser.nextToken();
+            return reader.read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error decoding response of " + url, e);
+        }
+    }
+
+    private static Executor delayed(long delayMillis) {
+        return delayMillis > 0 ? CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS) : Runnable::run;
+    }
+
+    private static Map<String, Collection<String>> toCaseInsensitiveMap(HttpHeaders httpHeaders) {
+        // HTTP/2 header names are lower case, the rate limiter looks them up as GitHub documents them
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(httpHeaders.map());
+        return headers;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
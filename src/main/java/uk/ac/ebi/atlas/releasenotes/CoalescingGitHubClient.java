@@ -0,0 +1,151 @@
+package uk.ac.ebi.atlas.releasenotes;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.Tag;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * {@link GitHubClient} that lets concurrent callers of the same request share one call to the delegate: the first
+ * caller makes the request and the others wait for its result. Completed results of requests for full commit SHAs,
+ * which can't change, are kept for a short time, so the jobs of a batch that start a moment apart share them too.
+ * Requests for branches, tags or the project always reach the delegate once the previous call has completed, so a
+ * refresh sees a new head straight away. Failures are shared by the callers waiting for them but not kept.
+ */
+@Slf4j
+public class CoalescingGitHubClient implements GitHubClient {
+
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    // Expired results are only dropped when the memo grows past this size
+    private static final int MAX_MEMO_SIZE = 1024;
+
+    private static final Pattern FULL_SHA = Pattern.compile("[0-9a-f]{40}");
+
+    private final GitHubClient delegate;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Request, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Request, MemoizedResult> memo = new ConcurrentHashMap<>();
+
+    public CoalescingGitHubClient(GitHubClient delegate, Duration ttl) {
+        this(delegate, ttl, System::nanoTime);
+    }
+
+    CoalescingGitHubClient(GitHubClient delegate, Duration ttl, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public GitHubProject getProject(String owner, String repo) {
+        return coalesce(new Request("project", owner, repo, null, null, null, 0, 0),
+                () -> delegate.getProject(owner, repo));
+    }
+
+    @Override
+    public List<Commit> getCommitsPage(String owner, String repo, String sha, int page, int perPage) {
+        return coalesce(new Request("commits", owner, repo, sha, null, null, page, perPage),
+                () -> delegate.getCommitsPage(owner, repo, sha, page, perPage));
+    }
+
+    @Override
+    public List<Commit> getFilteredCommitsPage(String owner, String repo, String sha, int page, int perPage,
+                                               Map<String, Object> filter) {
+        return coalesce(new Request("commits", owner, repo, sha, null, filter, page, perPage),
+                () -> delegate.getFilteredCommitsPage(owner, repo, sha, page, perPage, filter));
+    }
+
+    @Override
+    public Commit getCommit(String owner, String repo, String ref) {
+        return coalesce(new Request("commit", owner, repo, ref, null, null, 0, 0),
+                () -> delegate.getCommit(owner, repo, ref));
+    }
+
+    @Override
+    public CommitComparison compareCommits(String owner, String repo, String base, String head, int page, int perPage) {
+        return coalesce(new Request("compare", owner, repo, base, head, null, page, perPage),
+                () -> delegate.compareCommits(owner, repo, base, head, page, perPage));
+    }
+
+    @Override
+    public List<Tag> listTags(String owner, String repo, int page, int perPage) {
+        return coalesce(new Request("tags", owner, repo, null, null, null, page, perPage),
+                () -> delegate.listTags(owner, repo, page, perPage));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(Request request, Supplier<T> call) {
+        MemoizedResult memoized = memo.get(request);
+        if (memoized != null && nanoClock.getAsLong() - memoized.completedAt() < ttlNanos) {
+            return (T) memoized.value();
+        }
+
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object> pending = inFlight.putIfAbsent(request, result);
+        if (pending != null) {
+            log.debug("Joining in-flight request {}", request);
+            return (T) join(pending);
+        }
+
+        try {
+            T value = call.get();
+            if (ttlNanos > 0 && request.isImmutable()) {
+                remember(request, value);
+            }
+            result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(request, result);
+        }
+    }
+
+    private void remember(Request request, Object value) {
+        long now = nanoClock.getAsLong();
+        if (memo.size() >= MAX_MEMO_SIZE) {
+            memo.values().removeIf(memoized -> now - memoized.completedAt() >= ttlNanos);
+        }
+        memo.put(request, new MemoizedResult(value, now));
+    }
+
+    private static Object join(CompletableFuture<Object> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            // Rethrow what the delegate threw, as if the waiting caller had made the request itself
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Request(String endpoint, String owner, String repo, String ref, String head, Map<String, Object> filter,
+                           int page, int perPage) {
+
+        // Commits, comparisons and pages of history named by full SHAs only; a short SHA could become ambiguous
+        boolean isImmutable() {
+            return ref != null && FULL_SHA.matcher(ref).matches() && (head == null || FULL_SHA.matcher(head).matches());
+        }
+    }
+
+    private record MemoizedResult(Object value, long completedAt) {}
+}
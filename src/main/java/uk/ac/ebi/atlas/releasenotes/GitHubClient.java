@@ -2,16 +2,22 @@ package uk.ac.ebi.atlas.releasenotes;
 
 import feign.Headers;
 import feign.Param;
+import feign.QueryMap;
 import feign.RequestLine;
 import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
 import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.Tag;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.IntFunction;
+import java.util.function.Predicate;
 
 public interface GitHubClient {
-    int DEFAULT_PAGE_SIZE = 30;
+    int DEFAULT_PAGE_SIZE = 100;
 
     @RequestLine("GET /repos/{owner}/{repo}")
     @Headers({
@@ -20,25 +26,111 @@ public interface GitHubClient {
     })
     GitHubProject getProject(@Param("owner") String owner, @Param("repo") String repo);
 
-    @RequestLine("GET /repos/{owner}/{repo}/commits?sha={sha}&page={page}")
+    @RequestLine("GET /repos/{owner}/{repo}/commits?sha={sha}&page={page}&per_page={perPage}")
     @Headers({
             "Accept: application/vnd.github+json",
             "X-GitHub-Api-Version: 2022-11-28",
     })
-    List<Commit> getCommitsPage(@Param("owner") String owner, @Param("repo") String repo, @Param("sha") String sha, @Param("page") int page);
+    List<Commit> getCommitsPage(@Param("owner") String owner,
+                                @Param("repo") String repo,
+                                @Param("sha") String sha,
+                                @Param("page") int page,
+                                @Param("perPage") int perPage);
+
+    /**
+     * Lists a page of the history of {@code sha} narrowed by the {@code path}, {@code author}, {@code since} and
+     * {@code until} parameters of the commits endpoint.
+     */
+    @RequestLine("GET /repos/{owner}/{repo}/commits?sha={sha}&page={page}&per_page={perPage}")
+    @Headers({
+            "Accept: application/vnd.github+json",
+            "X-GitHub-Api-Version: 2022-11-28",
+    })
+    List<Commit> getFilteredCommitsPage(@Param("owner") String owner,
+                                        @Param("repo") String repo,
+                                        @Param("sha") String sha,
+                                        @Param("page") int page,
+                                        @Param("perPage") int perPage,
+                                        @QueryMap Map<String, Object> filter);
+
+    @RequestLine("GET /repos/{owner}/{repo}/commits/{ref}")
+    @Headers({
+            "Accept: application/vnd.github+json",
+            "X-GitHub-Api-Version: 2022-11-28",
+    })
+    Commit getCommit(@Param("owner") String owner, @Param("repo") String repo, @Param("ref") String ref);
+
+    @RequestLine("GET /repos/{owner}/{repo}/compare/{base}...{head}?page={page}&per_page={perPage}")
+    @Headers({
+            "Accept: application/vnd.github+json",
+            "X-GitHub-Api-Version: 2022-11-28",
+    })
+    CommitComparison compareCommits(@Param("owner") String owner,
+                                    @Param("repo") String repo,
+                                    @Param("base") String base,
+                                    @Param("head") String head,
+                                    @Param("page") int page,
+                                    @Param("perPage") int perPage);
+
+    @RequestLine("GET /repos/{owner}/{repo}/tags?page={page}&per_page={perPage}")
+    @Headers({
+            "Accept: application/vnd.github+json",
+            "X-GitHub-Api-Version: 2022-11-28",
+    })
+    List<Tag> listTags(@Param("owner") String owner,
+                       @Param("repo") String repo,
+                       @Param("page") int page,
+                       @Param("perPage") int perPage);
+
+    default List<Tag> getTags(String owner, String repo) {
+        return fetchAllPages(DEFAULT_PAGE_SIZE, page -> listTags(owner, repo, page, DEFAULT_PAGE_SIZE));
+    }
+
+    default List<Commit> getCommitsPage(String owner, String repo, String sha, int page) {
+        return getCommitsPage(owner, repo, sha, page, DEFAULT_PAGE_SIZE);
+    }
 
     default List<Commit> getCommits(String owner, String repo, String sha) {
         return fetchAllPages(DEFAULT_PAGE_SIZE, page -> getCommitsPage(owner, repo, sha, page));
     }
 
+    default List<Commit> getFilteredCommits(String owner, String repo, String sha, Map<String, Object> filter) {
+        return fetchAllPages(DEFAULT_PAGE_SIZE, page -> getFilteredCommitsPage(owner, repo, sha, page, DEFAULT_PAGE_SIZE, filter));
+    }
+
+    /**
+     * Pages through the history of {@code sha} (newest first) and stops at the first commit matching
+     * {@code lastCommit}, which is included as the final element of the returned list.
+     */
+    default List<Commit> getCommitsUntil(String owner, String repo, String sha, Predicate<? super Commit> lastCommit) {
+        return fetchPagesUntil(DEFAULT_PAGE_SIZE, page -> getCommitsPage(owner, repo, sha, page), lastCommit);
+    }
+
     default <T> List<T> fetchAllPages(int pageSize, IntFunction<List<T>> pageFunction) {
+        return fetchPagesUntil(pageSize, pageFunction, element -> false);
+    }
+
+    default <T> List<T> fetchPagesUntil(int pageSize, IntFunction<List<T>> pageFunction, Predicate<? super T> lastElement) {
         List<T> allResults = new ArrayList<>();
+        forEachUntil(pageSize, pageFunction, lastElement, allResults::add);
+        return allResults;
+    }
+
+    /**
+     * Hands the elements of each page to {@code consumer} as the page arrives, up to and including the first element
+     * matching {@code lastElement}, so the pages are never all held at once.
+     */
+    default <T> void forEachUntil(int pageSize, IntFunction<List<T>> pageFunction, Predicate<? super T> lastElement,
+                                  Consumer<? super T> consumer) {
         List<T> curPageData = null;
         for (int curPageNum = 1; curPageData == null || curPageData.size() == pageSize; curPageNum++) {
             curPageData = pageFunction.apply(curPageNum);
-            allResults.addAll(curPageData);
+            for (T element : curPageData) {
+                consumer.accept(element);
+                if (lastElement.test(element)) {
+                    return;
+                }
+            }
         }
-
-        return allResults;
     }
 }
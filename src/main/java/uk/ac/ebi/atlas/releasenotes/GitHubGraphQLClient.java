@@ -0,0 +1,19 @@
+package uk.ac.ebi.atlas.releasenotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import feign.Headers;
+import feign.RequestLine;
+
+import java.util.Map;
+
+public interface GitHubGraphQLClient {
+
+    record Query(String query, Map<String, Object> variables) {}
+
+    @RequestLine("POST /graphql")
+    @Headers({
+            "Content-Type: application/json",
+            "Accept: application/json",
+    })
+    JsonNode query(Query query);
+}
@@ -9,90 +9,141 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import feign.Client;
 import feign.Feign;
-import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import picocli.CommandLine;
+import uk.ac.ebi.atlas.releasenotes.auth.TokenProviderChain;
+import uk.ac.ebi.atlas.releasenotes.command.BatchCommand;
 import uk.ac.ebi.atlas.releasenotes.command.ReleaseNoteCommand;
-import uk.ac.ebi.atlas.releasenotes.exception.GitHubCliProcessException;
+import uk.ac.ebi.atlas.releasenotes.command.ServeCommand;
+import uk.ac.ebi.atlas.releasenotes.command.TimelineCommand;
+import uk.ac.ebi.atlas.releasenotes.http.ConditionalRequestClient;
+import uk.ac.ebi.atlas.releasenotes.http.GitHubRateLimiter;
+import uk.ac.ebi.atlas.releasenotes.http.HttpResponseCache;
+import uk.ac.ebi.atlas.releasenotes.http.InstrumentedClient;
+import uk.ac.ebi.atlas.releasenotes.http.RateLimitAwareClient;
+import uk.ac.ebi.atlas.releasenotes.http.TokenRefreshingClient;
+import uk.ac.ebi.atlas.releasenotes.json.CommitPageDecoder;
 import uk.ac.ebi.atlas.releasenotes.logging.PicoCLIColorizedAppender;
 
-import java.io.IOException;
-import java.nio.charset.Charset;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
 
-import static java.lang.ProcessBuilder.Redirect.PIPE;
 import static java.lang.System.exit;
 
 @SpringBootApplication
 @Slf4j
 public class ReleaseNotesApplication {
 
-	static String apiTokenCache;
+	private static final String GITHUB_API_URL = "https://api.github.com";
 
-	private static final Pattern GH_CLI_STATUS_TOKEN_REGEX =
-			Pattern.compile("Token\\s*:\\s+(\\S+)$", Pattern.MULTILINE);
+	// Set to an empty value to keep the HTTP response cache in memory only
+	public static final String HTTP_CACHE_DIR_PROPERTY = "releasenotes.http-cache-dir";
 
-	static final ObjectMapper objectMapper = new ObjectMapper()
+	public static final String MAX_CONCURRENT_REQUESTS_PROPERTY = "releasenotes.max-concurrent-requests";
+
+	// Write log events from a background thread, dropping DEBUG and TRACE events when the queue is full
+	public static final String LOG_ASYNC_PROPERTY = "releasenotes.log.async";
+
+	public static final String LOG_QUEUE_SIZE_PROPERTY = "releasenotes.log.queue-size";
+
+	// ISO-8601 duration for which identical GitHub API requests share their result, PT0S to share in-flight ones only
+	public static final String REQUEST_MEMO_TTL_PROPERTY = "releasenotes.request-memo-ttl";
+
+	public static final ObjectMapper objectMapper = new ObjectMapper()
 			.registerModule(new JavaTimeModule())
 			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
 			.setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL)
 			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
-	public static GitHubClient gitHubClient = Feign.builder()
-			.decoder(new JacksonDecoder(objectMapper))
-			.encoder(new JacksonEncoder(objectMapper))
-			.requestInterceptor(request -> request.header("Authorization", "Bearer " + getApiToken()))
-			.target(GitHubClient.class, "https://api.github.com");
+	// Dispatched by hand: picocli would require ReleaseNoteCommand's options before any subcommand
+	private static final Map<String, Supplier<Object>> SUBCOMMANDS = Map.of(
+			"batch", BatchCommand::new,
+			"serve", ServeCommand::new,
+			"timeline", TimelineCommand::new
+	);
 
+	public static final GitHubRateLimiter rateLimiter = new GitHubRateLimiter();
+
+	private static final TokenProviderChain tokenProviderChain = TokenProviderChain.createDefault(
+			Path.of(System.getProperty("user.home"), ".cache", "release-notes-generator", "token"));
+
+	// The CLI doesn't use the Spring context, so main() only builds what the command it runs needs
 	public static void main(String[] args) {
-		SpringApplication.run(ReleaseNotesApplication.class, args);
 		configureLogback();
-		int exitCode = new CommandLine(new ReleaseNoteCommand()).execute(args);
+		int exitCode;
+		if (args.length > 0 && SUBCOMMANDS.containsKey(args[0])) {
+			exitCode = new CommandLine(SUBCOMMANDS.get(args[0]).get()).execute(Arrays.copyOfRange(args, 1, args.length));
+		} else {
+			exitCode = new CommandLine(new ReleaseNoteCommand()).execute(args);
+		}
 		exit(exitCode);
 	}
 
 	public static String getApiToken() {
-		if (apiTokenCache != null) {
-			return apiTokenCache;
-		}
-		try {
-			Process statusProcess = new ProcessBuilder("gh", "auth", "status", "-t")
-					.redirectOutput(PIPE)
-					.redirectError(PIPE)
-					.start();
-			String statusOutput = IOUtils.toString(statusProcess.getInputStream(), Charset.defaultCharset());
-			String statusError = IOUtils.toString(statusProcess.getErrorStream(), Charset.defaultCharset());
-
-			if (statusError.contains("You are not logged into any GitHub hosts.")) {
-				new ProcessBuilder("gh", "auth", "login")
-						.inheritIO()
-						.start()
-						.waitFor();
-			} else if (!statusOutput.contains("Logged in to github.com account")) {
-				throw new GitHubCliProcessException("Unrecognized GitHub CLI auth status:\n" + statusOutput + statusError);
-			}
-
-			Matcher tokenMatcher = GH_CLI_STATUS_TOKEN_REGEX.matcher(statusOutput);
-			if (tokenMatcher.find()) {
-				apiTokenCache = tokenMatcher.group(1);
-				return apiTokenCache;
-			} else {
-				throw new GitHubCliProcessException("Unable to extract token from output: " + statusOutput);
-			}
-
-		} catch (IOException | InterruptedException e) {
-			if (e instanceof InterruptedException) {
-				Thread.currentThread().interrupt();
-			}
-			throw new GitHubCliProcessException("GitHub CLI process error: " + e.getMessage(), e);
-		}
+		return tokenProviderChain.getToken();
+	}
+
+	public static GitHubClient getGitHubClient() {
+		return GitHubClients.REST;
+	}
+
+	public static GitHubGraphQLClient getGitHubGraphQLClient() {
+		return GitHubClients.GRAPHQL;
+	}
+
+	public static AsyncGitHubClient getAsyncGitHubClient() {
+		return AsyncGitHubClientHolder.INSTANCE;
+	}
+
+	// Initialised on first use only: commands that work on a local clone never build a Feign client
+	private static final class GitHubClients {
+		private static final HttpResponseCache HTTP_RESPONSE_CACHE = new HttpResponseCache(getHttpCacheDir());
+
+		private static final GitHubClient REST = new CoalescingGitHubClient(
+				gitHubFeignBuilder().target(GitHubClient.class, GITHUB_API_URL),
+				getRequestMemoTtl());
+
+		private static final GitHubGraphQLClient GRAPHQL = gitHubFeignBuilder()
+				.target(GitHubGraphQLClient.class, GITHUB_API_URL);
+	}
+
+	private static final class AsyncGitHubClientHolder {
+		private static final AsyncGitHubClient INSTANCE = new AsyncGitHubClient(
+				GITHUB_API_URL, ReleaseNotesApplication::getApiToken, tokenProviderChain::refreshToken, objectMapper,
+				rateLimiter, GitHubClients.HTTP_RESPONSE_CACHE,
+				Integer.getInteger(MAX_CONCURRENT_REQUESTS_PROPERTY, AsyncGitHubClient.DEFAULT_MAX_CONCURRENT_REQUESTS));
+	}
+
+	private static Feign.Builder gitHubFeignBuilder() {
+		return Feign.builder()
+				.client(new TokenRefreshingClient(
+						new RateLimitAwareClient(
+								new ConditionalRequestClient(
+										new InstrumentedClient(new Client.Default(null, null)), GitHubClients.HTTP_RESPONSE_CACHE),
+								rateLimiter),
+						tokenProviderChain::refreshToken))
+				.decoder(new CommitPageDecoder(objectMapper))
+				.encoder(new JacksonEncoder(objectMapper))
+				.requestInterceptor(request -> request.header("Authorization", "Bearer " + getApiToken()));
+	}
+
+	private static Path getHttpCacheDir() {
+		// Responses of private repositories shouldn't be written to disk unless asked to
+		String httpCacheDir = System.getProperty(HTTP_CACHE_DIR_PROPERTY);
+		return httpCacheDir == null || httpCacheDir.isBlank() ? null : Path.of(httpCacheDir);
+	}
+
+	private static Duration getRequestMemoTtl() {
+		String requestMemoTtl = System.getProperty(REQUEST_MEMO_TTL_PROPERTY);
+		return requestMemoTtl == null ? CoalescingGitHubClient.DEFAULT_TTL : Duration.parse(requestMemoTtl);
 	}
 
 	private static void configureLogback() {
@@ -106,6 +157,8 @@ public class ReleaseNotesApplication {
 		PicoCLIColorizedAppender appender = new PicoCLIColorizedAppender();
 		appender.setContext(context);
 		appender.setEncoder(encoder);
+		appender.setAsync(Boolean.getBoolean(LOG_ASYNC_PROPERTY));
+		appender.setQueueSize(Integer.getInteger(LOG_QUEUE_SIZE_PROPERTY, PicoCLIColorizedAppender.DEFAULT_QUEUE_SIZE));
 		appender.start();
 
 		Logger rootLogger = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
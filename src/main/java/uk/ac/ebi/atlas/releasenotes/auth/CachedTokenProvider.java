@@ -0,0 +1,110 @@
+package uk.ac.ebi.atlas.releasenotes.auth;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Keeps the token of a slower provider (the GitHub CLI) in a file that only its owner can read, until it expires.
+ * The file holds the expiry instant on the first line and the token on the second. On file systems without POSIX
+ * permissions nothing is cached, and files readable by anybody else are ignored. A token GitHub rejects is deleted
+ * before it expires, so the delegate is asked again.
+ */
+@Slf4j
+public class CachedTokenProvider implements TokenProvider {
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(8);
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+
+    private final Path cacheFile;
+    private final Duration timeToLive;
+    private final TokenProvider delegate;
+    private final Clock clock;
+
+    public CachedTokenProvider(Path cacheFile, TokenProvider delegate) {
+        this(cacheFile, DEFAULT_TIME_TO_LIVE, delegate, Clock.systemUTC());
+    }
+
+    public CachedTokenProvider(Path cacheFile, Duration timeToLive, TokenProvider delegate, Clock clock) {
+        this.cacheFile = cacheFile;
+        this.timeToLive = timeToLive;
+        this.delegate = delegate;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<String> getToken() {
+        Optional<String> cachedToken = readCachedToken();
+        if (cachedToken.isPresent()) {
+            return cachedToken;
+        }
+
+        Optional<String> token = delegate.getToken();
+        token.ifPresent(this::writeCachedToken);
+        return token;
+    }
+
+    @Override
+    public void invalidate(String token) {
+        if (readCachedToken().filter(token::equals).isPresent()) {
+            log.debug("Deleting rejected GitHub token cached in {}", cacheFile);
+            deleteQuietly(cacheFile);
+        }
+        delegate.invalidate(token);
+    }
+
+    private Optional<String> readCachedToken() {
+        try {
+            if (!Files.isRegularFile(cacheFile) || !Files.getPosixFilePermissions(cacheFile).equals(OWNER_ONLY)) {
+                return Optional.empty();
+            }
+            List<String> lines = Files.readAllLines(cacheFile, StandardCharsets.UTF_8);
+            if (lines.size() < 2 || !Instant.parse(lines.get(0)).isAfter(clock.instant())) {
+                return Optional.empty();
+            }
+            return Optional.of(lines.get(1));
+        } catch (IOException | RuntimeException e) {
+            log.debug("Ignoring cached GitHub token {}: {}", cacheFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeCachedToken(String token) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            FileAttribute<Set<PosixFilePermission>> ownerOnly = PosixFilePermissions.asFileAttribute(OWNER_ONLY);
+            tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp", ownerOnly);
+            Files.writeString(tempFile, clock.instant().plus(timeToLive) + "\n" + token + "\n", StandardCharsets.UTF_8);
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Couldn't cache GitHub token in {}: {}", cacheFile, e.getMessage());
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Couldn't delete {}: {}", file, e.getMessage());
+        }
+    }
+}
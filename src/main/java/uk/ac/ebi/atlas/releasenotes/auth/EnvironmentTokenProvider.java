@@ -0,0 +1,31 @@
+package uk.ac.ebi.atlas.releasenotes.auth;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+public class EnvironmentTokenProvider implements TokenProvider {
+
+    public static final List<String> DEFAULT_VARIABLES = List.of("GITHUB_TOKEN", "GH_TOKEN");
+
+    private final UnaryOperator<String> environment;
+    private final List<String> variables;
+
+    public EnvironmentTokenProvider() {
+        this(System::getenv, DEFAULT_VARIABLES);
+    }
+
+    public EnvironmentTokenProvider(UnaryOperator<String> environment, List<String> variables) {
+        this.environment = environment;
+        this.variables = variables;
+    }
+
+    @Override
+    public Optional<String> getToken() {
+        return variables.stream()
+                .map(environment)
+                .filter(value -> value != null && !value.isBlank())
+                .map(String::strip)
+                .findFirst();
+    }
+}
@@ -0,0 +1,33 @@
+package uk.ac.ebi.atlas.releasenotes.auth;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Reads the token from a file containing only the token, e.g. a mounted CI secret.
+ */
+public class FileTokenProvider implements TokenProvider {
+
+    private final Path tokenFile;
+
+    public FileTokenProvider(Path tokenFile) {
+        this.tokenFile = tokenFile;
+    }
+
+    @Override
+    public Optional<String> getToken() {
+        if (!Files.isRegularFile(tokenFile)) {
+            return Optional.empty();
+        }
+        try {
+            String token = Files.readString(tokenFile, StandardCharsets.UTF_8).strip();
+            return token.isEmpty() ? Optional.empty() : Optional.of(token);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading GitHub token from " + tokenFile, e);
+        }
+    }
+}
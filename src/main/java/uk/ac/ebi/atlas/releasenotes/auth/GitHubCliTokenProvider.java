@@ -0,0 +1,55 @@
+package uk.ac.ebi.atlas.releasenotes.auth;
+
+import org.apache.commons.io.IOUtils;
+import uk.ac.ebi.atlas.releasenotes.exception.GitHubCliProcessException;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.lang.ProcessBuilder.Redirect.PIPE;
+
+/**
+ * Asks the GitHub CLI for its token, launching the {@code gh} login process if it isn't logged in.
+ */
+public class GitHubCliTokenProvider implements TokenProvider {
+
+    private static final Pattern GH_CLI_STATUS_TOKEN_REGEX =
+            Pattern.compile("Token\\s*:\\s+(\\S+)$", Pattern.MULTILINE);
+
+    @Override
+    public Optional<String> getToken() {
+        try {
+            Process statusProcess = new ProcessBuilder("gh", "auth", "status", "-t")
+                    .redirectOutput(PIPE)
+                    .redirectError(PIPE)
+                    .start();
+            String statusOutput = IOUtils.toString(statusProcess.getInputStream(), Charset.defaultCharset());
+            String statusError = IOUtils.toString(statusProcess.getErrorStream(), Charset.defaultCharset());
+
+            if (statusError.contains("You are not logged into any GitHub hosts.")) {
+                new ProcessBuilder("gh", "auth", "login")
+                        .inheritIO()
+                        .start()
+                        .waitFor();
+            } else if (!statusOutput.contains("Logged in to github.com account")) {
+                throw new GitHubCliProcessException("Unrecognized GitHub CLI auth status:\n" + statusOutput + statusError);
+            }
+
+            Matcher tokenMatcher = GH_CLI_STATUS_TOKEN_REGEX.matcher(statusOutput);
+            if (tokenMatcher.find()) {
+                return Optional.of(tokenMatcher.group(1));
+            } else {
+                throw new GitHubCliProcessException("Unable to extract token from output: " + statusOutput);
+            }
+
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new GitHubCliProcessException("GitHub CLI process error: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package uk.ac.ebi.atlas.releasenotes.auth;
+
+import java.util.Optional;
+
+/**
+ * A source of GitHub API tokens. Returns an empty optional when it has no token to offer, so the next provider in a
+ * {@link TokenProviderChain} is tried.
+ */
+@FunctionalInterface
+public interface TokenProvider {
+    Optional<String> getToken();
+
+    /**
+     * Called when GitHub rejects {@code token}, so a provider that keeps tokens can drop it.
+     */
+    default void invalidate(String token) {
+    }
+}
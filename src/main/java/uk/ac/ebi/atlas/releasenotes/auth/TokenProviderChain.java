@@ -0,0 +1,104 @@
+package uk.ac.ebi.atlas.releasenotes.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.exception.GitHubTokenException;
+import uk.ac.ebi.atlas.releasenotes.metrics.ReleaseNotesMetrics;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Asks each provider in turn for a GitHub token and keeps the first one found for the lifetime of the chain.
+ * Concurrent callers wait for a single lookup instead of starting their own. If GitHub rejects the token, the chain
+ * is asked once more for another one.
+ */
+@Slf4j
+public class TokenProviderChain {
+
+    public static final String TOKEN_FILE_PROPERTY = "releasenotes.token-file";
+
+    private final List<TokenProvider> providers;
+    private volatile String token;
+    // Guarded by this
+    private boolean refreshed;
+
+    public TokenProviderChain(List<TokenProvider> providers) {
+        this.providers = List.copyOf(providers);
+    }
+
+    /**
+     * Environment variables first, then the file named by the {@value TOKEN_FILE_PROPERTY} system property, and
+     * finally the GitHub CLI, whose token is cached in {@code cacheFile}.
+     */
+    public static TokenProviderChain createDefault(Path cacheFile) {
+        List<TokenProvider> providers = new ArrayList<>();
+        providers.add(new EnvironmentTokenProvider());
+        String tokenFile = System.getProperty(TOKEN_FILE_PROPERTY);
+        if (tokenFile != null && !tokenFile.isBlank()) {
+            providers.add(new FileTokenProvider(Path.of(tokenFile)));
+        }
+        providers.add(new CachedTokenProvider(cacheFile, new GitHubCliTokenProvider()));
+        return new TokenProviderChain(providers);
+    }
+
+    public String getToken() {
+        String result = token;
+        if (result == null) {
+            synchronized (this) {
+                result = token;
+                if (result == null) {
+                    result = lookUpToken();
+                    token = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Called when GitHub rejects {@code rejectedToken}: the providers drop it, and the first other token they provide
+     * replaces it. This is only done once, so a chain of rejected tokens doesn't run the providers for every request.
+     * Returns the token to retry with, or an empty optional if there's none.
+     */
+    public synchronized Optional<String> refreshToken(String rejectedToken) {
+        if (token != null && !token.equals(rejectedToken)) {
+            // Another request was rejected first and has replaced the token already
+            return Optional.of(token);
+        }
+        if (refreshed) {
+            return Optional.empty();
+        }
+        refreshed = true;
+
+        log.warn("GitHub rejected the API token, looking for another one");
+        for (TokenProvider provider : providers) {
+            provider.invalidate(rejectedToken);
+        }
+        for (TokenProvider provider : providers) {
+            Optional<String> providedToken = provider.getToken().filter(newToken -> !newToken.equals(rejectedToken));
+            if (providedToken.isPresent()) {
+                log.debug("GitHub token provided by {}", provider.getClass().getSimpleName());
+                token = providedToken.get();
+                return providedToken;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private String lookUpToken() {
+        long startNanos = System.nanoTime();
+        for (TokenProvider provider : providers) {
+            Optional<String> providedToken = provider.getToken();
+            if (providedToken.isPresent()) {
+                String providerName = provider.getClass().getSimpleName();
+                log.debug("GitHub token provided by {}", providerName);
+                ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.TOKEN_LOOKUP, "provider", providerName);
+                return providedToken.get();
+            }
+        }
+        ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.TOKEN_LOOKUP, "provider", "none");
+        throw new GitHubTokenException("No GitHub token found: set GITHUB_TOKEN or log in with the GitHub CLI");
+    }
+}
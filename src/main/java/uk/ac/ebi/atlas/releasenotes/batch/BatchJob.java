@@ -0,0 +1,28 @@
+package uk.ac.ebi.atlas.releasenotes.batch;
+
+import uk.ac.ebi.atlas.releasenotes.render.OutputFormat;
+
+import java.io.File;
+
+public record BatchJob(String user,
+                       String repo,
+                       String since,
+                       String until,
+                       String version,
+                       OutputFormat format,
+                       File file) {
+
+    public static final String DEFAULT_VERSION = "v1.0.0";
+
+    public BatchJob {
+        if (user == null || repo == null || since == null || until == null) {
+            throw new IllegalArgumentException("Batch jobs need a user, repo, since and until commit");
+        }
+        version = (version != null) ? version : DEFAULT_VERSION;
+        format = (format != null) ? format : OutputFormat.MARKDOWN;
+    }
+
+    public String name() {
+        return "%s/%s %s".formatted(user, repo, version);
+    }
+}
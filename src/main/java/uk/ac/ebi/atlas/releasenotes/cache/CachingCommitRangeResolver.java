@@ -0,0 +1,206 @@
+package uk.ac.ebi.atlas.releasenotes.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.range.CommitGraph;
+import uk.ac.ebi.atlas.releasenotes.range.CommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves commit ranges from a {@link CommitStore} first. Commits are immutable, so only the commits newer than the
+ * cached head are requested from GitHub, and the store is updated with them afterwards. Ranges are read from the
+ * cached history with a {@link CommitGraph}, so merged branches are included however their commits interleave.
+ */
+@Slf4j
+public class CachingCommitRangeResolver extends CommitRangeResolver {
+
+    private static final int MAX_CACHED_GRAPHS = 16;
+
+    private final GitHubClient gitHubClient;
+    private final CommitStore commitStore;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Map<String, CommitGraph<Commit>> graphs = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CommitGraph<Commit>> eldest) {
+            return size() > MAX_CACHED_GRAPHS;
+        }
+    };
+
+    public CachingCommitRangeResolver(GitHubClient gitHubClient, CommitStore commitStore) {
+        super(gitHubClient);
+        this.gitHubClient = gitHubClient;
+        this.commitStore = commitStore;
+    }
+
+    @Override
+    public List<Commit> resolve(String owner, String repo, String sinceCommit, String untilCommit) {
+        List<Commit> commits = resolveCached(owner, repo, sinceCommit, untilCommit);
+        log.debug("Commit cache for {}/{}: {} hits, {} misses", owner, repo, getHits(), getMisses());
+        return commits;
+    }
+
+    private List<Commit> resolveCached(String owner, String repo, String sinceCommit, String untilCommit) {
+        List<Commit> history = commitStore.load(owner, repo);
+        CommitGraph<Commit> graph = getGraph(owner, repo, history);
+        int sinceIdx = graph.indexOf(sinceCommit);
+        int untilIdx = graph.indexOf(untilCommit);
+
+        if (sinceIdx != -1 && untilIdx != -1) {
+            List<Commit> range = graph.range(sinceIdx, untilIdx);
+            if (range != null) {
+                hits.addAndGet(range.size());
+                return range;
+            }
+        }
+
+        if (sinceIdx != -1) {
+            List<Commit> range = resolveFromCachedHead(owner, repo, sinceCommit, untilCommit, history);
+            if (range != null) {
+                return range;
+            }
+        }
+
+        List<Commit> commits = super.resolve(owner, repo, sinceCommit, untilCommit);
+        misses.addAndGet(commits.size());
+        commitStore.store(owner, repo, merge(history, commits));
+        return commits;
+    }
+
+    /**
+     * Fetches the commits between the cached head and {@code untilCommit}, and reads the range from the updated
+     * history. Returns {@code null} if the cached head isn't an ancestor of {@code untilCommit}, or if the range
+     * reaches past the cached history.
+     */
+    private List<Commit> resolveFromCachedHead(String owner, String repo, String sinceCommit, String untilCommit,
+                                               List<Commit> history) {
+        List<Commit> updatedHistory = fetchNewerCommits(owner, repo, untilCommit, history);
+        if (updatedHistory == null) {
+            log.debug("Cached head of {}/{} isn't an ancestor of [{}]", owner, repo, untilCommit);
+            return null;
+        }
+        int newerCommits = updatedHistory.size() - history.size();
+
+        // The new head is untilCommit, which may be a branch name
+        CommitGraph<Commit> graph = getGraph(owner, repo, updatedHistory);
+        List<Commit> range = graph.range(graph.indexOf(sinceCommit), 0);
+        if (range != null) {
+            hits.addAndGet(Math.max(range.size() - newerCommits, 0));
+        }
+        return range;
+    }
+
+    /**
+     * Stores and returns the history with the commits between the cached head and {@code untilCommit} added, or
+     * returns {@code null} if the cached head isn't an ancestor of {@code untilCommit}.
+     */
+    private List<Commit> fetchNewerCommits(String owner, String repo, String untilCommit, List<Commit> history) {
+        List<Commit> newerCommits = resolveAfterIfAncestor(owner, repo, history.get(0).sha(), untilCommit);
+        if (newerCommits == null) {
+            return null;
+        }
+        misses.addAndGet(newerCommits.size());
+
+        List<Commit> updatedHistory = new ArrayList<>(newerCommits.size() + history.size());
+        updatedHistory.addAll(newerCommits);
+        updatedHistory.addAll(history);
+        commitStore.store(owner, repo, updatedHistory);
+        return updatedHistory;
+    }
+
+    /**
+     * Returns the graph of {@code history}, reusing the last one built for the repository while its history is
+     * unchanged. Histories only grow at the head, are cut at the tail or are replaced, so comparing their size and
+     * both ends tells them apart.
+     */
+    private CommitGraph<Commit> getGraph(String owner, String repo, List<Commit> history) {
+        String key = owner + "/" + repo;
+        synchronized (graphs) {
+            CommitGraph<Commit> graph = graphs.get(key);
+            if (graph != null && graph.size() == history.size() && (history.isEmpty()
+                    || graph.get(0).sha().equals(history.get(0).sha())
+                    && graph.get(graph.size() - 1).sha().equals(history.get(history.size() - 1).sha()))) {
+                return graph;
+            }
+        }
+
+        CommitGraph<Commit> graph = CommitGraph.of(history);
+        synchronized (graphs) {
+            graphs.put(key, graph);
+        }
+        return graph;
+    }
+
+    /**
+     * Brings the cached history of {@code owner/repo} up to {@code ref}, so later ranges ending at its current head
+     * are served from the store. An empty history is seeded with the first page of {@code ref}'s history.
+     */
+    public void refresh(String owner, String repo, String ref) {
+        List<Commit> history = commitStore.load(owner, repo);
+        if (history.isEmpty()) {
+            List<Commit> firstPage = gitHubClient.getCommitsPage(owner, repo, ref, 1);
+            misses.addAndGet(firstPage.size());
+            commitStore.store(owner, repo, firstPage);
+            return;
+        }
+
+        if (fetchNewerCommits(owner, repo, ref, history) == null) {
+            log.info("Cached history of {}/{} isn't an ancestor of [{}] any more, dropping it", owner, repo, ref);
+            commitStore.store(owner, repo, gitHubClient.getCommitsPage(owner, repo, ref, 1));
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static List<Commit> merge(List<Commit> history, List<Commit> range) {
+        if (history.isEmpty()) {
+            return range;
+        }
+
+        List<Commit> merged = new ArrayList<>(history.size() + range.size());
+        int cachedHeadIdx = indexOf(range, history.get(0).sha());
+        int rangeHeadIdx = indexOf(history, range.get(0).sha());
+        if (cachedHeadIdx != -1) {
+            merged.addAll(range.subList(0, cachedHeadIdx));
+            merged.addAll(history);
+            // The range may start before the cached history does
+            Set<String> cachedShas = new HashSet<>();
+            history.forEach(commit -> cachedShas.add(commit.sha()));
+            for (Commit commit : range.subList(cachedHeadIdx + 1, range.size())) {
+                if (!cachedShas.contains(commit.sha())) {
+                    merged.add(commit);
+                }
+            }
+        } else if (rangeHeadIdx != -1) {
+            merged.addAll(history.subList(0, rangeHeadIdx));
+            merged.addAll(range);
+        } else {
+            log.debug("Cached history doesn't overlap the requested range, replacing it");
+            merged.addAll(range);
+        }
+        return merged;
+    }
+
+    private static int indexOf(List<Commit> commits, String shaPrefix) {
+        for (int i = 0; i < commits.size(); i++) {
+            if (commits.get(i).sha().startsWith(shaPrefix)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
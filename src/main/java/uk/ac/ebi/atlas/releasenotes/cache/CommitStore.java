@@ -0,0 +1,14 @@
+package uk.ac.ebi.atlas.releasenotes.cache;
+
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.util.List;
+
+/**
+ * Keeps the known history of a repository as a list of commits, newest first.
+ */
+public interface CommitStore {
+    List<Commit> load(String owner, String repo);
+
+    void store(String owner, String repo, List<Commit> history);
+}
@@ -0,0 +1,165 @@
+package uk.ac.ebi.atlas.releasenotes.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Stores each repository's history in a compact binary file under {@code <cacheDir>/<owner>/<repo>.commits}.
+ * SHAs are written as raw bytes and strings as length-prefixed UTF-8. Files of an older format are ignored, and
+ * replaced on the next store.
+ */
+@Slf4j
+public class DiskCommitStore implements CommitStore {
+
+    private static final int MAGIC = 0x524E4343;
+    private static final int FORMAT_VERSION = 2;
+    private static final int NULL_LENGTH = -1;
+    private static final long NULL_DATE = Long.MIN_VALUE;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path cacheDir;
+
+    public DiskCommitStore(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    @Override
+    public List<Commit> load(String owner, String repo) {
+        Path file = getCacheFile(owner, repo);
+        if (!Files.isRegularFile(file)) {
+            return new ArrayList<>();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.warn("Ignoring commit cache with unknown format: {}", file);
+                return new ArrayList<>();
+            }
+            int size = in.readInt();
+            List<Commit> history = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                history.add(readCommit(in));
+            }
+            return history;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable commit cache {}: {}", file, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    @Override
+    public void store(String owner, String repo, List<Commit> history) {
+        Path file = getCacheFile(owner, repo);
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = Files.createTempFile(file.getParent(), repo, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(history.size());
+                for (Commit commit : history) {
+                    writeCommit(out, commit);
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing commit cache " + file, e);
+        }
+    }
+
+    private Path getCacheFile(String owner, String repo) {
+        return cacheDir.resolve(owner).resolve(repo + ".commits");
+    }
+
+    private static void writeCommit(DataOutputStream out, Commit commit) throws IOException {
+        writeBytes(out, HEX.parseHex(commit.sha()));
+        writeString(out, commit.htmlUrl());
+        writeString(out, commit.commit().message());
+        Author author = commit.commit().author();
+        writeString(out, author != null ? author.email() : null);
+        out.writeLong(author != null && author.date() != null ? author.date().toEpochMilli() : NULL_DATE);
+        writeParents(out, commit.parents());
+    }
+
+    private static Commit readCommit(DataInputStream in) throws IOException {
+        String sha = HEX.formatHex(readBytes(in));
+        String htmlUrl = readString(in);
+        String message = readString(in);
+        String email = readString(in);
+        long date = in.readLong();
+        Author author = new Author(email, date == NULL_DATE ? null : Instant.ofEpochMilli(date));
+        return new Commit(sha, new CommitDetails(message, author), htmlUrl, null, readParents(in));
+    }
+
+    private static void writeParents(DataOutputStream out, List<CommitParent> parents) throws IOException {
+        if (parents == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(parents.size());
+        for (CommitParent parent : parents) {
+            writeBytes(out, HEX.parseHex(parent.sha()));
+        }
+    }
+
+    private static List<CommitParent> readParents(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count == NULL_LENGTH) {
+            return null;
+        }
+        List<CommitParent> parents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            parents.add(new CommitParent(HEX.formatHex(readBytes(in))));
+        }
+        return parents;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        if (bytes == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("Truncated commit cache entry");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,62 @@
+package uk.ac.ebi.atlas.releasenotes.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps histories in memory, bounded by the total number of commits across all repositories. When the bound is
+ * exceeded, the least recently used repositories are evicted first; a single history longer than the bound keeps only
+ * its newest commits.
+ */
+@Slf4j
+public class InMemoryCommitStore implements CommitStore {
+
+    private final int maxCommits;
+    private final Map<String, List<Commit>> histories = new LinkedHashMap<>(16, 0.75f, true);
+    private int size;
+
+    public InMemoryCommitStore(int maxCommits) {
+        if (maxCommits < 1) {
+            throw new IllegalArgumentException("maxCommits must be positive, was " + maxCommits);
+        }
+        this.maxCommits = maxCommits;
+    }
+
+    @Override
+    public synchronized List<Commit> load(String owner, String repo) {
+        List<Commit> history = histories.get(key(owner, repo));
+        return history == null ? new ArrayList<>() : new ArrayList<>(history);
+    }
+
+    @Override
+    public synchronized void store(String owner, String repo, List<Commit> history) {
+        List<Commit> storedHistory = List.copyOf(history.subList(0, Math.min(history.size(), maxCommits)));
+        List<Commit> previous = histories.put(key(owner, repo), storedHistory);
+        size += storedHistory.size() - (previous == null ? 0 : previous.size());
+
+        Iterator<Map.Entry<String, List<Commit>>> leastRecentlyUsed = histories.entrySet().iterator();
+        while (size > maxCommits) {
+            Map.Entry<String, List<Commit>> eldest = leastRecentlyUsed.next();
+            if (eldest.getValue() == storedHistory) {
+                continue;
+            }
+            log.debug("Evicting the cached history of {} ({} commits)", eldest.getKey(), eldest.getValue().size());
+            size -= eldest.getValue().size();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private static String key(String owner, String repo) {
+        return owner + "/" + repo;
+    }
+}
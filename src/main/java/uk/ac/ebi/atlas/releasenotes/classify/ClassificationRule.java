@@ -0,0 +1,10 @@
+package uk.ac.ebi.atlas.releasenotes.classify;
+
+public record ClassificationRule(String section, RuleType type, String pattern) {
+
+    public ClassificationRule {
+        if (section == null || type == null || pattern == null) {
+            throw new IllegalArgumentException("Classification rules need a section, type and pattern");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package uk.ac.ebi.atlas.releasenotes.classify;
+
+import java.util.List;
+
+public record ClassificationRules(List<ClassificationRule> rules, String defaultSection) {
+
+    public static final String NEW_FEATURES = "⭐ New Features";
+    public static final String BUG_FIXES = "\uD83D\uDC1E Bug Fixes";
+    public static final String OTHER_CHANGES = "\uD83D\uDCA1 Other Changes";
+
+    public static final ClassificationRules DEFAULT = new ClassificationRules(
+            List.of(
+                    new ClassificationRule(NEW_FEATURES, RuleType.PREFIX, "Merge"),
+                    new ClassificationRule(BUG_FIXES, RuleType.PREFIX, "Fix")),
+            OTHER_CHANGES);
+
+    public ClassificationRules {
+        rules = (rules != null) ? List.copyOf(rules) : List.of();
+        defaultSection = (defaultSection != null) ? defaultSection : OTHER_CHANGES;
+    }
+}
@@ -0,0 +1,155 @@
+package uk.ac.ebi.atlas.releasenotes.classify;
+
+import uk.ac.ebi.atlas.releasenotes.metrics.ReleaseNotesMetrics;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.PullRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Assigns every commit to exactly one section. The prefix and conventional commit rules are compiled once into a
+ * single anchored alternation, so one match per commit finds the first matching one; regex rules are compiled on their
+ * own, so their groups and backreferences work as written, and only those listed before that match are searched.
+ * Label rules are looked up in a map. When several rules match, the one listed first wins.
+ */
+public class CommitClassifier {
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<ClassificationRule> rules;
+    private final String defaultSection;
+    private final Pattern subjectPattern;
+    private final int[] subjectRuleIndices;
+    private final Pattern[] regexPatterns;
+    private final int[] regexRuleIndices;
+    private final Map<String, Integer> labelRuleIndices;
+
+    private CommitClassifier(List<ClassificationRule> rules, String defaultSection) {
+        this.rules = rules;
+        this.defaultSection = defaultSection;
+
+        StringBuilder alternation = new StringBuilder();
+        List<Integer> subjectRules = new ArrayList<>();
+        List<Pattern> regexes = new ArrayList<>();
+        List<Integer> regexRules = new ArrayList<>();
+        Map<String, Integer> labelRules = new HashMap<>();
+        for (int i = 0; i < rules.size(); i++) {
+            ClassificationRule rule = rules.get(i);
+            if (rule.type() == RuleType.LABEL) {
+                labelRules.putIfAbsent(rule.pattern(), i);
+                continue;
+            }
+            if (rule.type() == RuleType.REGEX) {
+                regexes.add(compile(rule.pattern()));
+                regexRules.add(i);
+                continue;
+            }
+            alternation.append(alternation.isEmpty() ? "" : "|")
+                    .append("(?<").append(groupName(i)).append('>')
+                    .append(toRegex(rule))
+                    .append(')');
+            subjectRules.add(i);
+        }
+
+        this.subjectPattern = subjectRules.isEmpty() ? null : compile(alternation.toString());
+        this.subjectRuleIndices = subjectRules.stream().mapToInt(Integer::intValue).toArray();
+        this.regexPatterns = regexes.toArray(new Pattern[0]);
+        this.regexRuleIndices = regexRules.stream().mapToInt(Integer::intValue).toArray();
+        this.labelRuleIndices = labelRules;
+    }
+
+    public static CommitClassifier compile(ClassificationRules classificationRules) {
+        return new CommitClassifier(classificationRules.rules(), classificationRules.defaultSection());
+    }
+
+    public String classify(CommitView commit) {
+        int ruleIndex = Math.min(matchSubject(commit.subject()), matchLabels(commit.pullRequests()));
+        return ruleIndex == NO_MATCH ? defaultSection : rules.get(ruleIndex).section();
+    }
+
+    /**
+     * Groups the commits into sections in a single pass. Sections are ordered as they first appear in the rules,
+     * followed by the default section, and are kept even when empty.
+     */
+    public List<ReleaseSection> classify(List<? extends CommitView> commits) {
+        long startNanos = System.nanoTime();
+        Map<String, List<CommitView>> sections = new LinkedHashMap<>();
+        rules.forEach(rule -> sections.putIfAbsent(rule.section(), new ArrayList<>()));
+        sections.putIfAbsent(defaultSection, new ArrayList<>());
+
+        for (CommitView commit : commits) {
+            sections.get(classify(commit)).add(commit);
+        }
+
+        List<ReleaseSection> releaseSections = new ArrayList<>(sections.size());
+        sections.forEach((title, sectionCommits) -> releaseSections.add(new ReleaseSection(title, sectionCommits)));
+        ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.CLASSIFICATION);
+        return releaseSections;
+    }
+
+    private int matchSubject(String subject) {
+        int ruleIndex = matchPrefixes(subject);
+        for (int i = 0; i < regexRuleIndices.length && regexRuleIndices[i] < ruleIndex; i++) {
+            if (regexPatterns[i].matcher(subject).find()) {
+                return regexRuleIndices[i];
+            }
+        }
+        return ruleIndex;
+    }
+
+    private int matchPrefixes(String subject) {
+        if (subjectPattern == null) {
+            return NO_MATCH;
+        }
+        Matcher matcher = subjectPattern.matcher(subject);
+        if (!matcher.lookingAt()) {
+            return NO_MATCH;
+        }
+        for (int ruleIndex : subjectRuleIndices) {
+            if (matcher.start(groupName(ruleIndex)) != -1) {
+                return ruleIndex;
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private int matchLabels(List<PullRequest> pullRequests) {
+        if (pullRequests == null || labelRuleIndices.isEmpty()) {
+            return NO_MATCH;
+        }
+        int ruleIndex = NO_MATCH;
+        for (PullRequest pullRequest : pullRequests) {
+            for (String label : pullRequest.labels()) {
+                ruleIndex = Math.min(ruleIndex, labelRuleIndices.getOrDefault(label, NO_MATCH));
+            }
+        }
+        return ruleIndex;
+    }
+
+    private static String toRegex(ClassificationRule rule) {
+        return switch (rule.type()) {
+            case PREFIX -> Pattern.quote(rule.pattern());
+            case CONVENTIONAL_COMMIT -> Pattern.quote(rule.pattern()) + "(?:\\([^)]*\\))?!?:";
+            case REGEX, LABEL -> throw new IllegalArgumentException(rule.type() + " rules aren't part of the alternation");
+        };
+    }
+
+    private static Pattern compile(String regex) {
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid classification rule: " + e.getMessage(), e);
+        }
+    }
+
+    private static String groupName(int ruleIndex) {
+        return "rule" + ruleIndex;
+    }
+}
@@ -0,0 +1,12 @@
+package uk.ac.ebi.atlas.releasenotes.classify;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+
+import java.util.List;
+
+/**
+ * @param commits the commits of the section, read back as {@link Commit}s when deserialized
+ */
+public record ReleaseSection(String title, @JsonDeserialize(contentAs = Commit.class) List<? extends CommitView> commits) {}
@@ -0,0 +1,12 @@
+package uk.ac.ebi.atlas.releasenotes.classify;
+
+public enum RuleType {
+    /** The subject starts with the pattern, e.g. {@code Merge} */
+    PREFIX,
+    /** The subject is a Conventional Commit of the pattern's type, e.g. {@code feat} matches {@code feat(ui)!: ...} */
+    CONVENTIONAL_COMMIT,
+    /** The pattern is a regular expression found in the subject */
+    REGEX,
+    /** One of the commit's pull requests has the pattern as a label */
+    LABEL
+}
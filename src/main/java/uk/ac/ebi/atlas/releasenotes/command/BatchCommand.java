@@ -0,0 +1,163 @@
+package uk.ac.ebi.atlas.releasenotes.command;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.extern.slf4j.Slf4j;
+import picocli.CommandLine;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.batch.BatchJob;
+import uk.ac.ebi.atlas.releasenotes.cache.CachingCommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.cache.DiskCommitStore;
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules;
+import uk.ac.ebi.atlas.releasenotes.classify.CommitClassifier;
+import uk.ac.ebi.atlas.releasenotes.http.GitHubRateLimiter;
+import uk.ac.ebi.atlas.releasenotes.range.CommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesGenerator;
+import uk.ac.ebi.atlas.releasenotes.source.CommitSource;
+import uk.ac.ebi.atlas.releasenotes.source.GitHubCommitSource;
+import uk.ac.ebi.atlas.releasenotes.source.InstrumentedCommitSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Generates release notes for every job of a JSON manifest in one JVM. The jobs run concurrently on a bounded pool
+ * and share the GitHub client, its API token and the commit cache.
+ */
+@Slf4j
+@CommandLine.Command(name = "batch", mixinStandardHelpOptions = true, exitCodeOnInvalidInput = 1)
+public class BatchCommand implements Callable<Integer> {
+
+    @CommandLine.Spec
+    private CommandLine.Model.CommandSpec spec;
+
+    @CommandLine.Option(names = {"-m", "--manifest"}, required = true,
+            description = "JSON list of jobs with user, repo, since, until, version, format and file fields")
+    private File manifest;
+
+    @CommandLine.Option(names = {"-p", "--parallelism"}, description = "Number of jobs to run at once (default: 4)", defaultValue = "4")
+    private int parallelism;
+
+    @CommandLine.Option(names = {"-c", "--cache-dir"}, description = "Directory for the persistent commit cache (optional)")
+    private File cacheDir;
+
+    @CommandLine.Option(names = {"--classification-rules"}, description = "JSON file with the rules that sort commits into sections (optional)")
+    private File classificationRules;
+
+    @CommandLine.Mixin
+    private MetricsOptions metricsOptions = new MetricsOptions();
+
+    private final Supplier<GitHubClient> gitHubClientSupplier;
+    private final GitHubRateLimiter rateLimiter;
+
+    public BatchCommand() {
+        this(() -> {
+            // Look the token up once, before the workers need it
+            ReleaseNotesApplication.getApiToken();
+            return ReleaseNotesApplication.getGitHubClient();
+        }, ReleaseNotesApplication.rateLimiter);
+    }
+
+    // The rate limiter is the one the clients of the supplier count their requests with
+    BatchCommand(Supplier<GitHubClient> gitHubClientSupplier, GitHubRateLimiter rateLimiter) {
+        this.gitHubClientSupplier = gitHubClientSupplier;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        if (parallelism <= 0) {
+            throw new CommandLine.ParameterException(spec.commandLine(),
+                    "--parallelism must be at least 1, but was " + parallelism);
+        }
+        return metricsOptions.measure("batch", this::runJobs);
+    }
+
+    private Integer runJobs() {
+        List<BatchJob> jobs;
+        ReleaseNotesGenerator releaseNotesGenerator;
+        try {
+            jobs = ReleaseNotesApplication.objectMapper.readValue(manifest, new TypeReference<>() {});
+            releaseNotesGenerator = createReleaseNotesGenerator();
+        } catch (IOException e) {
+            log.error("Error reading batch configuration: {}", e.getMessage(), e);
+            return 1;
+        }
+        if (jobs.isEmpty()) {
+            log.warn("Batch manifest {} has no jobs", manifest);
+            return 0;
+        }
+
+        CommitSource commitSource = createCommitSource();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, jobs.size()));
+        try {
+            List<Future<?>> results = new ArrayList<>(jobs.size());
+            for (BatchJob job : jobs) {
+                results.add(executor.submit(() -> runJob(job, commitSource, releaseNotesGenerator)));
+            }
+
+            int failedJobs = 0;
+            for (int i = 0; i < jobs.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (ExecutionException e) {
+                    failedJobs++;
+                    log.error("Error generating release notes for {}: {}", jobs.get(i).name(), e.getCause().getMessage(), e.getCause());
+                }
+            }
+
+            log.info("Generated release notes for {} of {} jobs", jobs.size() - failedJobs, jobs.size());
+            log.info("GitHub API: {} requests, {} retries, {} ms waiting for the rate limit, {} of {} requests remaining",
+                    rateLimiter.getRequests(), rateLimiter.getRetries(), rateLimiter.getWaitedMillis(),
+                    rateLimiter.getRemaining(), rateLimiter.getLimit());
+            return failedJobs == 0 ? 0 : 1;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while generating release notes");
+            return 1;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Void runJob(BatchJob job, CommitSource commitSource, ReleaseNotesGenerator releaseNotesGenerator) throws IOException {
+        GitHubProject project = commitSource.getProject(job.user(), job.repo());
+        List<Commit> commits = commitSource.getCommitsInRange(job.user(), job.repo(), job.since(), job.until());
+
+        if (job.file() != null) {
+            File outputFile = releaseNotesGenerator.writeReleaseNotes(commits, project, job.version(), job.format(), job.file());
+            log.info("Release notes for {} saved to: {}", job.name(), outputFile.getAbsolutePath());
+        } else {
+            log.info(releaseNotesGenerator.generateReleaseNotes(commits, project, job.version(), job.format()));
+        }
+        return null;
+    }
+
+    private ReleaseNotesGenerator createReleaseNotesGenerator() throws IOException {
+        if (classificationRules == null) {
+            return new ReleaseNotesGenerator();
+        }
+        return new ReleaseNotesGenerator(CommitClassifier.compile(
+                ReleaseNotesApplication.objectMapper.readValue(classificationRules, ClassificationRules.class)));
+    }
+
+    private CommitSource createCommitSource() {
+        GitHubClient gitHubClient = gitHubClientSupplier.get();
+        CommitRangeResolver commitRangeResolver = (cacheDir == null)
+                ? new CommitRangeResolver(gitHubClient)
+                : new CachingCommitRangeResolver(gitHubClient, new DiskCommitStore(cacheDir.toPath()));
+        return new InstrumentedCommitSource(new GitHubCommitSource(gitHubClient, commitRangeResolver));
+    }
+}
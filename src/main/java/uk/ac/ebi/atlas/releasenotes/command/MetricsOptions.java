@@ -0,0 +1,81 @@
+package uk.ac.ebi.atlas.releasenotes.command;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import picocli.CommandLine;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.metrics.MetricsFormat;
+import uk.ac.ebi.atlas.releasenotes.metrics.MetricsReport;
+import uk.ac.ebi.atlas.releasenotes.metrics.ReleaseNotesMetrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.Callable;
+
+/**
+ * Options to report where the time of a run went. Meters are only recorded while one of them is set.
+ */
+@Slf4j
+public class MetricsOptions {
+
+    @CommandLine.Option(names = {"--profile"}, description = "Print the time spent in each stage at the end of the run (optional)")
+    private boolean profile;
+
+    @CommandLine.Option(names = {"--metrics-file"}, description = "File to export the metrics of the run to (optional)")
+    private File metricsFile;
+
+    @CommandLine.Option(names = {"--metrics-format"}, description = "Format of the metrics file, JSON or PROMETHEUS (default: JSON)", defaultValue = "JSON")
+    private MetricsFormat metricsFormat;
+
+    /**
+     * Runs {@code command} with a registry collecting the meters of the run, and reports them once it's done.
+     */
+    public Integer measure(String commandName, Callable<Integer> command) throws Exception {
+        if (!profile && metricsFile == null) {
+            return command.call();
+        }
+
+        MeterRegistry registry = metricsFile != null && metricsFormat == MetricsFormat.PROMETHEUS
+                ? new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)
+                : new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        ReleaseNotesMetrics.enable();
+        ReleaseNotesMetrics.bindRateLimiter(ReleaseNotesApplication.rateLimiter);
+        long startNanos = System.nanoTime();
+        try {
+            return command.call();
+        } finally {
+            ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.RUN, "command", commandName);
+            ReleaseNotesMetrics.disable();
+            report(registry);
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    private void report(MeterRegistry registry) {
+        MetricsReport report = MetricsReport.of(registry);
+        if (profile) {
+            log.info("Profile of the run:\n{}", report.toTable());
+        }
+        if (metricsFile == null) {
+            return;
+        }
+
+        try {
+            if (registry instanceof PrometheusMeterRegistry prometheusRegistry) {
+                Files.writeString(metricsFile.toPath(), prometheusRegistry.scrape(), StandardCharsets.UTF_8);
+            } else {
+                report.writeJson(ReleaseNotesApplication.objectMapper, metricsFile);
+            }
+            log.info("Metrics saved to: {}", metricsFile.getAbsolutePath());
+        } catch (IOException e) {
+            log.error("Error writing metrics to file: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,32 +1,44 @@
 package uk.ac.ebi.atlas.releasenotes.command;
 
-import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import picocli.CommandLine;
 import uk.ac.ebi.atlas.releasenotes.GitHubClient;
 import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.cache.CachingCommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.cache.DiskCommitStore;
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules;
+import uk.ac.ebi.atlas.releasenotes.classify.CommitClassifier;
+import uk.ac.ebi.atlas.releasenotes.incremental.IncrementalReleaseNotes;
+import uk.ac.ebi.atlas.releasenotes.incremental.ReleaseNotesState;
+import uk.ac.ebi.atlas.releasenotes.range.CommitFilter;
+import uk.ac.ebi.atlas.releasenotes.range.CommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.range.FilteredCommitRangeResolver;
 import uk.ac.ebi.atlas.releasenotes.records.Commit;
 import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.render.OutputFormat;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesFormat;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesGenerator;
+import uk.ac.ebi.atlas.releasenotes.render.template.TemplateFormat;
+import uk.ac.ebi.atlas.releasenotes.source.AsyncGitHubCommitSource;
+import uk.ac.ebi.atlas.releasenotes.source.CommitSource;
+import uk.ac.ebi.atlas.releasenotes.source.GitHubCommitSource;
+import uk.ac.ebi.atlas.releasenotes.source.GraphQLCommitSource;
+import uk.ac.ebi.atlas.releasenotes.source.InstrumentedCommitSource;
+import uk.ac.ebi.atlas.releasenotes.source.LocalGitCommitSource;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @CommandLine.Command(name = "release_notes", mixinStandardHelpOptions = true)
 public class ReleaseNoteCommand implements Callable<Integer> {
 
-    private static final String MD_SECTION_BREAK = "\n\n";
-
-    private enum OutputFormat {
-        MARKDOWN, HTML
-    }
-
     @CommandLine.Option(names = {"-u", "--user"}, description = "GitHub user", required = true)
     private String user;
 
@@ -48,29 +60,93 @@ public class ReleaseNoteCommand implements Callable<Integer> {
     @CommandLine.Option(names = {"-o", "--output-format"}, description = "Output format (default: MARKDOWN)", defaultValue = "MARKDOWN")
     private OutputFormat outputFormat;
 
+    @CommandLine.Option(names = {"-t", "--template"}, description = "JSON file with the templates of a custom output format, used instead of --output-format (optional)")
+    private File template;
+
+    @CommandLine.Option(names = {"-c", "--cache-dir"}, description = "Directory for the persistent commit cache (optional)")
+    private File cacheDir;
+
+    @CommandLine.Option(names = {"-l", "--local-repo"}, description = "Local clone to read commits from instead of the GitHub API (optional)")
+    private File localRepo;
+
+    @CommandLine.Option(names = {"-g", "--graphql"}, description = "Fetch commits and their pull requests through the GitHub GraphQL API (optional)")
+    private boolean graphQL;
+
+    @CommandLine.Option(names = {"--async"}, description = "Fetch the project and all pages of the range concurrently over HTTP/2 (optional)")
+    private boolean async;
+
+    @CommandLine.Option(names = {"-i", "--incremental"}, description = "Keep the classified commits next to the output file and only fetch the new ones on later runs (optional)")
+    private boolean incremental;
+
+    @CommandLine.Option(names = {"--path"}, description = "Only list commits touching this file or directory; repeat for several (optional)")
+    private List<String> paths = new ArrayList<>();
+
+    @CommandLine.Option(names = {"--author"}, description = "Only list commits by this GitHub login or email address (optional)")
+    private String author;
+
+    @CommandLine.Option(names = {"--since-date"}, description = "Only list commits from this ISO-8601 instant on, e.g. 2024-01-31T00:00:00Z (optional)")
+    private Instant sinceDate;
+
+    @CommandLine.Option(names = {"--until-date"}, description = "Only list commits up to this ISO-8601 instant (optional)")
+    private Instant untilDate;
+
+    @CommandLine.Option(names = {"--classification-rules"}, description = "JSON file with the rules that sort commits into sections (optional)")
+    private File classificationRules;
+
+    @CommandLine.Mixin
+    private MetricsOptions metricsOptions = new MetricsOptions();
+
     @Override
-    public Integer call() {
+    public Integer call() throws Exception {
+        return metricsOptions.measure("release_notes", this::generateReleaseNotes);
+    }
+
+    private Integer generateReleaseNotes() {
+        if (incremental && outputFile == null) {
+            log.error("Incremental release notes need an output file to keep their state next to");
+            return 1;
+        }
+        CommitFilter commitFilter = new CommitFilter(paths, author, sinceDate, untilDate);
+        if (!commitFilter.isEmpty() && (localRepo != null || graphQL || async)) {
+            log.error("Commits can only be filtered by path, author or date when fetched through the GitHub REST API");
+            return 1;
+        }
+        if (!commitFilter.isEmpty() && incremental) {
+            // A filtered listing can't tell a rewritten history from commits the filter leaves out
+            log.error("Incremental release notes can't be filtered by path, author or date");
+            return 1;
+        }
+
         try {
-            GitHubProject project = ReleaseNotesApplication.gitHubClient.getProject(user, repo);
+            ReleaseNotesFormat format = loadFormat();
+            CommitSource commitSource = new InstrumentedCommitSource(createCommitSource(commitFilter));
+            CompletableFuture<GitHubProject> projectFuture = commitSource.getProjectAsync(user, repo);
+            ClassificationRules rules = loadClassificationRules();
+            ReleaseNotesGenerator releaseNotesGenerator = new ReleaseNotesGenerator(CommitClassifier.compile(rules));
+
+            if (incremental) {
+                return writeIncrementalReleaseNotes(commitSource, projectFuture, rules, releaseNotesGenerator, format);
+            }
 
-            List<Commit> commits = getCommitsInRange(ReleaseNotesApplication.gitHubClient, sinceCommit, untilCommit, user, repo);
-            String releaseNotes = generateReleaseNotes(commits, project, version, outputFormat);
+            List<Commit> commits = commitSource.getCommitsInRange(user, repo, sinceCommit, untilCommit);
+            GitHubProject project = projectFuture.join();
 
-            File outputFileWithExtension;
             if (outputFile != null) {
-                String extension = (outputFormat == OutputFormat.HTML) ? ".html" : ".md";
-                outputFileWithExtension = new File(outputFile.getAbsolutePath() + extension);
-                try (PrintWriter writer = new PrintWriter(outputFileWithExtension, StandardCharsets.UTF_8)) {
-                    writer.print(releaseNotes);
+                try {
+                    File outputFileWithExtension =
+                            releaseNotesGenerator.writeReleaseNotes(commits, project, version, format, outputFile);
                     log.info("Release notes saved to: {}", outputFileWithExtension.getAbsolutePath());
                 } catch (IOException e) {
                     log.error("Error writing release notes to file: {}", e.getMessage(), e);
                     return 1;
                 }
             } else {
-                log.info(releaseNotes);
+                log.info(releaseNotesGenerator.generateReleaseNotes(commits, project, version, format));
             }
 
+        } catch (CompletionException e) {
+            log.error("Error fetching commits: {}", e.getCause().getMessage(), e.getCause());
+            return 1;
         } catch (Exception e) {
             log.error("Error fetching commits: {}", e.getMessage(), e);
             return 1;
@@ -78,142 +154,62 @@ public class ReleaseNoteCommand implements Callable<Integer> {
         return 0;
     }
 
-    private String generateReleaseNotes(List<Commit> commits, GitHubProject project, String releaseVersion, OutputFormat format) {
-        return switch (format) {
-            case MARKDOWN -> generateReleaseNotesMarkdown(commits, project, releaseVersion);
-            case HTML -> generateReleaseNotesHTML(commits, project, releaseVersion);
-        };
-    }
+    private int writeIncrementalReleaseNotes(CommitSource commitSource, CompletableFuture<GitHubProject> projectFuture,
+                                             ClassificationRules rules, ReleaseNotesGenerator releaseNotesGenerator,
+                                             ReleaseNotesFormat format) {
+        IncrementalReleaseNotes incrementalReleaseNotes = new IncrementalReleaseNotes(
+                IncrementalReleaseNotes.getStateFile(outputFile), rules, ReleaseNotesApplication.objectMapper);
+        ReleaseNotesState state = incrementalReleaseNotes.update(commitSource, user, repo, sinceCommit, untilCommit);
+        GitHubProject project = projectFuture.join();
 
-    private String generateReleaseNotesHTML(List<Commit> commits, GitHubProject project, String releaseVersion) {
-        StringBuilder html = new StringBuilder();
-
-        html.append("<!DOCTYPE html><html><head><title>Release Notes for ")
-                .append(project.name())
-                .append(releaseVersion != null ? " - " + releaseVersion : "")
-                .append("</title><style>")
-                .append("body { font-family: sans-serif; }")
-                .append("h1, h2 { color: #333; }")
-                .append("ul { list-style: disc; padding-left: 2em; }")
-                .append("li { margin-bottom: 0.5em; }")
-                .append("</style></head><body>");
-
-        html.append("<h1>Release Notes for ").append(project.name())
-                .append(releaseVersion != null ? " - " + releaseVersion : "")
-                .append("</h1>");
-
-        if (project.description() != null && !project.description().isBlank()) {
-            html.append("<p><strong>").append(project.description()).append("</strong></p>");
+        try {
+            File outputFileWithExtension =
+                    releaseNotesGenerator.writeSections(state.sections(), project, version, format, outputFile);
+            incrementalReleaseNotes.save(state);
+            log.info("Release notes saved to: {}", outputFileWithExtension.getAbsolutePath());
+        } catch (IOException e) {
+            log.error("Error writing release notes to file: {}", e.getMessage(), e);
+            return 1;
         }
-
-        html.append("<h2>⭐ New Features</h2>");
-        html.append("<ul>").append(filterAndFormatCommitsHTML(commits, "Merge")).append("</ul>");
-
-        html.append("<h2>\uD83D\uDC1E Bug Fixes</h2>");
-        html.append("<ul>").append(filterAndFormatCommitsHTML(commits, "Fix")).append("</ul>");
-
-        html.append("<h2>\uD83D\uDCA1 Other Changes</h2>");
-        html.append("<ul>").append(filterAndFormatCommitsHTML(commits, null)).append("</ul>");
-
-        html.append("</body></html>");
-        return html.toString();
-    }
-
-    private String filterAndFormatCommitsHTML(List<Commit> commits, String prefix) {
-        return commits.stream()
-                .filter(commit -> prefix == null || commit.commit().message().startsWith(prefix))
-                .map(this::formatCommitHTML)
-                .collect(Collectors.joining());
-    }
-
-    private String formatCommitHTML(Commit commit) {
-        String shortSha = commit.sha().substring(0, 8);
-        String commitMessage = commit.commit().message().split("\n")[0];
-        String authorEmail = commit.commit().author().email();
-        String commitUrl = commit.htmlUrl();
-
-        return String.format("<li><a href='%s'>%s</a> %s (by %s)</li>",
-                commitUrl, shortSha, commitMessage, authorEmail);
+        return 0;
     }
 
-
-    private String generateReleaseNotesMarkdown(List<Commit> commits, GitHubProject project, String releaseVersion) {
-        StringBuilder markdown = new StringBuilder();
-
-        markdown.append("\n# Release Notes for ").append(project.name())
-                .append(releaseVersion != null ? " - " + releaseVersion : "");
-
-        if (project.description() != null && !project.description().isBlank()) {
-            markdown.append("\n**").append(project.description()).append("**");
+    private ReleaseNotesFormat loadFormat() throws IOException {
+        if (template == null) {
+            return outputFormat;
         }
-
-        markdown.append(MD_SECTION_BREAK + "##⭐ New Features\n");
-        markdown.append(filterAndFormatCommits(commits, "Merge"));
-
-        markdown.append(MD_SECTION_BREAK + "##\uD83D\uDC1E Bug Fixes\n");
-        markdown.append(filterAndFormatCommits(commits, "Fix"));
-
-        markdown.append(MD_SECTION_BREAK + "##\uD83D\uDCA1 Other Changes\n");
-        markdown.append(filterAndFormatCommits(commits, null));
-
-        return markdown.toString();
-    }
-
-    private String filterAndFormatCommits(List<Commit> commits, String prefix) {
-        return commits.stream()
-                .filter(commit -> prefix == null || commit.commit().message().startsWith(prefix))
-                .map(this::formatCommitMarkdown)
-                .collect(Collectors.joining("\n"));
+        TemplateFormat templateFormat = ReleaseNotesApplication.objectMapper.readValue(template, TemplateFormat.class);
+        // Compiled here so that a broken template fails before anything is fetched
+        templateFormat.getRenderer();
+        return templateFormat;
     }
 
-    private String formatCommitMarkdown(Commit commit) {
-        String shortSha = commit.sha().substring(0, 8);
-        String commitMessage = commit.commit().message().split("\n")[0];  // First line only
-        String authorEmail = commit.commit().author().email();
-        String commitUrl = commit.htmlUrl();
-
-        authorEmail = (authorEmail != null) ? authorEmail : "unknown";
-        commitUrl = (commitUrl != null) ? commitUrl : "#";
-
-        return String.format("* **[%s](%s)** %s (by %s)", shortSha, commitUrl, commitMessage, authorEmail);
+    private ClassificationRules loadClassificationRules() throws IOException {
+        if (classificationRules == null) {
+            return ClassificationRules.DEFAULT;
+        }
+        return ReleaseNotesApplication.objectMapper.readValue(classificationRules, ClassificationRules.class);
     }
 
-
-    private List<Commit> getCommitsInRange(@NonNull GitHubClient gitHubClient,
-                                           String startCommit,
-                                           String endCommit,
-                                           String ownerName,
-                                           String repoName
-    ) {
-        List<Commit> commits = gitHubClient.getCommits(ownerName, repoName, endCommit);
-
-        int earliestCommitIdx = findLastIndex(commits, commit -> commit.sha().startsWith(startCommit));
-        int latestCommitIdx = findFirstIndex(commits, commit -> commit.sha().startsWith(endCommit));
-        if (earliestCommitIdx == -1) {
-            throw new IllegalStateException("Couldn't find start commit [%s] in list".formatted(startCommit));
+    private CommitSource createCommitSource(CommitFilter commitFilter) {
+        if (localRepo != null) {
+            return new LocalGitCommitSource(localRepo.toPath());
         }
-
-        if (latestCommitIdx > earliestCommitIdx) {
-            return List.of();
+        if (graphQL) {
+            return new GraphQLCommitSource(ReleaseNotesApplication.getGitHubGraphQLClient());
         }
-        return commits.subList(latestCommitIdx, earliestCommitIdx + 1);
-    }
-
-    private static <T> int findFirstIndex(List<? extends T> commits, Predicate<? super T> pastStart) {
-        for (int i = 0; i < commits.size(); i++) {
-            if (pastStart.test(commits.get(i))) {
-                return i;
-            }
+        if (async) {
+            return new AsyncGitHubCommitSource(ReleaseNotesApplication.getAsyncGitHubClient());
         }
-        return -1;
-    }
 
-    private static <T> int findLastIndex(List<? extends T> commits, Predicate<? super T> pastEnd) {
-        for (int i = commits.size() - 1; i > -1; i--) {
-            if (pastEnd.test(commits.get(i))) {
-                return i;
-            }
+        GitHubClient gitHubClient = ReleaseNotesApplication.getGitHubClient();
+        if (!commitFilter.isEmpty()) {
+            // The commit cache holds whole histories, which a filtered listing doesn't give
+            return new GitHubCommitSource(gitHubClient, new FilteredCommitRangeResolver(gitHubClient, commitFilter));
         }
-        return -1;
+        CommitRangeResolver commitRangeResolver = (cacheDir == null)
+                ? new CommitRangeResolver(gitHubClient)
+                : new CachingCommitRangeResolver(gitHubClient, new DiskCommitStore(cacheDir.toPath()));
+        return new GitHubCommitSource(gitHubClient, commitRangeResolver);
     }
 }
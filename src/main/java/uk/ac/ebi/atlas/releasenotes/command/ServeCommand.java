@@ -0,0 +1,48 @@
+package uk.ac.ebi.atlas.releasenotes.command;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import picocli.CommandLine;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Serves release notes over HTTP from a long-running process. Unlike the other commands it starts the Spring context,
+ * which keeps the history of each repository in memory between requests.
+ */
+@Slf4j
+@CommandLine.Command(name = "serve", mixinStandardHelpOptions = true)
+public class ServeCommand implements Callable<Integer> {
+
+    @CommandLine.Option(names = {"-p", "--port"}, description = "HTTP port to listen on (default: 8080)", defaultValue = "8080")
+    private int port;
+
+    @CommandLine.Option(names = {"-r", "--repositories"}, split = ",",
+            description = "Repositories (owner/repo) whose history is kept warm by polling their default branch (optional)")
+    private List<String> repositories = List.of();
+
+    @Override
+    public Integer call() throws InterruptedException {
+        // Passed as arguments so that they take precedence over application.properties
+        ConfigurableApplicationContext context = new SpringApplication(ReleaseNotesApplication.class).run(
+                "--server.port=" + port,
+                "--releasenotes.server.repositories=" + String.join(",", repositories));
+
+        CountDownLatch closed = new CountDownLatch(1);
+        context.addApplicationListener(event -> {
+            if (event instanceof ContextClosedEvent) {
+                closed.countDown();
+            }
+        });
+        if (context.isActive()) {
+            log.info("Serving release notes on port {}", port);
+            closed.await();
+        }
+        return 0;
+    }
+}
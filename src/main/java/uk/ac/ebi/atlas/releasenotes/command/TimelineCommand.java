@@ -0,0 +1,133 @@
+package uk.ac.ebi.atlas.releasenotes.command;
+
+import lombok.extern.slf4j.Slf4j;
+import picocli.CommandLine;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules;
+import uk.ac.ebi.atlas.releasenotes.classify.CommitClassifier;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.render.OutputFormat;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesFormat;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesGenerator;
+import uk.ac.ebi.atlas.releasenotes.render.template.TemplateFormat;
+import uk.ac.ebi.atlas.releasenotes.timeline.Release;
+import uk.ac.ebi.atlas.releasenotes.timeline.TagTimeline;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Generates the release notes of every tag of a repository, from one walk of its history: each release gets the
+ * commits between its tag and the previous one.
+ */
+@Slf4j
+@CommandLine.Command(name = "timeline", mixinStandardHelpOptions = true)
+public class TimelineCommand implements Callable<Integer> {
+
+    @CommandLine.Option(names = {"-u", "--user"}, description = "GitHub user", required = true)
+    private String user;
+
+    @CommandLine.Option(names = {"-r", "--repo"}, description = "GitHub repository", required = true)
+    private String repo;
+
+    @CommandLine.Option(names = {"-s", "--since"}, description = "Oldest tag, whose release is left out (optional)")
+    private String sinceTag;
+
+    @CommandLine.Option(names = {"-ut", "--until"}, description = "Branch or commit whose history is split (default: the default branch)")
+    private String untilCommit;
+
+    @CommandLine.Option(names = {"-f", "--file"}, description = "Output file for the changelog of all releases (optional)")
+    private File outputFile;
+
+    @CommandLine.Option(names = {"-d", "--output-dir"}, description = "Directory to write one file per release to (optional)")
+    private File outputDir;
+
+    @CommandLine.Option(names = {"-o", "--output-format"}, description = "Output format (default: MARKDOWN)", defaultValue = "MARKDOWN")
+    private OutputFormat outputFormat;
+
+    @CommandLine.Option(names = {"-t", "--template"}, description = "JSON file with the templates of a custom output format, used instead of --output-format (optional)")
+    private File template;
+
+    @CommandLine.Option(names = {"--classification-rules"}, description = "JSON file with the rules that sort commits into sections (optional)")
+    private File classificationRules;
+
+    @CommandLine.Mixin
+    private MetricsOptions metricsOptions = new MetricsOptions();
+
+    @Override
+    public Integer call() throws Exception {
+        return metricsOptions.measure("timeline", this::generateReleaseNotes);
+    }
+
+    private Integer generateReleaseNotes() {
+        List<Release> releases;
+        GitHubProject project;
+        ReleaseNotesGenerator releaseNotesGenerator;
+        ReleaseNotesFormat format;
+        try {
+            format = loadFormat();
+            releaseNotesGenerator = new ReleaseNotesGenerator(CommitClassifier.compile(loadClassificationRules()));
+            GitHubClient gitHubClient = ReleaseNotesApplication.getGitHubClient();
+            project = gitHubClient.getProject(user, repo);
+            String ref = untilCommit != null ? untilCommit : project.defaultBranch();
+            releases = new TagTimeline(gitHubClient).getReleases(user, repo, ref, sinceTag);
+        } catch (Exception e) {
+            log.error("Error fetching commits: {}", e.getMessage(), e);
+            return 1;
+        }
+        log.debug("Split the history of {}/{} into {} releases", user, repo, releases.size());
+
+        try {
+            if (outputDir != null) {
+                writeReleases(releases, project, releaseNotesGenerator, format);
+            }
+            if (outputFile != null) {
+                File outputFileWithExtension = releaseNotesGenerator.writeChangelog(releases, project, format, outputFile);
+                log.info("Changelog saved to: {}", outputFileWithExtension.getAbsolutePath());
+            } else if (outputDir == null) {
+                log.info(releaseNotesGenerator.generateChangelog(releases, project, format));
+            }
+        } catch (IOException e) {
+            log.error("Error writing release notes to file: {}", e.getMessage(), e);
+            return 1;
+        }
+        return 0;
+    }
+
+    private void writeReleases(List<Release> releases, GitHubProject project, ReleaseNotesGenerator releaseNotesGenerator,
+                               ReleaseNotesFormat format) throws IOException {
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Cannot create directory " + outputDir);
+        }
+        for (Release release : releases) {
+            File outputFileWithExtension = releaseNotesGenerator.writeReleaseNotes(release.commits(), project,
+                    release.version(), format, new File(outputDir, toFileName(release.version())));
+            log.info("Release notes saved to: {}", outputFileWithExtension.getAbsolutePath());
+        }
+    }
+
+    // Tags such as feature/v1.0 are valid but can't be file names as they are
+    private static String toFileName(String version) {
+        return version.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private ReleaseNotesFormat loadFormat() throws IOException {
+        if (template == null) {
+            return outputFormat;
+        }
+        TemplateFormat templateFormat = ReleaseNotesApplication.objectMapper.readValue(template, TemplateFormat.class);
+        // Compiled here so that a broken template fails before anything is fetched
+        templateFormat.getRenderer();
+        return templateFormat;
+    }
+
+    private ClassificationRules loadClassificationRules() throws IOException {
+        if (classificationRules == null) {
+            return ClassificationRules.DEFAULT;
+        }
+        return ReleaseNotesApplication.objectMapper.readValue(classificationRules, ClassificationRules.class);
+    }
+}
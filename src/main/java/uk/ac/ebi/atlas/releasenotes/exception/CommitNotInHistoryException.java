@@ -0,0 +1,7 @@
+package uk.ac.ebi.atlas.releasenotes.exception;
+
+public class CommitNotInHistoryException extends IllegalStateException {
+    public CommitNotInHistoryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package uk.ac.ebi.atlas.releasenotes.exception;
+
+public class GitHubApiException extends RuntimeException {
+    private final int status;
+
+    public GitHubApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
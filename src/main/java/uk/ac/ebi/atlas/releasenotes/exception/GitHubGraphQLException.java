@@ -0,0 +1,7 @@
+package uk.ac.ebi.atlas.releasenotes.exception;
+
+public class GitHubGraphQLException extends RuntimeException {
+    public GitHubGraphQLException(String message) {
+        super(message);
+    }
+}
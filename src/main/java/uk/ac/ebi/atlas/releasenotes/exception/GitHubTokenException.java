@@ -0,0 +1,7 @@
+package uk.ac.ebi.atlas.releasenotes.exception;
+
+public class GitHubTokenException extends RuntimeException {
+    public GitHubTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package uk.ac.ebi.atlas.releasenotes.exception;
+
+public class GitProcessException extends RuntimeException {
+    public GitProcessException(String message) {
+        super(message);
+    }
+
+    public GitProcessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,3 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+public record CachedResponse(String etag, String lastModified, String contentType, byte[] body) {}
@@ -0,0 +1,116 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Turns GET requests into conditional requests when a cached response exists. GitHub answers them with
+ * {@code 304 Not Modified}, which doesn't count against the rate limit, and the cached body is returned instead.
+ */
+@Slf4j
+public class ConditionalRequestClient implements Client {
+
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private final Client delegate;
+    private final HttpResponseCache responseCache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ConditionalRequestClient(Client delegate, HttpResponseCache responseCache) {
+        this.delegate = delegate;
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (request.httpMethod() != Request.HttpMethod.GET) {
+            return delegate.execute(request, options);
+        }
+
+        CachedResponse cachedResponse = responseCache.get(request.url());
+        Response response = delegate.execute(withValidators(request, cachedResponse), options);
+
+        if (response.status() == 304 && cachedResponse != null) {
+            hits.incrementAndGet();
+            log.debug("Not modified, using cached response for {}", request.url());
+            response.close();
+            return withBody(response, request, cachedResponse.contentType(), cachedResponse.body());
+        }
+
+        misses.incrementAndGet();
+        String etag = getHeader(response.headers(), ETAG);
+        String lastModified = getHeader(response.headers(), LAST_MODIFIED);
+        if (response.status() != 200 || response.body() == null || (etag == null && lastModified == null)) {
+            return response;
+        }
+
+        byte[] body;
+        try (InputStream bodyStream = response.body().asInputStream()) {
+            body = Util.toByteArray(bodyStream);
+        }
+        String contentType = getHeader(response.headers(), CONTENT_TYPE);
+        responseCache.put(request.url(), new CachedResponse(etag, lastModified, contentType, body));
+        return withBody(response, request, contentType, body);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static Request withValidators(Request request, CachedResponse cachedResponse) {
+        if (cachedResponse == null) {
+            return request;
+        }
+
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.headers());
+        if (cachedResponse.etag() != null) {
+            headers.put(IF_NONE_MATCH, List.of(cachedResponse.etag()));
+        } else {
+            headers.put(IF_MODIFIED_SINCE, List.of(cachedResponse.lastModified()));
+        }
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(),
+                request.requestTemplate());
+    }
+
+    private static Response withBody(Response response, Request request, String contentType, byte[] body) {
+        // Keep the fresh headers, so rate limit information stays up to date
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(response.headers());
+        if (contentType != null) {
+            headers.put(CONTENT_TYPE, List.of(contentType));
+        }
+        return response.toBuilder()
+                .status(200)
+                .reason("OK")
+                .headers(headers)
+                .request(request)
+                .body(body)
+                .build();
+    }
+
+    private static String getHeader(Map<String, Collection<String>> headers, String name) {
+        Collection<String> values = headers.get(name);
+        return (values == null || values.isEmpty()) ? null : values.iterator().next();
+    }
+}
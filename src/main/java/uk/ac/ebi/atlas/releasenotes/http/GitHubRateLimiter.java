@@ -0,0 +1,202 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Paces GitHub API requests with a token bucket and keeps track of the rate limit budget reported by the
+ * {@code X-RateLimit-*} response headers. When the budget is used up every caller waits for the reset time.
+ */
+@Slf4j
+public class GitHubRateLimiter {
+
+    public static final double DEFAULT_REQUESTS_PER_SECOND = 10;
+    public static final int DEFAULT_BURST = 20;
+    public static final Duration DEFAULT_BASE_BACKOFF = Duration.ofSeconds(1);
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(1);
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String RESET_HEADER = "X-RateLimit-Reset";
+    static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private static final long UNKNOWN = -1;
+
+    private final double permitsPerNano;
+    private final int burst;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private double availablePermits;
+    private long lastRefillNanos = System.nanoTime();
+
+    private volatile long remaining = UNKNOWN;
+    private volatile long limit = UNKNOWN;
+    private volatile long resetEpochSeconds = UNKNOWN;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong throttledRequests = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong waitedMillis = new AtomicLong();
+
+    public GitHubRateLimiter() {
+        this(DEFAULT_REQUESTS_PER_SECOND, DEFAULT_BURST, DEFAULT_BASE_BACKOFF, DEFAULT_MAX_BACKOFF);
+    }
+
+    public GitHubRateLimiter(double requestsPerSecond, int burst, Duration baseBackoff, Duration maxBackoff) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("requestsPerSecond and burst must be positive");
+        }
+        this.permitsPerNano = requestsPerSecond / Duration.ofSeconds(1).toNanos();
+        this.burst = burst;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.availablePermits = burst;
+    }
+
+    /**
+     * Blocks until the caller may send a request.
+     */
+    public void acquire() throws InterruptedException {
+        long delayMillis = reserve();
+        if (delayMillis > 0) {
+            Thread.sleep(delayMillis);
+        }
+    }
+
+    /**
+     * Takes a permit without blocking and returns how many milliseconds the caller has to wait before sending its
+     * request, for callers that schedule the request instead of sleeping.
+     */
+    public long reserve() {
+        requests.incrementAndGet();
+
+        long delayMillis = 0;
+        long untilReset = millisUntilReset();
+        if (remaining == 0 && untilReset > 0) {
+            log.warn("GitHub API rate limit exhausted, waiting {} ms for it to reset", untilReset);
+            throttledRequests.incrementAndGet();
+            delayMillis = untilReset;
+        }
+
+        delayMillis += Duration.ofNanos(reservePermit()).toMillis();
+        waitedMillis.addAndGet(delayMillis);
+        return delayMillis;
+    }
+
+    public void update(Map<String, Collection<String>> headers) {
+        long remainingHeader = getLongHeader(headers, REMAINING_HEADER);
+        if (remainingHeader != UNKNOWN) {
+            remaining = remainingHeader;
+        }
+        long limitHeader = getLongHeader(headers, LIMIT_HEADER);
+        if (limitHeader != UNKNOWN) {
+            limit = limitHeader;
+        }
+        long resetHeader = getLongHeader(headers, RESET_HEADER);
+        if (resetHeader != UNKNOWN) {
+            resetEpochSeconds = resetHeader;
+        }
+    }
+
+    public boolean isRateLimited(int status, Map<String, Collection<String>> headers) {
+        return status == 429
+                || (status == 403 && (getLongHeader(headers, REMAINING_HEADER) == 0
+                                      || getLongHeader(headers, RETRY_AFTER_HEADER) != UNKNOWN));
+    }
+
+    /**
+     * Returns how long to wait before retrying a rejected request: the {@code Retry-After} header if present, the
+     * time until the rate limit resets when the budget is used up, or an exponential backoff with full jitter.
+     */
+    public long getRetryDelayMillis(Map<String, Collection<String>> headers, int attempt) {
+        retries.incrementAndGet();
+
+        long retryAfterSeconds = getLongHeader(headers, RETRY_AFTER_HEADER);
+        if (retryAfterSeconds != UNKNOWN) {
+            return Duration.ofSeconds(retryAfterSeconds).toMillis();
+        }
+
+        long untilReset = millisUntilReset();
+        if (remaining == 0 && untilReset > 0) {
+            return untilReset;
+        }
+
+        long backoffCap = Math.min(maxBackoff.toMillis(), baseBackoff.toMillis() << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(backoffCap + 1);
+    }
+
+    public void sleep(long millis) throws InterruptedException {
+        if (millis > 0) {
+            waitedMillis.addAndGet(millis);
+            Thread.sleep(millis);
+        }
+    }
+
+    public long getRemaining() {
+        return remaining;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    public Instant getResetAt() {
+        return resetEpochSeconds == UNKNOWN ? null : Instant.ofEpochSecond(resetEpochSeconds);
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getThrottledRequests() {
+        return throttledRequests.get();
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    public long getWaitedMillis() {
+        return waitedMillis.get();
+    }
+
+    private synchronized long reservePermit() {
+        long now = System.nanoTime();
+        availablePermits = Math.min(burst, availablePermits + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+
+        availablePermits -= 1;
+        if (availablePermits >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-availablePermits / permitsPerNano);
+    }
+
+    private long millisUntilReset() {
+        long reset = resetEpochSeconds;
+        if (reset == UNKNOWN) {
+            return 0;
+        }
+        // GitHub's reset time has a one second granularity
+        return Math.max(0, Duration.ofSeconds(reset + 1).toMillis() - System.currentTimeMillis());
+    }
+
+    private static long getLongHeader(Map<String, Collection<String>> headers, String name) {
+        Collection<String> values = headers.get(name);
+        if (values == null || values.isEmpty()) {
+            return UNKNOWN;
+        }
+        try {
+            return Long.parseLong(values.iterator().next().trim());
+        } catch (NumberFormatException e) {
+            return UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Keeps validated GitHub API responses per URL in an in-memory LRU map bounded by the size of the bodies, backed by
+ * one file per URL in an optional cache directory so entries survive between runs. The directory and its files are
+ * only readable by their owner. Files that haven't been used for {@code maxAge} are dropped, and the least recently
+ * used files are deleted once the directory grows past {@code maxDiskBytes}.
+ */
+@Slf4j
+public class HttpResponseCache {
+
+    public static final long DEFAULT_MAX_MEMORY_BYTES = 32L * 1024 * 1024;
+    public static final long DEFAULT_MAX_DISK_BYTES = 256L * 1024 * 1024;
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(30);
+
+    private static final int MAGIC = 0x524E4852;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final boolean POSIX = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+    private final Path cacheDir;
+    private final long maxMemoryBytes;
+    private final long maxDiskBytes;
+    private final Duration maxAge;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // Guarded by entries
+    private long memoryBytes;
+    // Guarded by this, -1 until the cache directory has been listed
+    private long diskBytes = -1;
+
+    public HttpResponseCache(Path cacheDir) {
+        this(cacheDir, DEFAULT_MAX_MEMORY_BYTES, DEFAULT_MAX_DISK_BYTES, DEFAULT_MAX_AGE);
+    }
+
+    public HttpResponseCache(Path cacheDir, long maxMemoryBytes, long maxDiskBytes, Duration maxAge) {
+        this.cacheDir = cacheDir;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxDiskBytes = maxDiskBytes;
+        this.maxAge = maxAge;
+    }
+
+    public static HttpResponseCache inMemory() {
+        return new HttpResponseCache(null);
+    }
+
+    public CachedResponse get(String url) {
+        synchronized (entries) {
+            CachedResponse cachedResponse = entries.get(url);
+            if (cachedResponse != null) {
+                return cachedResponse;
+            }
+        }
+
+        CachedResponse cachedResponse = readFromDisk(url);
+        if (cachedResponse != null) {
+            keepInMemory(url, cachedResponse);
+        }
+        return cachedResponse;
+    }
+
+    public void put(String url, CachedResponse cachedResponse) {
+        keepInMemory(url, cachedResponse);
+        writeToDisk(url, cachedResponse);
+    }
+
+    private void keepInMemory(String url, CachedResponse cachedResponse) {
+        synchronized (entries) {
+            CachedResponse previous = entries.put(url, cachedResponse);
+            memoryBytes += weigh(url, cachedResponse) - (previous == null ? 0 : weigh(url, previous));
+
+            Iterator<Map.Entry<String, CachedResponse>> leastRecentlyUsed = entries.entrySet().iterator();
+            while (memoryBytes > maxMemoryBytes && leastRecentlyUsed.hasNext()) {
+                Map.Entry<String, CachedResponse> eldest = leastRecentlyUsed.next();
+                memoryBytes -= weigh(eldest.getKey(), eldest.getValue());
+                leastRecentlyUsed.remove();
+            }
+        }
+    }
+
+    private CachedResponse readFromDisk(String url) {
+        if (cacheDir == null) {
+            return null;
+        }
+        Path file = getCacheFile(url);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try {
+            if (isExpired(Files.getLastModifiedTime(file))) {
+                deleteFromDisk(file);
+                return null;
+            }
+            CachedResponse cachedResponse;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !url.equals(in.readUTF())) {
+                    return null;
+                }
+                String etag = readNullableUTF(in);
+                String lastModified = readNullableUTF(in);
+                String contentType = readNullableUTF(in);
+                byte[] body = readBody(in);
+                cachedResponse = new CachedResponse(etag, lastModified, contentType, body);
+            }
+            // The modification time orders the files from the least recently used when the directory is trimmed
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return cachedResponse;
+        } catch (IOException e) {
+            log.warn("Deleting unreadable HTTP cache entry {}: {}", file, e.getMessage());
+            deleteFromDisk(file);
+            return null;
+        }
+    }
+
+    private static byte[] readBody(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid body length " + length);
+        }
+        byte[] body = in.readNBytes(length);
+        if (body.length != length) {
+            throw new EOFException("Truncated HTTP cache entry");
+        }
+        return body;
+    }
+
+    private void writeToDisk(String url, CachedResponse cachedResponse) {
+        if (cacheDir == null) {
+            return;
+        }
+        Path file = getCacheFile(url);
+        try {
+            createCacheDir();
+            Path tempFile = Files.createTempFile(cacheDir, file.getFileName().toString(), ".tmp", ownerOnly(OWNER_ONLY_FILE));
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(url);
+                writeNullableUTF(out, cachedResponse.etag());
+                writeNullableUTF(out, cachedResponse.lastModified());
+                writeNullableUTF(out, cachedResponse.contentType());
+                out.writeInt(cachedResponse.body().length);
+                out.write(cachedResponse.body());
+            }
+            long size = Files.size(tempFile);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            addToDiskUsage(size);
+        } catch (IOException e) {
+            // The in-memory entry is still usable, a failed write only costs a full response next run
+            log.warn("Error writing HTTP cache entry {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void createCacheDir() throws IOException {
+        if (!Files.isDirectory(cacheDir)) {
+            Files.createDirectories(cacheDir, ownerOnly(OWNER_ONLY_DIRECTORY));
+        }
+    }
+
+    // Replaced files are counted twice until the next listing, which only makes the directory trimmed a little early
+    private synchronized void addToDiskUsage(long size) throws IOException {
+        if (diskBytes < 0 || diskBytes + size > maxDiskBytes) {
+            trimDiskUsage();
+        } else {
+            diskBytes += size;
+        }
+    }
+
+    private void trimDiskUsage() throws IOException {
+        List<CacheFile> cacheFiles = new ArrayList<>();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file)) {
+                    cacheFiles.add(new CacheFile(file, Files.size(file), Files.getLastModifiedTime(file)));
+                }
+            }
+        }
+        cacheFiles.sort(Comparator.comparing(CacheFile::lastModified));
+
+        long total = cacheFiles.stream().mapToLong(CacheFile::size).sum();
+        for (CacheFile cacheFile : cacheFiles) {
+            if (total <= maxDiskBytes && !isExpired(cacheFile.lastModified())) {
+                break;
+            }
+            deleteFromDisk(cacheFile.path());
+            total -= cacheFile.size();
+        }
+        diskBytes = total;
+    }
+
+    private boolean isExpired(FileTime lastModified) {
+        return lastModified.toInstant().isBefore(Instant.now().minus(maxAge));
+    }
+
+    private static void deleteFromDisk(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Error deleting HTTP cache entry {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path getCacheFile(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return cacheDir.resolve(HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static FileAttribute<?>[] ownerOnly(Set<PosixFilePermission> permissions) {
+        return POSIX
+                ? new FileAttribute<?>[] {PosixFilePermissions.asFileAttribute(permissions)}
+                : new FileAttribute<?>[0];
+    }
+
+    private static long weigh(String url, CachedResponse cachedResponse) {
+        return url.length() + cachedResponse.body().length;
+    }
+
+    private static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private record CacheFile(Path path, long size, FileTime lastModified) {}
+}
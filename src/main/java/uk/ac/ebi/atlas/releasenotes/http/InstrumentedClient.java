@@ -0,0 +1,126 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import uk.ac.ebi.atlas.releasenotes.metrics.ReleaseNotesMetrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * Times each HTTP exchange, tagged with the client method and the status GitHub answered with, and measures the size
+ * of response bodies as they are read. The time is up to the response headers: reading the body is part of decoding.
+ */
+public class InstrumentedClient implements Client {
+
+    private final Client delegate;
+
+    public InstrumentedClient(Client delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String endpoint = getEndpoint(request);
+        long startNanos = System.nanoTime();
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (IOException e) {
+            ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.HTTP_REQUESTS, "endpoint", endpoint, "status", "IO_ERROR");
+            throw e;
+        }
+        ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.HTTP_REQUESTS,
+                "endpoint", endpoint, "status", Integer.toString(response.status()));
+
+        if (response.body() == null) {
+            return response;
+        }
+        return response.toBuilder().body(new CountingBody(response.body(), endpoint)).build();
+    }
+
+    private static String getEndpoint(Request request) {
+        MethodMetadata methodMetadata = request.requestTemplate() == null ? null : request.requestTemplate().methodMetadata();
+        return methodMetadata == null || methodMetadata.method() == null ? "unknown" : methodMetadata.method().getName();
+    }
+
+    private record CountingBody(Response.Body delegate, String endpoint) implements Response.Body {
+
+        @Override
+        public Integer length() {
+            return delegate.length();
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return delegate.isRepeatable();
+        }
+
+        @Override
+        public InputStream asInputStream() throws IOException {
+            return new CountingInputStream(delegate.asInputStream(), endpoint);
+        }
+
+        @Override
+        public Reader asReader(Charset charset) throws IOException {
+            return new InputStreamReader(asInputStream(), charset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final String endpoint;
+        private long bytesRead;
+        private boolean closed;
+
+        CountingInputStream(InputStream in, String endpoint) {
+            super(in);
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                bytesRead++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                bytesRead += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            bytesRead += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                ReleaseNotesMetrics.recordResponseSize(bytesRead, endpoint);
+            }
+            super.close();
+        }
+    }
+}
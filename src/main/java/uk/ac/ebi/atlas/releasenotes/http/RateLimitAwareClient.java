@@ -0,0 +1,61 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Set;
+
+/**
+ * Sends requests through a {@link GitHubRateLimiter} and retries the ones GitHub rejects because of its primary or
+ * secondary rate limits, or because of a transient server error.
+ */
+@Slf4j
+public class RateLimitAwareClient implements Client {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    private static final Set<Integer> TRANSIENT_SERVER_ERRORS = Set.of(502, 503, 504);
+
+    private final Client delegate;
+    private final GitHubRateLimiter rateLimiter;
+    private final int maxAttempts;
+
+    public RateLimitAwareClient(Client delegate, GitHubRateLimiter rateLimiter) {
+        this(delegate, rateLimiter, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    public RateLimitAwareClient(Client delegate, GitHubRateLimiter rateLimiter, int maxAttempts) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                rateLimiter.acquire();
+                Response response = delegate.execute(request, options);
+                rateLimiter.update(response.headers());
+
+                boolean rateLimited = rateLimiter.isRateLimited(response.status(), response.headers());
+                if (attempt >= maxAttempts || !(rateLimited || TRANSIENT_SERVER_ERRORS.contains(response.status()))) {
+                    return response;
+                }
+
+                long delay = rateLimiter.getRetryDelayMillis(response.headers(), attempt);
+                log.warn("{} {} returned {}, retrying in {} ms (attempt {} of {})",
+                        request.httpMethod(), request.url(), response.status(), delay, attempt + 1, maxAttempts);
+                response.close();
+                rateLimiter.sleep(delay);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the GitHub API rate limit");
+        }
+    }
+}
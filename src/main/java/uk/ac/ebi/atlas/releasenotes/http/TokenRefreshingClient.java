@@ -0,0 +1,69 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Sends a request GitHub answers with 401 Unauthorized again, with the token that {@code tokenRefresher} returns in
+ * place of the rejected one. The response is returned as it is when there's no other token.
+ */
+@Slf4j
+public class TokenRefreshingClient implements Client {
+
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String BEARER = "Bearer ";
+
+    private final Client delegate;
+    private final Function<String, Optional<String>> tokenRefresher;
+
+    public TokenRefreshingClient(Client delegate, Function<String, Optional<String>> tokenRefresher) {
+        this.delegate = delegate;
+        this.tokenRefresher = tokenRefresher;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Response response = delegate.execute(request, options);
+        String rejectedToken = response.status() == 401 ? getToken(request) : null;
+        if (rejectedToken == null) {
+            return response;
+        }
+
+        Optional<String> token = tokenRefresher.apply(rejectedToken);
+        if (token.isEmpty()) {
+            return response;
+        }
+        log.info("{} {} returned 401, retrying with another token", request.httpMethod(), request.url());
+        response.close();
+        return delegate.execute(withToken(request, token.get()), options);
+    }
+
+    private static String getToken(Request request) {
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.headers());
+        Collection<String> authorization = headers.get(AUTHORIZATION);
+        if (authorization == null || authorization.isEmpty()) {
+            return null;
+        }
+        String value = authorization.iterator().next();
+        return value.startsWith(BEARER) ? value.substring(BEARER.length()) : null;
+    }
+
+    private static Request withToken(Request request, String token) {
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(request.headers());
+        headers.put(AUTHORIZATION, List.of(BEARER + token));
+        return Request.create(request.httpMethod(), request.url(), headers, request.body(), request.charset(),
+                request.requestTemplate());
+    }
+}
@@ -0,0 +1,133 @@
+package uk.ac.ebi.atlas.releasenotes.incremental;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules;
+import uk.ac.ebi.atlas.releasenotes.classify.CommitClassifier;
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.source.CommitSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps the classified sections of a release in a state file, so a later run for the same release only fetches and
+ * classifies the commits added after the last one it processed. The state is discarded, and the whole range fetched
+ * again, when it was written for another range, with other rules or in another format version, or when the last
+ * processed commit is no longer in the history of the until commit.
+ */
+@Slf4j
+public class IncrementalReleaseNotes {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final String STATE_FILE_SUFFIX = ".state.json";
+
+    private final Path stateFile;
+    private final ClassificationRules classificationRules;
+    private final CommitClassifier commitClassifier;
+    private final ObjectMapper objectMapper;
+
+    public IncrementalReleaseNotes(Path stateFile, ClassificationRules classificationRules, ObjectMapper objectMapper) {
+        this.stateFile = stateFile;
+        this.classificationRules = classificationRules;
+        this.commitClassifier = CommitClassifier.compile(classificationRules);
+        this.objectMapper = objectMapper;
+    }
+
+    public static Path getStateFile(File outputFile) {
+        return Path.of(outputFile.getAbsolutePath() + STATE_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the state for the range from {@code sinceCommit} to {@code untilCommit}, updated from the stored state
+     * when possible. Call {@link #save(ReleaseNotesState)} once the release notes have been written.
+     */
+    public ReleaseNotesState update(CommitSource commitSource, String owner, String repo, String sinceCommit,
+                                    String untilCommit) {
+        Optional<ReleaseNotesState> storedState = load()
+                .filter(state -> isReusable(state, owner, repo, sinceCommit));
+
+        if (storedState.isPresent()) {
+            ReleaseNotesState state = storedState.get();
+            try {
+                List<Commit> newCommits = commitSource.getCommitsAfter(owner, repo, state.lastSha(), untilCommit);
+                log.info("Adding {} commits after {} to the stored release notes of {}/{}",
+                        newCommits.size(), state.lastSha(), owner, repo);
+                String lastSha = newCommits.isEmpty() ? state.lastSha() : newCommits.get(0).sha();
+                return createState(owner, repo, sinceCommit, lastSha,
+                        merge(commitClassifier.classify(newCommits), state.sections()));
+            } catch (IllegalStateException e) {
+                log.warn("Regenerating the release notes of {}/{}: {}", owner, repo, e.getMessage());
+            }
+        }
+
+        List<Commit> commits = commitSource.getCommitsInRange(owner, repo, sinceCommit, untilCommit);
+        return createState(owner, repo, sinceCommit, commits.get(0).sha(), commitClassifier.classify(commits));
+    }
+
+    public void save(ReleaseNotesState state) {
+        try {
+            Files.createDirectories(stateFile.toAbsolutePath().getParent());
+            Path tempFile = Files.createTempFile(stateFile.toAbsolutePath().getParent(), stateFile.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), state);
+            Files.move(tempFile, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing release notes state " + stateFile, e);
+        }
+    }
+
+    private Optional<ReleaseNotesState> load() {
+        if (!Files.isRegularFile(stateFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(stateFile.toFile(), ReleaseNotesState.class));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable release notes state {}: {}", stateFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isReusable(ReleaseNotesState state, String owner, String repo, String sinceCommit) {
+        return state.formatVersion() == FORMAT_VERSION
+                && state.lastSha() != null
+                && state.sections() != null
+                && Objects.equals(state.owner(), owner)
+                && Objects.equals(state.repo(), repo)
+                && Objects.equals(state.since(), sinceCommit)
+                && Objects.equals(state.classificationRules(), classificationRules);
+    }
+
+    private ReleaseNotesState createState(String owner, String repo, String sinceCommit, String lastSha,
+                                          List<ReleaseSection> sections) {
+        return new ReleaseNotesState(FORMAT_VERSION, owner, repo, sinceCommit, lastSha, classificationRules, sections);
+    }
+
+    // Both lists are newest first, so the new commits go in front of the stored ones
+    private static List<ReleaseSection> merge(List<ReleaseSection> newSections, List<ReleaseSection> storedSections) {
+        Map<String, List<CommitView>> sections = new LinkedHashMap<>();
+        for (ReleaseSection section : newSections) {
+            sections.put(section.title(), new ArrayList<>(section.commits()));
+        }
+        for (ReleaseSection section : storedSections) {
+            sections.computeIfAbsent(section.title(), title -> new ArrayList<>()).addAll(section.commits());
+        }
+
+        List<ReleaseSection> merged = new ArrayList<>(sections.size());
+        sections.forEach((title, commits) -> merged.add(new ReleaseSection(title, commits)));
+        return merged;
+    }
+}
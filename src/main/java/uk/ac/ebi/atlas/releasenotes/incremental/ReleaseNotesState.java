@@ -0,0 +1,19 @@
+package uk.ac.ebi.atlas.releasenotes.incremental;
+
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules;
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+
+import java.util.List;
+
+/**
+ * What an incremental run keeps next to its output: the range it covers up to {@code lastSha}, the rules its commits
+ * were classified with and the resulting sections.
+ */
+public record ReleaseNotesState(int formatVersion,
+                                String owner,
+                                String repo,
+                                String since,
+                                String lastSha,
+                                ClassificationRules classificationRules,
+                                List<ReleaseSection> sections) {
+}
@@ -0,0 +1,137 @@
+package uk.ac.ebi.atlas.releasenotes.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds GitHub REST commit payloads straight into the records, token by token. Only the fields the records hold are
+ * read; every other subtree (tree, verification, files, the GitHub users, ...) is skipped without being
+ * materialised. Each method expects the parser to be on the first token of the value it reads.
+ */
+public final class CommitJsonReader {
+
+    @FunctionalInterface
+    public interface ValueReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    private CommitJsonReader() {
+    }
+
+    public static List<Commit> readCommits(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        List<Commit> commits = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            commits.add(readCommit(parser));
+        }
+        return commits;
+    }
+
+    public static Commit readCommit(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        String sha = null;
+        String htmlUrl = null;
+        CommitDetails commitDetails = null;
+        List<CommitParent> parents = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "sha" -> sha = parser.getValueAsString();
+                case "html_url" -> htmlUrl = parser.getValueAsString();
+                case "commit" -> commitDetails = value == JsonToken.START_OBJECT ? readCommitDetails(parser) : null;
+                case "parents" -> parents = value == JsonToken.START_ARRAY ? readParents(parser) : null;
+                default -> parser.skipChildren();
+            }
+        }
+        return new Commit(sha, commitDetails, htmlUrl, null, parents);
+    }
+
+    public static CommitComparison readComparison(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        String status = null;
+        int totalCommits = 0;
+        List<Commit> commits = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "status" -> status = parser.getValueAsString();
+                case "total_commits" -> totalCommits = parser.getValueAsInt();
+                case "commits" -> commits = value == JsonToken.START_ARRAY ? readCommits(parser) : null;
+                default -> parser.skipChildren();
+            }
+        }
+        return new CommitComparison(status, totalCommits, commits);
+    }
+
+    private static CommitDetails readCommitDetails(JsonParser parser) throws IOException {
+        String message = null;
+        Author author = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "message" -> message = parser.getValueAsString();
+                case "author" -> author = value == JsonToken.START_OBJECT ? readAuthor(parser) : null;
+                default -> parser.skipChildren();
+            }
+        }
+        return new CommitDetails(message, author);
+    }
+
+    private static List<CommitParent> readParents(JsonParser parser) throws IOException {
+        List<CommitParent> parents = new ArrayList<>(2);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String sha = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (field.equals("sha")) {
+                    sha = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            parents.add(new CommitParent(sha));
+        }
+        return parents;
+    }
+
+    private static Author readAuthor(JsonParser parser) throws IOException {
+        String email = null;
+        Instant date = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "email" -> email = parser.getValueAsString();
+                case "date" -> date = parseDate(parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        }
+        return new Author(email, date);
+    }
+
+    private static Instant parseDate(String date) {
+        return date == null ? null : DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(date, Instant::from);
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws JsonParseException {
+        if (parser.currentToken() != token) {
+            throw new JsonParseException(parser, "Expected " + token + " but found " + parser.currentToken());
+        }
+    }
+}
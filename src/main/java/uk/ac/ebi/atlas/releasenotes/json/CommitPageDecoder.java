@@ -0,0 +1,88 @@
+package uk.ac.ebi.atlas.releasenotes.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import feign.jackson.JacksonDecoder;
+import uk.ac.ebi.atlas.releasenotes.metrics.ReleaseNotesMetrics;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Streams commit pages, single commits and comparisons through {@link CommitJsonReader} instead of binding the whole
+ * payload, and leaves every other response type to {@link JacksonDecoder}.
+ */
+public class CommitPageDecoder implements Decoder {
+
+    private final ObjectMapper objectMapper;
+    private final Decoder delegate;
+
+    public CommitPageDecoder(ObjectMapper objectMapper) {
+        this(objectMapper, new JacksonDecoder(objectMapper));
+    }
+
+    public CommitPageDecoder(ObjectMapper objectMapper, Decoder delegate) {
+        this.objectMapper = objectMapper;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        long startNanos = System.nanoTime();
+        try {
+            return decode(response, type, getReader(type));
+        } finally {
+            ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.JSON_DECODE, "type", getTypeName(type));
+        }
+    }
+
+    private Object decode(Response response, Type type, CommitJsonReader.ValueReader<?> reader) throws IOException {
+        if (reader == null) {
+            return delegate.decode(response, type);
+        }
+
+        // Same handling of empty responses as JacksonDecoder
+        if (response.status() == 404 || response.status() == 204) {
+            return Util.emptyValueOf(type);
+        }
+        if (response.body() == null) {
+            return null;
+        }
+        try (InputStream body = response.body().asInputStream();
+             JsonParser parser = objectMapper.createParser(body)) {
+            return parser.nextToken() == null ? null : reader.read(parser);
+        }
+    }
+
+    private static String getTypeName(Type type) {
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+            return rawType.getSimpleName() + "<" + elementType.getSimpleName() + ">";
+        }
+        return type instanceof Class<?> typeClass ? typeClass.getSimpleName() : type.getTypeName();
+    }
+
+    private static CommitJsonReader.ValueReader<?> getReader(Type type) {
+        if (type == Commit.class) {
+            return CommitJsonReader::readCommit;
+        }
+        if (type == CommitComparison.class) {
+            return CommitJsonReader::readComparison;
+        }
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() == List.class
+                && parameterizedType.getActualTypeArguments()[0] == Commit.class) {
+            return CommitJsonReader::readCommits;
+        }
+        return null;
+    }
+}
@@ -2,27 +2,171 @@ package uk.ac.ebi.atlas.releasenotes.logging;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
 import ch.qos.logback.core.encoder.Encoder;
 import picocli.CommandLine;
 
-public class PicoCLIColorizedAppender extends ConsoleAppender<ILoggingEvent> {
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes encoded events to {@code System.out}, coloured by level when picocli detects an ANSI terminal. The escape
+ * codes are written around the encoded bytes, so events are never decoded, formatted or parsed for markup.
+ * <p>
+ * In asynchronous mode events are queued and written by a single background thread, so logging threads don't wait
+ * for the console. When the queue is full DEBUG and TRACE events are dropped; INFO and above wait for room.
+ */
+public class PicoCLIColorizedAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+
+    private static final byte[] BLUE = ansi(34);
+    private static final byte[] GREEN = ansi(32);
+    private static final byte[] YELLOW = ansi(33);
+    private static final byte[] RED = ansi(31);
+    private static final byte[] RESET = ansi(0);
+    private static final long STOP_TIMEOUT_MILLIS = 5000;
+
+    private Encoder<ILoggingEvent> encoder;
+    private CommandLine.Help.Ansi ansi = CommandLine.Help.Ansi.AUTO;
+    private boolean async;
+    private int queueSize = DEFAULT_QUEUE_SIZE;
+
+    private boolean colored;
+    private BlockingQueue<ILoggingEvent> queue;
+    private Thread writer;
+    Thread shutdownHook;
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    @Override
+    public void start() {
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + getName() + "]");
+            return;
+        }
+        colored = ansi.enabled();
+        if (async) {
+            queue = new ArrayBlockingQueue<>(queueSize);
+            writer = new Thread(this::writeQueuedEvents, "log-writer");
+            writer.setDaemon(true);
+            writer.start();
+            // main() ends with System.exit(), which must not lose the events still in the queue
+            shutdownHook = new Thread(this::stop, "log-writer-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        if (writer != null) {
+            writer.interrupt();
+            try {
+                writer.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            long dropped = droppedEvents.get();
+            if (dropped > 0) {
+                addWarn(dropped + " DEBUG and TRACE log events were dropped because the log queue was full");
+            }
+            writer = null;
+            queue = null;
+        }
+        // Logback stops and starts appenders again when it's reconfigured, which mustn't pile up hooks
+        if (shutdownHook != null && Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // The JVM is already shutting down, and the hook has nothing left to write
+            }
+        }
+        shutdownHook = null;
+    }
+
     @Override
     protected void append(ILoggingEvent event) {
-        String formattedMessage = new String(encoder.encode(event));
-        String colorizedMessage = getColorizedMessage(event, formattedMessage);
-        System.out.print(colorizedMessage);
-    }
-
-    private String getColorizedMessage(ILoggingEvent event, String formattedMessage) {
-        String template = switch (event.getLevel().toInt()) {
-            case Level.DEBUG_INT -> "@|blue %s|@"; // Blue for DEBUG
-            case Level.INFO_INT -> "@|green %s|@"; // Green for INFO
-            case Level.WARN_INT -> "@|yellow %s|@"; // Yellow for WARN
-            case Level.ERROR_INT -> "@|red %s|@"; // Red for ERROR
-            default -> "%s";
+        if (queue == null) {
+            write(event);
+            return;
+        }
+
+        // The event is written on another thread, after the logging thread has moved on
+        event.prepareForDeferredProcessing();
+        if (event.getLevel().toInt() < Level.INFO_INT) {
+            if (!queue.offer(event)) {
+                droppedEvents.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write(event);
+        }
+    }
+
+    private void writeQueuedEvents() {
+        try {
+            while (true) {
+                writeWithoutFlush(queue.take());
+                // Flush once per burst of events rather than once per event
+                drainQueue();
+            }
+        } catch (InterruptedException e) {
+            // stop() is waiting for the remaining events
+            drainQueue();
+        }
+    }
+
+    private void drainQueue() {
+        for (ILoggingEvent event = queue.poll(); event != null; event = queue.poll()) {
+            writeWithoutFlush(event);
+        }
+        System.out.flush();
+    }
+
+    private void write(ILoggingEvent event) {
+        writeWithoutFlush(event);
+        System.out.flush();
+    }
+
+    private void writeWithoutFlush(ILoggingEvent event) {
+        byte[] bytes = encoder.encode(event);
+        byte[] color = colored ? getColor(event.getLevel()) : null;
+        PrintStream out = System.out;
+        // PrintStream locks on itself, so the color, message and reset of an event stay together
+        synchronized (out) {
+            if (color != null) {
+                out.write(color, 0, color.length);
+            }
+            out.write(bytes, 0, bytes.length);
+            if (color != null) {
+                out.write(RESET, 0, RESET.length);
+            }
+        }
+    }
+
+    private static byte[] getColor(Level level) {
+        return switch (level.toInt()) {
+            case Level.DEBUG_INT -> BLUE;
+            case Level.INFO_INT -> GREEN;
+            case Level.WARN_INT -> YELLOW;
+            case Level.ERROR_INT -> RED;
+            default -> null;
         };
-        return CommandLine.Help.Ansi.AUTO.string(String.format(template, formattedMessage));
+    }
+
+    private static byte[] ansi(int code) {
+        return ("\u001B[" + code + "m").getBytes(StandardCharsets.US_ASCII);
     }
 
     public Encoder<ILoggingEvent> getEncoder() {
@@ -32,4 +176,20 @@ public class PicoCLIColorizedAppender extends ConsoleAppender<ILoggingEvent> {
     public void setEncoder(Encoder<ILoggingEvent> encoder) {
         this.encoder = encoder;
     }
+
+    public void setAnsi(CommandLine.Help.Ansi ansi) {
+        this.ansi = ansi;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
 }
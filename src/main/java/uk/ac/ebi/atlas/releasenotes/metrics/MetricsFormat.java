@@ -0,0 +1,5 @@
+package uk.ac.ebi.atlas.releasenotes.metrics;
+
+public enum MetricsFormat {
+    JSON, PROMETHEUS
+}
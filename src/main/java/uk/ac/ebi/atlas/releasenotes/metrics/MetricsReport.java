@@ -0,0 +1,127 @@
+package uk.ac.ebi.atlas.releasenotes.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of the meters of a registry, printed as a table for {@code --profile} or written as JSON. Times are in
+ * milliseconds.
+ */
+public record MetricsReport(List<MeterSnapshot> meters) {
+
+    private static final String[] HEADERS = {"Metric", "Tags", "Count", "Total", "Mean", "Max"};
+
+    /**
+     * @param unit  unit of {@code total} and {@code max}, or of {@code value} for gauges and counters
+     * @param count number of recorded events, {@code null} for gauges and counters
+     */
+    public record MeterSnapshot(String name, Map<String, String> tags, String unit,
+                                Long count, Double total, Double max, Double value) {}
+
+    public static MetricsReport of(MeterRegistry registry) {
+        List<MeterSnapshot> meters = new ArrayList<>();
+        for (Meter meter : registry.getMeters()) {
+            MeterSnapshot snapshot = snapshot(meter);
+            if (snapshot != null) {
+                meters.add(snapshot);
+            }
+        }
+        meters.sort(Comparator.comparing(MeterSnapshot::name).thenComparing(snapshot -> snapshot.tags().toString()));
+        return new MetricsReport(meters);
+    }
+
+    public void writeJson(ObjectMapper objectMapper, File file) throws IOException {
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file, this);
+    }
+
+    public String toTable() {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(HEADERS);
+        for (MeterSnapshot meter : meters) {
+            String tags = meter.tags().entrySet().stream()
+                    .map(tag -> tag.getKey() + "=" + tag.getValue())
+                    .collect(Collectors.joining(","));
+            if (meter.count() == null) {
+                rows.add(new String[]{meter.name(), tags, "", format(meter.value(), meter.unit()), "", ""});
+            } else {
+                double mean = meter.count() == 0 ? 0 : meter.total() / meter.count();
+                rows.add(new String[]{meter.name(), tags, Long.toString(meter.count()),
+                        format(meter.total(), meter.unit()), format(mean, meter.unit()), format(meter.max(), meter.unit())});
+            }
+        }
+
+        int[] widths = new int[HEADERS.length];
+        for (String[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                widths[i] = Math.max(widths[i], row[i].length());
+            }
+        }
+
+        StringBuilder table = new StringBuilder();
+        for (String[] row : rows) {
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < row.length; i++) {
+                // Names and tags aligned left, numbers right
+                line.append(i < 2 ? padRight(row[i], widths[i]) : padLeft(row[i], widths[i])).append("  ");
+            }
+            table.append(line.toString().stripTrailing()).append('\n');
+        }
+        return table.toString();
+    }
+
+    private static MeterSnapshot snapshot(Meter meter) {
+        String name = meter.getId().getName();
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (Tag tag : meter.getId().getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+
+        if (meter instanceof Timer timer) {
+            return new MeterSnapshot(name, tags, "ms", timer.count(),
+                    timer.totalTime(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS), null);
+        }
+        if (meter instanceof DistributionSummary summary) {
+            return new MeterSnapshot(name, tags, meter.getId().getBaseUnit(), summary.count(),
+                    summary.totalAmount(), summary.max(), null);
+        }
+        if (meter instanceof Counter counter) {
+            return new MeterSnapshot(name, tags, meter.getId().getBaseUnit(), null, null, null, counter.count());
+        }
+        if (meter instanceof Gauge gauge) {
+            return new MeterSnapshot(name, tags, meter.getId().getBaseUnit(), null, null, null, gauge.value());
+        }
+        return null;
+    }
+
+    private static String format(double amount, String unit) {
+        String number = !"ms".equals(unit) && amount == Math.rint(amount)
+                ? Long.toString((long) amount)
+                : String.format(Locale.ROOT, "%.1f", amount);
+        return unit == null ? number : number + " " + unit;
+    }
+
+    private static String padRight(String value, int width) {
+        return value + " ".repeat(width - value.length());
+    }
+
+    private static String padLeft(String value, int width) {
+        return " ".repeat(width - value.length()) + value;
+    }
+}
@@ -0,0 +1,73 @@
+package uk.ac.ebi.atlas.releasenotes.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import uk.ac.ebi.atlas.releasenotes.http.GitHubRateLimiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters recorded on the hot paths of a run, registered with Micrometer's global registry. Recording is off until
+ * {@link #enable()} is called for {@code --profile} or {@code --metrics-file}, so other runs don't load Micrometer.
+ */
+public final class ReleaseNotesMetrics {
+
+    public static final String RUN = "releasenotes.run";
+    public static final String TOKEN_LOOKUP = "releasenotes.token.lookup";
+    public static final String HTTP_REQUESTS = "releasenotes.http.requests";
+    public static final String HTTP_RESPONSE_SIZE = "releasenotes.http.response.size";
+    public static final String RATE_LIMIT_REMAINING = "releasenotes.github.rate.limit.remaining";
+    public static final String JSON_DECODE = "releasenotes.json.decode";
+    public static final String RANGE_RESOLUTION = "releasenotes.range.resolution";
+    public static final String CLASSIFICATION = "releasenotes.classification";
+    public static final String RENDERING = "releasenotes.rendering";
+
+    private static volatile boolean enabled;
+
+    private ReleaseNotesMetrics() {
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, a {@link System#nanoTime()} reading, with the given
+     * alternating tag keys and values.
+     */
+    public static void recordSince(long startNanos, String name, String... tags) {
+        if (!enabled) {
+            return;
+        }
+        Timer.builder(name)
+                .tags(tags)
+                .register(Metrics.globalRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static void recordResponseSize(long bytes, String endpoint) {
+        if (!enabled) {
+            return;
+        }
+        DistributionSummary.builder(HTTP_RESPONSE_SIZE)
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .register(Metrics.globalRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * Reports the requests left in the current rate limit window, as of the latest response seen by the rate limiter.
+     */
+    public static void bindRateLimiter(GitHubRateLimiter rateLimiter) {
+        Gauge.builder(RATE_LIMIT_REMAINING, rateLimiter, GitHubRateLimiter::getRemaining)
+                .strongReference(true)
+                .register(Metrics.globalRegistry);
+    }
+}
@@ -0,0 +1,61 @@
+package uk.ac.ebi.atlas.releasenotes.range;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Restrictions on the commits of a range that GitHub's commits endpoint applies itself, so the commits that don't match
+ * are never sent.
+ *
+ * @param paths  files or directories one of which the commits must touch; empty for any
+ * @param author GitHub login or email address of the author; {@code null} for any
+ * @param since  earliest commit date; {@code null} for no limit
+ * @param until  latest commit date; {@code null} for no limit
+ */
+public record CommitFilter(List<String> paths, String author, Instant since, Instant until) {
+
+    public static final CommitFilter NONE = new CommitFilter(List.of(), null, null, null);
+
+    public CommitFilter {
+        paths = paths == null ? List.of() : List.copyOf(paths);
+    }
+
+    public boolean isEmpty() {
+        return paths.isEmpty() && author == null && since == null && until == null;
+    }
+
+    /**
+     * Returns this filter with its earliest date moved to {@code date}, unless it's already later.
+     */
+    public CommitFilter withSinceNoEarlierThan(Instant date) {
+        if (date == null || (since != null && since.isAfter(date))) {
+            return this;
+        }
+        return new CommitFilter(paths, author, date, until);
+    }
+
+    /**
+     * Returns the query parameters of the commits endpoint for one of the paths, or for none if {@code path} is
+     * {@code null}. Parameters without a value are left out, and the others are always in the same order, so the
+     * same filter makes the same request URL.
+     */
+    public Map<String, Object> toQueryParameters(String path) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (path != null) {
+            parameters.put("path", path);
+        }
+        if (author != null) {
+            parameters.put("author", author);
+        }
+        if (since != null) {
+            parameters.put("since", since.toString());
+        }
+        if (until != null) {
+            parameters.put("until", until.toString());
+        }
+        return Collections.unmodifiableMap(parameters);
+    }
+}
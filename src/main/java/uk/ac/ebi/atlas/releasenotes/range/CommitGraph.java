@@ -0,0 +1,178 @@
+package uk.ac.ebi.atlas.releasenotes.range;
+
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.store.CommitTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Index of a history, newest first, by SHA and by parent. Commits are identified by their position in the history:
+ * the SHAs are kept sorted next to their positions, so full and abbreviated SHAs are found with a binary search, and
+ * the parents of each commit are an array of positions, so a walk of the graph touches no strings. Walks mark the
+ * commits they visit in a {@link BitSet}. A {@link CommitTable} is indexed by the table itself, on its packed SHAs.
+ */
+public final class CommitGraph<T extends CommitView> {
+
+    // Position of a parent outside the history, or of the parents of a commit that didn't report them
+    private static final int MISSING = -1;
+    private static final int[] UNKNOWN_PARENTS = {MISSING};
+
+    private final List<T> history;
+    private final ToIntFunction<String> shaIndex;
+    private final int[][] parents;
+
+    private CommitGraph(List<T> history, ToIntFunction<String> shaIndex, int[][] parents) {
+        this.history = history;
+        this.shaIndex = shaIndex;
+        this.parents = parents;
+    }
+
+    public static <T extends CommitView> CommitGraph<T> of(List<T> history) {
+        int size = history.size();
+        IndexEntry[] entries = new IndexEntry[size];
+        for (int position = 0; position < size; position++) {
+            entries[position] = new IndexEntry(history.get(position).sha(), position);
+        }
+        Arrays.sort(entries, Comparator.comparing(IndexEntry::sha));
+
+        String[] sortedShas = new String[size];
+        int[] sortedPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedShas[i] = entries[i].sha();
+            sortedPositions[i] = entries[i].position();
+        }
+
+        int[][] parents = new int[size][];
+        for (int position = 0; position < size; position++) {
+            parents[position] = getParentPositions(sortedShas, sortedPositions, history.get(position).parents());
+        }
+        return new CommitGraph<>(history, sha -> indexOf(sortedShas, sortedPositions, sha), parents);
+    }
+
+    public static CommitGraph<CommitView> of(CommitTable table) {
+        int[][] parents = new int[table.size()][];
+        for (int row = 0; row < parents.length; row++) {
+            int[] parentRows = table.getParentRows(row);
+            parents[row] = parentRows == null ? UNKNOWN_PARENTS : parentRows;
+        }
+        return new CommitGraph<>(table, table::indexOf, parents);
+    }
+
+    public int size() {
+        return history.size();
+    }
+
+    public T get(int position) {
+        return history.get(position);
+    }
+
+    /**
+     * Returns the position of the commit whose SHA is or starts with {@code sha}, or -1 if there's none. When an
+     * abbreviated SHA matches several commits, the newest one is returned.
+     */
+    public int indexOf(String sha) {
+        return shaIndex.applyAsInt(sha);
+    }
+
+    private static int indexOf(String[] sortedShas, int[] sortedPositions, String sha) {
+        int found = Arrays.binarySearch(sortedShas, sha);
+        if (found >= 0) {
+            return sortedPositions[found];
+        }
+
+        int position = -1;
+        for (int i = -found - 1; i < sortedShas.length && sortedShas[i].startsWith(sha); i++) {
+            if (position == -1 || sortedPositions[i] < position) {
+                position = sortedPositions[i];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Marks the commits reachable from {@code start} in {@code visited}, without going past the commits that are
+     * already marked. Returns false if the walk reached a commit whose parents aren't all in the graph.
+     */
+    public boolean walk(int start, BitSet visited) {
+        if (visited.get(start)) {
+            return true;
+        }
+
+        boolean complete = true;
+        int[] stack = new int[16];
+        int top = 0;
+        visited.set(start);
+        stack[top++] = start;
+        while (top > 0) {
+            for (int parent : parents[stack[--top]]) {
+                if (parent == MISSING) {
+                    complete = false;
+                } else if (!visited.get(parent)) {
+                    visited.set(parent);
+                    if (top == stack.length) {
+                        stack = Arrays.copyOf(stack, top * 2);
+                    }
+                    stack[top++] = parent;
+                }
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Returns the commits reachable from {@code until} but not from {@code since}, newest first, followed by the
+     * {@code since} commit itself. Returns {@code null} if {@code since} isn't an ancestor of {@code until}, or if the
+     * range can't be told from the graph because some of its commits have parents outside it.
+     */
+    public List<T> range(int since, int until) {
+        BitSet sinceAncestors = new BitSet(size());
+        walk(since, sinceAncestors);
+        BitSet reached = (BitSet) sinceAncestors.clone();
+        if (!walk(until, reached)) {
+            return null;
+        }
+        reached.andNot(sinceAncestors);
+
+        // Every path from until to since goes through a commit that has since as a parent
+        boolean reachesSince = until == since;
+        List<T> range = new ArrayList<>(reached.cardinality() + 1);
+        for (int position = reached.nextSetBit(0); position >= 0; position = reached.nextSetBit(position + 1)) {
+            range.add(history.get(position));
+            reachesSince |= hasParent(position, since);
+        }
+        if (!reachesSince) {
+            return null;
+        }
+        range.add(history.get(since));
+        return range;
+    }
+
+    private boolean hasParent(int position, int parent) {
+        for (int candidate : parents[position]) {
+            if (candidate == parent) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] getParentPositions(String[] sortedShas, int[] sortedPositions, List<CommitParent> commitParents) {
+        if (commitParents == null) {
+            return UNKNOWN_PARENTS;
+        }
+        int[] positions = new int[commitParents.size()];
+        for (int i = 0; i < positions.length; i++) {
+            int found = Arrays.binarySearch(sortedShas, commitParents.get(i).sha());
+            positions[i] = found >= 0 ? sortedPositions[found] : MISSING;
+        }
+        return positions;
+    }
+
+    private record IndexEntry(String sha, int position) {}
+}
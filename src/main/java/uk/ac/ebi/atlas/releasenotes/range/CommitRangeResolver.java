@@ -0,0 +1,139 @@
+package uk.ac.ebi.atlas.releasenotes.range;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.exception.CommitNotInHistoryException;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static uk.ac.ebi.atlas.releasenotes.GitHubClient.DEFAULT_PAGE_SIZE;
+
+/**
+ * Resolves the commits of a {@code since..until} range with GitHub's compare endpoint. The first page reports the
+ * total number of commits, so any remaining pages are requested concurrently.
+ */
+@Slf4j
+public class CommitRangeResolver {
+
+    public static final int DEFAULT_MAX_PARALLEL_PAGES = 4;
+
+    private static final Set<String> RESOLVABLE_STATUSES = Set.of("ahead", "identical");
+
+    private final GitHubClient gitHubClient;
+    private final int maxParallelPages;
+
+    public CommitRangeResolver(GitHubClient gitHubClient) {
+        this(gitHubClient, DEFAULT_MAX_PARALLEL_PAGES);
+    }
+
+    public CommitRangeResolver(GitHubClient gitHubClient, int maxParallelPages) {
+        if (maxParallelPages < 1) {
+            throw new IllegalArgumentException("maxParallelPages must be positive, was " + maxParallelPages);
+        }
+        this.gitHubClient = gitHubClient;
+        this.maxParallelPages = maxParallelPages;
+    }
+
+    /**
+     * Returns the commits reachable from {@code untilCommit} but not from {@code sinceCommit}, newest first,
+     * followed by the {@code sinceCommit} itself.
+     */
+    public List<Commit> resolve(String owner, String repo, String sinceCommit, String untilCommit) {
+        List<Commit> commits = resolveAfter(owner, repo, sinceCommit, untilCommit);
+        commits.add(gitHubClient.getCommit(owner, repo, sinceCommit));
+        return commits;
+    }
+
+    /**
+     * Returns the commits reachable from {@code untilCommit} but not from {@code sinceCommit}, newest first.
+     */
+    public List<Commit> resolveAfter(String owner, String repo, String sinceCommit, String untilCommit) {
+        CommitComparison firstPage = gitHubClient.compareCommits(owner, repo, sinceCommit, untilCommit, 1, DEFAULT_PAGE_SIZE);
+        return collectPages(owner, repo, sinceCommit, untilCommit, firstPage);
+    }
+
+    /**
+     * Same as {@link #resolveAfter}, but returns {@code null} instead of throwing if {@code sinceCommit} isn't an
+     * ancestor of {@code untilCommit}.
+     */
+    protected List<Commit> resolveAfterIfAncestor(String owner, String repo, String sinceCommit, String untilCommit) {
+        CommitComparison firstPage = gitHubClient.compareCommits(owner, repo, sinceCommit, untilCommit, 1, DEFAULT_PAGE_SIZE);
+        return isResolvable(firstPage) ? collectPages(owner, repo, sinceCommit, untilCommit, firstPage) : null;
+    }
+
+    private List<Commit> collectPages(String owner, String repo, String sinceCommit, String untilCommit,
+                                      CommitComparison firstPage) {
+        int pageCount = getPageCount(firstPage, sinceCommit, untilCommit);
+        log.debug("Comparing {}...{} in {}/{}: {} commits in {} pages",
+                sinceCommit, untilCommit, owner, repo, firstPage.totalCommits(), pageCount);
+
+        List<Commit> commits = new ArrayList<>(firstPage.totalCommits() + 1);
+        commits.addAll(firstPage.commits());
+        if (pageCount > 1) {
+            commits.addAll(fetchRemainingPages(owner, repo, sinceCommit, untilCommit, pageCount));
+        }
+
+        // The compare endpoint lists commits oldest first and leaves out the base commit
+        Collections.reverse(commits);
+        return commits;
+    }
+
+    /**
+     * Returns the number of pages of a comparison, or throws if {@code sinceCommit} isn't an ancestor of
+     * {@code untilCommit}.
+     */
+    public static int getPageCount(CommitComparison firstPage, String sinceCommit, String untilCommit) {
+        if (!isResolvable(firstPage)) {
+            throw new CommitNotInHistoryException("Couldn't find start commit [%s] in the history of [%s] (comparison status: %s)"
+                    .formatted(sinceCommit, untilCommit, firstPage.status()));
+        }
+        return (firstPage.totalCommits() + DEFAULT_PAGE_SIZE - 1) / DEFAULT_PAGE_SIZE;
+    }
+
+    private static boolean isResolvable(CommitComparison firstPage) {
+        return RESOLVABLE_STATUSES.contains(firstPage.status());
+    }
+
+    private List<Commit> fetchRemainingPages(String owner, String repo, String base, String head, int pageCount) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxParallelPages, pageCount - 1));
+        try {
+            List<Future<CommitComparison>> pages = new ArrayList<>(pageCount - 1);
+            for (int pageNum = 2; pageNum <= pageCount; pageNum++) {
+                int page = pageNum;
+                pages.add(executor.submit(() ->
+                        gitHubClient.compareCommits(owner, repo, base, head, page, DEFAULT_PAGE_SIZE)));
+            }
+
+            List<Commit> commits = new ArrayList<>();
+            for (Future<CommitComparison> page : pages) {
+                commits.addAll(getPage(page).commits());
+            }
+            return commits;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static CommitComparison getPage(Future<CommitComparison> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching commit comparison pages", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error fetching commit comparison page: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package uk.ac.ebi.atlas.releasenotes.range;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Resolves the commits of a {@code since..until} range that match a {@link CommitFilter}, with the filter applied by
+ * GitHub's commits endpoint. The compare endpoint can't filter, so the filtered history of {@code until} is listed
+ * from the date of the {@code since} commit, and the filtered commits of {@code since} from that date on are taken
+ * out of it. Each path is listed on its own, concurrently, and the lists are merged by SHA.
+ * <p>
+ * Commits of the range dated before the {@code since} commit, such as those of a long-lived branch merged into it,
+ * are left out.
+ */
+@Slf4j
+public class FilteredCommitRangeResolver extends CommitRangeResolver {
+
+    private static final Comparator<Commit> NEWEST_FIRST = Comparator.comparing(
+            FilteredCommitRangeResolver::getDate, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final GitHubClient gitHubClient;
+    private final CommitFilter commitFilter;
+    private final int maxParallelPaths;
+
+    public FilteredCommitRangeResolver(GitHubClient gitHubClient, CommitFilter commitFilter) {
+        this(gitHubClient, commitFilter, DEFAULT_MAX_PARALLEL_PAGES);
+    }
+
+    public FilteredCommitRangeResolver(GitHubClient gitHubClient, CommitFilter commitFilter, int maxParallelPaths) {
+        super(gitHubClient, maxParallelPaths);
+        this.gitHubClient = gitHubClient;
+        this.commitFilter = commitFilter;
+        this.maxParallelPaths = maxParallelPaths;
+    }
+
+    @Override
+    public List<Commit> resolve(String owner, String repo, String sinceCommit, String untilCommit) {
+        Commit since = gitHubClient.getCommit(owner, repo, sinceCommit);
+        List<Commit> commits = resolveAfter(owner, repo, since, untilCommit);
+        commits.add(since);
+        return commits;
+    }
+
+    @Override
+    public List<Commit> resolveAfter(String owner, String repo, String sinceCommit, String untilCommit) {
+        return resolveAfter(owner, repo, gitHubClient.getCommit(owner, repo, sinceCommit), untilCommit);
+    }
+
+    private List<Commit> resolveAfter(String owner, String repo, Commit since, String untilCommit) {
+        CommitFilter window = commitFilter.withSinceNoEarlierThan(getDate(since));
+        List<String> paths = window.paths().isEmpty() ? Arrays.asList((String) null) : window.paths();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxParallelPaths, paths.size() * 2));
+        try {
+            List<Future<List<Commit>>> untilHistories = new ArrayList<>(paths.size());
+            List<Future<List<Commit>>> sinceHistories = new ArrayList<>(paths.size());
+            for (String path : paths) {
+                Map<String, Object> filter = window.toQueryParameters(path);
+                untilHistories.add(executor.submit(() -> gitHubClient.getFilteredCommits(owner, repo, untilCommit, filter)));
+                sinceHistories.add(executor.submit(() -> gitHubClient.getFilteredCommits(owner, repo, since.sha(), filter)));
+            }
+
+            Map<String, Commit> commits = merge(untilHistories);
+            int matching = commits.size();
+            commits.keySet().removeAll(merge(sinceHistories).keySet());
+            log.debug("Listing {}...{} in {}/{} filtered by {}: {} commits, {} of them before {}",
+                    since.sha(), untilCommit, owner, repo, window, matching, matching - commits.size(), since.sha());
+
+            List<Commit> range = new ArrayList<>(commits.values());
+            if (paths.size() > 1) {
+                // Each path is listed newest first, so the merged list has to be sorted again
+                range.sort(NEWEST_FIRST);
+            }
+            return range;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, Commit> merge(List<Future<List<Commit>>> histories) {
+        Map<String, Commit> commits = new LinkedHashMap<>();
+        for (Future<List<Commit>> history : histories) {
+            for (Commit commit : getHistory(history)) {
+                commits.putIfAbsent(commit.sha(), commit);
+            }
+        }
+        return commits;
+    }
+
+    private static Instant getDate(Commit commit) {
+        return commit.commit() != null && commit.commit().author() != null ? commit.commit().author().date() : null;
+    }
+
+    private static List<Commit> getHistory(Future<List<Commit>> history) {
+        try {
+            return history.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching filtered commits", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error fetching filtered commits: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
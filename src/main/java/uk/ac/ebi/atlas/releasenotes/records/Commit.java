@@ -1,3 +1,20 @@
 package uk.ac.ebi.atlas.releasenotes.records;
 
-public record Commit(String sha, CommitDetails commit, String htmlUrl) {}
+import java.util.List;
+
+/**
+ * @param parents the parents of the commit, first parent first; {@code null} when the source didn't report them
+ */
+public record Commit(String sha, CommitDetails commit, String htmlUrl, List<PullRequest> pullRequests,
+                     List<CommitParent> parents) implements CommitView {
+
+    @Override
+    public String subject() {
+        return commit.subject();
+    }
+
+    @Override
+    public String authorEmail() {
+        return commit.author() != null ? commit.author().email() : null;
+    }
+}
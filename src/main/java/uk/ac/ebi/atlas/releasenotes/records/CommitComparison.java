@@ -0,0 +1,5 @@
+package uk.ac.ebi.atlas.releasenotes.records;
+
+import java.util.List;
+
+public record CommitComparison(String status, int totalCommits, List<Commit> commits) {}
@@ -1,3 +1,12 @@
 package uk.ac.ebi.atlas.releasenotes.records;
 
-public record CommitDetails(String message, Author author) {}
+public record CommitDetails(String message, Author author) {
+
+    /**
+     * The first line of the commit message.
+     */
+    public String subject() {
+        int endOfLine = message.indexOf('\n');
+        return endOfLine == -1 ? message : message.substring(0, endOfLine);
+    }
+}
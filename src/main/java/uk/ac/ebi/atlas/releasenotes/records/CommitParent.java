@@ -0,0 +1,3 @@
+package uk.ac.ebi.atlas.releasenotes.records;
+
+public record CommitParent(String sha) {}
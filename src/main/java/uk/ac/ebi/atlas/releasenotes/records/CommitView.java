@@ -0,0 +1,24 @@
+package uk.ac.ebi.atlas.releasenotes.records;
+
+import java.util.List;
+
+/**
+ * What release notes are made of: the parts of a commit that are classified and rendered, whether it's held as a
+ * {@link Commit} or as a row of a {@link uk.ac.ebi.atlas.releasenotes.store.CommitTable}.
+ */
+public interface CommitView {
+    String sha();
+
+    /**
+     * The first line of the commit message.
+     */
+    String subject();
+
+    String authorEmail();
+
+    String htmlUrl();
+
+    List<PullRequest> pullRequests();
+
+    List<CommitParent> parents();
+}
@@ -0,0 +1,5 @@
+package uk.ac.ebi.atlas.releasenotes.records;
+
+import java.util.List;
+
+public record PullRequest(int number, String title, String htmlUrl, String author, List<String> labels) {}
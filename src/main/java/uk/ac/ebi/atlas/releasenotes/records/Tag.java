@@ -0,0 +1,6 @@
+package uk.ac.ebi.atlas.releasenotes.records;
+
+public record Tag(String name, CommitReference commit) {
+
+    public record CommitReference(String sha) {}
+}
@@ -0,0 +1,7 @@
+package uk.ac.ebi.atlas.releasenotes.render;
+
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+
+import java.util.List;
+
+public record ChangelogEntry(String version, List<ReleaseSection> sections) {}
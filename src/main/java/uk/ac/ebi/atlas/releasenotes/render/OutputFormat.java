@@ -0,0 +1,38 @@
+package uk.ac.ebi.atlas.releasenotes.render;
+
+import uk.ac.ebi.atlas.releasenotes.render.template.SlackRenderer;
+import uk.ac.ebi.atlas.releasenotes.render.template.TemplateFormat;
+import uk.ac.ebi.atlas.releasenotes.render.template.TemplateFormats;
+
+import java.util.function.Supplier;
+
+public enum OutputFormat implements ReleaseNotesFormat {
+    MARKDOWN(TemplateFormats.MARKDOWN),
+    HTML(TemplateFormats.HTML),
+    JSON(TemplateFormats.JSON),
+    ASCIIDOC(TemplateFormats.ASCIIDOC),
+    // Slack's limits on blocks and their texts can't be kept by templates
+    SLACK(".slack.json", () -> SlackRenderer.INSTANCE);
+
+    private final String extension;
+    private final Supplier<ReleaseNotesRenderer> renderer;
+
+    OutputFormat(TemplateFormat templateFormat) {
+        this(templateFormat.getExtension(), templateFormat::getRenderer);
+    }
+
+    OutputFormat(String extension, Supplier<ReleaseNotesRenderer> renderer) {
+        this.extension = extension;
+        this.renderer = renderer;
+    }
+
+    @Override
+    public String getExtension() {
+        return extension;
+    }
+
+    @Override
+    public ReleaseNotesRenderer getRenderer() {
+        return renderer.get();
+    }
+}
@@ -0,0 +1,16 @@
+package uk.ac.ebi.atlas.releasenotes.render;
+
+/**
+ * Format release notes can be rendered in: one of the {@link OutputFormat}s, or a template supplied by the user.
+ */
+public interface ReleaseNotesFormat {
+
+    String name();
+
+    /**
+     * Returns the extension, including the dot, appended to the name of the files written in this format.
+     */
+    String getExtension();
+
+    ReleaseNotesRenderer getRenderer();
+}
@@ -0,0 +1,115 @@
+package uk.ac.ebi.atlas.releasenotes.render;
+
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules;
+import uk.ac.ebi.atlas.releasenotes.classify.CommitClassifier;
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.metrics.ReleaseNotesMetrics;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.timeline.Release;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReleaseNotesGenerator {
+
+    private final CommitClassifier commitClassifier;
+
+    public ReleaseNotesGenerator() {
+        this(CommitClassifier.compile(ClassificationRules.DEFAULT));
+    }
+
+    public ReleaseNotesGenerator(CommitClassifier commitClassifier) {
+        this.commitClassifier = commitClassifier;
+    }
+
+    public String generateReleaseNotes(List<? extends CommitView> commits, GitHubProject project, String releaseVersion, ReleaseNotesFormat format) {
+        StringWriter releaseNotes = new StringWriter();
+        try {
+            renderReleaseNotes(commits, project, releaseVersion, format, releaseNotes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return releaseNotes.toString();
+    }
+
+    /**
+     * Streams the release notes into {@code outputFile} with the format's extension appended, and returns that file.
+     */
+    public File writeReleaseNotes(List<? extends CommitView> commits, GitHubProject project, String releaseVersion, ReleaseNotesFormat format,
+                                  File outputFile) throws IOException {
+        return writeSections(commitClassifier.classify(commits), project, releaseVersion, format, outputFile);
+    }
+
+    /**
+     * Like {@link #writeReleaseNotes}, for commits that have already been sorted into sections.
+     */
+    public File writeSections(List<ReleaseSection> sections, GitHubProject project, String releaseVersion,
+                              ReleaseNotesFormat format, File outputFile) throws IOException {
+        File outputFileWithExtension = new File(outputFile.getAbsolutePath() + format.getExtension());
+        try (Writer writer = Files.newBufferedWriter(outputFileWithExtension.toPath(), StandardCharsets.UTF_8)) {
+            renderSections(sections, project, releaseVersion, format, writer);
+        }
+        return outputFileWithExtension;
+    }
+
+    public void renderReleaseNotes(List<? extends CommitView> commits, GitHubProject project, String releaseVersion, ReleaseNotesFormat format,
+                                   Writer writer) throws IOException {
+        renderSections(commitClassifier.classify(commits), project, releaseVersion, format, writer);
+    }
+
+    public void renderSections(List<ReleaseSection> sections, GitHubProject project, String releaseVersion,
+                               ReleaseNotesFormat format, Writer writer) throws IOException {
+        long startNanos = System.nanoTime();
+        try {
+            format.getRenderer().render(sections, project, releaseVersion, writer);
+        } finally {
+            ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.RENDERING, "format", format.name());
+        }
+    }
+
+    public String generateChangelog(List<Release> releases, GitHubProject project, ReleaseNotesFormat format) {
+        StringWriter changelog = new StringWriter();
+        try {
+            renderChangelog(releases, project, format, changelog);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return changelog.toString();
+    }
+
+    /**
+     * Streams the notes of all {@code releases} into {@code outputFile} with the format's extension appended, and
+     * returns that file.
+     */
+    public File writeChangelog(List<Release> releases, GitHubProject project, ReleaseNotesFormat format, File outputFile)
+            throws IOException {
+        File outputFileWithExtension = new File(outputFile.getAbsolutePath() + format.getExtension());
+        try (Writer writer = Files.newBufferedWriter(outputFileWithExtension.toPath(), StandardCharsets.UTF_8)) {
+            renderChangelog(releases, project, format, writer);
+        }
+        return outputFileWithExtension;
+    }
+
+    public void renderChangelog(List<Release> releases, GitHubProject project, ReleaseNotesFormat format, Writer writer)
+            throws IOException {
+        List<ChangelogEntry> entries = new ArrayList<>(releases.size());
+        for (Release release : releases) {
+            entries.add(new ChangelogEntry(release.version(), commitClassifier.classify(release.commits())));
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            format.getRenderer().renderChangelog(entries, project, writer);
+        } finally {
+            ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.RENDERING, "format", format.name());
+        }
+    }
+}
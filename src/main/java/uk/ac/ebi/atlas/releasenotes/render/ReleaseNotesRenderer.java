@@ -0,0 +1,17 @@
+package uk.ac.ebi.atlas.releasenotes.render;
+
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public interface ReleaseNotesRenderer {
+    void render(List<ReleaseSection> sections, GitHubProject project, String releaseVersion, Writer writer) throws IOException;
+
+    /**
+     * Renders several releases, newest first, as one document. Sections without commits are left out.
+     */
+    void renderChangelog(List<ChangelogEntry> entries, GitHubProject project, Writer writer) throws IOException;
+}
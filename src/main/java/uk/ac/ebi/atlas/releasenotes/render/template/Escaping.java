@@ -0,0 +1,117 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+/**
+ * How the values of a template's variables are escaped. Values are appended to the output a character at a time
+ * only when they contain a character to escape.
+ */
+public enum Escaping {
+    /**
+     * Values are written as they are, so Markdown in commit messages is kept.
+     */
+    NONE {
+        @Override
+        boolean needsEscaping(char c) {
+            return false;
+        }
+
+        @Override
+        void appendEscaped(char c, StringBuilder buffer) {
+            buffer.append(c);
+        }
+    },
+
+    HTML {
+        @Override
+        boolean needsEscaping(char c) {
+            return c == '&' || c == '<' || c == '>' || c == '"' || c == '\'';
+        }
+
+        @Override
+        void appendEscaped(char c, StringBuilder buffer) {
+            switch (c) {
+                case '&' -> buffer.append("&amp;");
+                case '<' -> buffer.append("&lt;");
+                case '>' -> buffer.append("&gt;");
+                case '"' -> buffer.append("&quot;");
+                case '\'' -> buffer.append("&#39;");
+                default -> buffer.append(c);
+            }
+        }
+    },
+
+    /**
+     * Values are written as the contents of a JSON string.
+     */
+    JSON {
+        @Override
+        boolean needsEscaping(char c) {
+            return c < 0x20 || c == '"' || c == '\\';
+        }
+
+        @Override
+        void appendEscaped(char c, StringBuilder buffer) {
+            appendJsonEscaped(c, buffer);
+        }
+    },
+
+    /**
+     * Values are written as the contents of a JSON string in Slack's {@code mrkdwn}, which reserves {@code &},
+     * {@code <} and {@code >} for links and mentions.
+     */
+    SLACK {
+        @Override
+        boolean needsEscaping(char c) {
+            return JSON.needsEscaping(c) || c == '&' || c == '<' || c == '>';
+        }
+
+        @Override
+        void appendEscaped(char c, StringBuilder buffer) {
+            switch (c) {
+                case '&' -> buffer.append("&amp;");
+                case '<' -> buffer.append("&lt;");
+                case '>' -> buffer.append("&gt;");
+                default -> appendJsonEscaped(c, buffer);
+            }
+        }
+    };
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    abstract boolean needsEscaping(char c);
+
+    abstract void appendEscaped(char c, StringBuilder buffer);
+
+    public void append(CharSequence value, StringBuilder buffer) {
+        int length = value.length();
+        int start = 0;
+        while (start < length && !needsEscaping(value.charAt(start))) {
+            start++;
+        }
+        buffer.append(value, 0, start);
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (needsEscaping(c)) {
+                appendEscaped(c, buffer);
+            } else {
+                buffer.append(c);
+            }
+        }
+    }
+
+    private static void appendJsonEscaped(char c, StringBuilder buffer) {
+        switch (c) {
+            case '"' -> buffer.append("\\\"");
+            case '\\' -> buffer.append("\\\\");
+            case '\n' -> buffer.append("\\n");
+            case '\r' -> buffer.append("\\r");
+            case '\t' -> buffer.append("\\t");
+            default -> {
+                if (c < 0x20) {
+                    buffer.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+                } else {
+                    buffer.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+/**
+ * What the variables of a template are read from. A renderer moves it along the document as it goes, instead of
+ * creating a context per section and commit.
+ */
+final class RenderContext {
+
+    GitHubProject project;
+    String version;
+    String section;
+    CommitView commit;
+
+    RenderContext(GitHubProject project) {
+        this.project = project;
+    }
+}
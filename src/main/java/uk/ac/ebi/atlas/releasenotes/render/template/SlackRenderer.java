@@ -0,0 +1,202 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.PullRequest;
+import uk.ac.ebi.atlas.releasenotes.render.ChangelogEntry;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesRenderer;
+import uk.ac.ebi.atlas.releasenotes.render.template.TemplateVariable.Scope;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders release notes as a Slack Block Kit message, which can be posted to a webhook as it is. Each section is a
+ * {@code mrkdwn} section block, continued in another block before its text grows past {@link #MAX_TEXT_LENGTH}
+ * characters. Messages with more than {@link #MAX_BLOCKS} blocks are cut short, and their last block counts the
+ * commits left out. Texts are measured escaped, which is never shorter than what Slack counts.
+ */
+public final class SlackRenderer implements ReleaseNotesRenderer {
+
+    public static final SlackRenderer INSTANCE = new SlackRenderer();
+
+    static final int MAX_BLOCKS = 50;
+    static final int MAX_TEXT_LENGTH = 3000;
+
+    private static final String NEWLINE = "\\n";
+    private static final String DESCRIPTION = "{{#description}}" + NEWLINE + "{{description}}{{/description}}";
+
+    private final Template header = compile("header",
+            "*Release Notes for {{project}}{{#version}} - {{version}}{{/version}}*" + DESCRIPTION, Scope.DOCUMENT);
+    private final Template changelogHeader = compile("changelog_header",
+            "*Changelog for {{project}}*" + DESCRIPTION, Scope.DOCUMENT);
+    private final Template release = compile("release", "*{{version}}*", Scope.DOCUMENT);
+    private final Template section = compile("section", "*{{section}}*", Scope.SECTION);
+    private final Template continuedSection = compile("continued_section", "*{{section}} (continued)*", Scope.SECTION);
+    private final Template commit = compile("commit",
+            "\u2022 {{#url}}<{{url}}|{{short_sha}}>{{/url}}{{^url}}{{short_sha}}{{/url}} {{subject}}" +
+                    "{{#author}} (by {{author}}){{/author}}", Scope.COMMIT);
+
+    private SlackRenderer() {
+    }
+
+    @Override
+    public void render(List<ReleaseSection> sections, GitHubProject project, String releaseVersion, Writer writer) throws IOException {
+        RenderContext context = new RenderContext(project);
+        context.version = releaseVersion;
+        List<Block> blocks = new ArrayList<>();
+
+        blocks.add(new Block(render(header, context), 0));
+        for (ReleaseSection releaseSection : sections) {
+            addSection(releaseSection, context, blocks);
+        }
+        write(blocks, writer);
+    }
+
+    @Override
+    public void renderChangelog(List<ChangelogEntry> entries, GitHubProject project, Writer writer) throws IOException {
+        RenderContext context = new RenderContext(project);
+        List<Block> blocks = new ArrayList<>();
+
+        blocks.add(new Block(render(changelogHeader, context), 0));
+        for (ChangelogEntry entry : entries) {
+            context.version = entry.version();
+            blocks.add(Block.DIVIDER);
+            blocks.add(new Block(render(release, context), 0));
+            for (ReleaseSection releaseSection : entry.sections()) {
+                if (!releaseSection.commits().isEmpty()) {
+                    addSection(releaseSection, context, blocks);
+                }
+            }
+        }
+        write(blocks, writer);
+    }
+
+    private void addSection(ReleaseSection releaseSection, RenderContext context, List<Block> blocks) {
+        context.section = releaseSection.title();
+        StringBuilder text = render(section, context);
+        int maxLineLength = MAX_TEXT_LENGTH - render(continuedSection, context).length() - NEWLINE.length();
+        int commits = 0;
+
+        for (CommitView commitView : releaseSection.commits()) {
+            StringBuilder line = renderCommit(commitView, maxLineLength, context);
+            if (text.length() + NEWLINE.length() + line.length() > MAX_TEXT_LENGTH) {
+                blocks.add(new Block(text, commits));
+                text = render(continuedSection, context);
+                commits = 0;
+            }
+            text.append(NEWLINE).append(line);
+            commits++;
+        }
+
+        blocks.add(new Block(text, commits));
+        context.section = null;
+    }
+
+    // A line too long for a block of its own is rendered again with as much of its subject as fits
+    private StringBuilder renderCommit(CommitView commitView, int maxLineLength, RenderContext context) {
+        context.commit = commitView;
+        StringBuilder line = render(commit, context);
+        if (line.length() > maxLineLength) {
+            String subject = commitView.subject();
+            StringBuilder escaped = new StringBuilder();
+            Escaping.SLACK.append(subject, escaped);
+            int maxSubjectLength = maxLineLength - (line.length() - escaped.length()) - 1;
+
+            escaped.setLength(0);
+            int end = 0;
+            while (end < subject.length()) {
+                int next = end + Character.charCount(subject.codePointAt(end));
+                Escaping.SLACK.append(subject.subSequence(end, next), escaped);
+                if (escaped.length() > maxSubjectLength) {
+                    break;
+                }
+                end = next;
+            }
+            context.commit = new ShortenedCommit(commitView, subject.substring(0, end) + "\u2026");
+            line = render(commit, context);
+        }
+        context.commit = null;
+        return line;
+    }
+
+    private static void write(List<Block> blocks, Writer writer) throws IOException {
+        if (blocks.size() > MAX_BLOCKS) {
+            int omittedCommits = blocks.subList(MAX_BLOCKS - 1, blocks.size()).stream().mapToInt(Block::commits).sum();
+            blocks = new ArrayList<>(blocks.subList(0, MAX_BLOCKS - 1));
+            while (blocks.get(blocks.size() - 1) == Block.DIVIDER) {
+                blocks.remove(blocks.size() - 1);
+            }
+            String summary = "_\u2026and " + omittedCommits + (omittedCommits == 1 ? " more commit_" : " more commits_");
+            blocks.add(new Block(summary, 0));
+        }
+
+        StringBuilder buffer = new StringBuilder("{\"blocks\":[");
+        for (int i = 0; i < blocks.size(); i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            blocks.get(i).appendTo(buffer);
+        }
+        buffer.append("]}");
+        writer.append(buffer);
+    }
+
+    private static StringBuilder render(Template template, RenderContext context) {
+        StringBuilder text = new StringBuilder();
+        template.render(context, text);
+        return text;
+    }
+
+    private static Template compile(String name, String source, Scope scope) {
+        return Template.compile(name, source, Escaping.SLACK, scope);
+    }
+
+    /**
+     * A block of the message: a divider, or a section whose text is already escaped.
+     */
+    private record Block(CharSequence text, int commits) {
+
+        static final Block DIVIDER = new Block(null, 0);
+
+        void appendTo(StringBuilder buffer) {
+            if (text == null) {
+                buffer.append("{\"type\":\"divider\"}");
+            } else {
+                buffer.append("{\"type\":\"section\",\"text\":{\"type\":\"mrkdwn\",\"text\":\"").append(text).append("\"}}");
+            }
+        }
+    }
+
+    private record ShortenedCommit(CommitView commit, String subject) implements CommitView {
+
+        @Override
+        public String sha() {
+            return commit.sha();
+        }
+
+        @Override
+        public String authorEmail() {
+            return commit.authorEmail();
+        }
+
+        @Override
+        public String htmlUrl() {
+            return commit.htmlUrl();
+        }
+
+        @Override
+        public List<PullRequest> pullRequests() {
+            return commit.pullRequests();
+        }
+
+        @Override
+        public List<CommitParent> parents() {
+            return commit.parents();
+        }
+    }
+}
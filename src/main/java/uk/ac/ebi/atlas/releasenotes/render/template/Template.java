@@ -0,0 +1,139 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Template compiled into the segments it's made of, so rendering appends literals and variable values to a buffer
+ * without parsing anything. {@code {{name}}} is replaced by the value of a variable, escaped;
+ * {@code {{#name}}...{{/name}}} is only rendered if the variable has a value that isn't blank, and
+ * {@code {{^name}}...{{/name}}} only if it hasn't. Templates are compiled for a {@link TemplateVariable.Scope}, and
+ * can only refer to the variables set in it.
+ */
+final class Template {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final Segment[] segments;
+
+    private Template(Segment[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the template called {@code name}, which is only named in error messages. Throws an
+     * {@link IllegalArgumentException} if it refers to an unknown variable or to a variable that isn't set in
+     * {@code scope}, or if it has unclosed tags or sections.
+     */
+    static Template compile(String name, String source, Escaping escaping, TemplateVariable.Scope scope) {
+        if (source == null || source.isEmpty()) {
+            return new Template(new Segment[0]);
+        }
+
+        Deque<OpenSection> openSections = new ArrayDeque<>();
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open == -1) {
+                literal.append(source, position, source.length());
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close == -1) {
+                throw new IllegalArgumentException("Unclosed {{ at offset " + open + " of template: " + source);
+            }
+            literal.append(source, position, open);
+            position = close + CLOSE.length();
+
+            String tag = source.substring(open + OPEN.length(), close).strip();
+            char kind = tag.isEmpty() ? ' ' : tag.charAt(0);
+            if (kind == '#' || kind == '^' || kind == '/') {
+                tag = tag.substring(1).strip();
+            }
+            TemplateVariable variable = TemplateVariable.of(tag);
+            if (!variable.isSetIn(scope)) {
+                throw new IllegalArgumentException("Template variable {{%s}} isn't set in the %s template"
+                        .formatted(tag, name));
+            }
+
+            if (!literal.isEmpty()) {
+                segments.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+            switch (kind) {
+                case '#', '^' -> {
+                    openSections.push(new OpenSection(tag, variable, kind == '^', segments));
+                    segments = new ArrayList<>();
+                }
+                case '/' -> {
+                    OpenSection section = openSections.poll();
+                    if (section == null || section.variable() != variable) {
+                        throw new IllegalArgumentException("Unexpected {{/%s}} in template: %s".formatted(tag, source));
+                    }
+                    Segment[] body = segments.toArray(new Segment[0]);
+                    segments = section.enclosingSegments();
+                    segments.add(new Section(variable, section.inverted(), body));
+                }
+                default -> segments.add(new Variable(variable, escaping));
+            }
+        }
+
+        if (!openSections.isEmpty()) {
+            throw new IllegalArgumentException("Unclosed section {{#%s}} in template: %s"
+                    .formatted(openSections.peek().tag(), source));
+        }
+        if (!literal.isEmpty()) {
+            segments.add(new Literal(literal.toString()));
+        }
+        return new Template(segments.toArray(new Segment[0]));
+    }
+
+    void render(RenderContext context, StringBuilder buffer) {
+        render(segments, context, buffer);
+    }
+
+    private static void render(Segment[] segments, RenderContext context, StringBuilder buffer) {
+        for (Segment segment : segments) {
+            segment.render(context, buffer);
+        }
+    }
+
+    private interface Segment {
+        void render(RenderContext context, StringBuilder buffer);
+    }
+
+    private record Literal(String text) implements Segment {
+        @Override
+        public void render(RenderContext context, StringBuilder buffer) {
+            buffer.append(text);
+        }
+    }
+
+    private record Variable(TemplateVariable variable, Escaping escaping) implements Segment {
+        @Override
+        public void render(RenderContext context, StringBuilder buffer) {
+            CharSequence value = variable.get(context);
+            if (value != null) {
+                escaping.append(value, buffer);
+            }
+        }
+    }
+
+    private record Section(TemplateVariable variable, boolean inverted, Segment[] body) implements Segment {
+        @Override
+        public void render(RenderContext context, StringBuilder buffer) {
+            CharSequence value = variable.get(context);
+            boolean present = value != null && !value.toString().isBlank();
+            if (present != inverted) {
+                Template.render(body, context, buffer);
+            }
+        }
+    }
+
+    private record OpenSection(String tag, TemplateVariable variable, boolean inverted, List<Segment> enclosingSegments) {}
+}
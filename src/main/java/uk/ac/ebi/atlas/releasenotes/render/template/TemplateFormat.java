@@ -0,0 +1,67 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesFormat;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesRenderer;
+
+/**
+ * Templates a format is made of, which are rendered in this order: the {@code header}, then each section as its
+ * {@code section} template, its commits joined by {@code commitSeparator}, and {@code sectionEnd}, with
+ * {@code sectionSeparator} between sections, and the {@code footer}. Changelogs start with {@code changelogHeader}
+ * and render each release as {@code release}, its non-empty sections with {@code changelogSection}, and
+ * {@code releaseEnd}, with {@code releaseSeparator} between releases. Missing templates render nothing, except for
+ * the changelog ones, which default to their release notes counterparts.
+ * <p>
+ * Templates can refer to {@code {{project}}}, {@code {{description}}}, {@code {{project_url}}} and
+ * {@code {{version}}} anywhere, to {@code {{section}}} in {@code section}, {@code changelogSection},
+ * {@code sectionEnd} and the commit templates, and to {@code {{sha}}}, {@code {{short_sha}}}, {@code {{subject}}},
+ * {@code {{author}}} and {@code {{url}}} in {@code commit} and {@code commitSeparator}, which is rendered with the
+ * commit after it. Compiling a template that refers to a variable outside these throws an
+ * {@link IllegalArgumentException}.
+ *
+ * @param name      name of the format, used to tag its metrics
+ * @param extension extension of the files written in this format, including the dot
+ * @param escaping  how variable values are escaped; literal text is never escaped
+ */
+public record TemplateFormat(String name,
+                             String extension,
+                             Escaping escaping,
+                             String header,
+                             String changelogHeader,
+                             String release,
+                             String releaseSeparator,
+                             String releaseEnd,
+                             String section,
+                             String changelogSection,
+                             String sectionSeparator,
+                             String sectionEnd,
+                             String commit,
+                             String commitSeparator,
+                             String footer) implements ReleaseNotesFormat {
+
+    public TemplateFormat {
+        if (commit == null) {
+            throw new IllegalArgumentException("Template formats need a commit template");
+        }
+        name = (name != null) ? name : "custom";
+        extension = (extension != null) ? extension : ".txt";
+        escaping = (escaping != null) ? escaping : Escaping.NONE;
+        changelogHeader = (changelogHeader != null) ? changelogHeader : header;
+        changelogSection = (changelogSection != null) ? changelogSection : section;
+    }
+
+    @JsonIgnore
+    @Override
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the renderer of this format, which is compiled on first use and cached.
+     */
+    @JsonIgnore
+    @Override
+    public ReleaseNotesRenderer getRenderer() {
+        return TemplateRenderer.of(this);
+    }
+}
@@ -0,0 +1,71 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+/**
+ * Templates of the built-in output formats.
+ */
+public final class TemplateFormats {
+
+    public static final TemplateFormat MARKDOWN = markdown();
+    public static final TemplateFormat HTML = html();
+    public static final TemplateFormat JSON = json();
+    public static final TemplateFormat ASCIIDOC = asciiDoc();
+
+    private TemplateFormats() {
+    }
+
+    private static TemplateFormat markdown() {
+        String description = "{{#description}}\n**{{description}}**{{/description}}";
+        String header = "\n# Release Notes for {{project}}{{#version}} - {{version}}{{/version}}" + description;
+        String changelogHeader = "\n# Changelog for {{project}}" + description;
+        String release = "\n\n## {{version}}";
+        String section = "\n\n##{{section}}\n";
+        String changelogSection = "\n\n###{{section}}\n";
+        String commit = "* **[{{short_sha}}]({{#url}}{{url}}{{/url}}{{^url}}#{{/url}})** {{subject}} " +
+                "(by {{#author}}{{author}}{{/author}}{{^author}}unknown{{/author}})";
+
+        return new TemplateFormat("MARKDOWN", ".md", Escaping.NONE, header, changelogHeader, release, null, null,
+                section, changelogSection, null, null, commit, "\n", null);
+    }
+
+    private static TemplateFormat html() {
+        String style = "<style>body { font-family: sans-serif; }h1, h2, h3 { color: #333; }" +
+                "ul { list-style: disc; padding-left: 2em; }li { margin-bottom: 0.5em; }</style>";
+        String description = "{{#description}}<p><strong>{{description}}</strong></p>{{/description}}";
+        String title = "Release Notes for {{project}}{{#version}} - {{version}}{{/version}}";
+        String changelogTitle = "Changelog for {{project}}";
+        String header = "<!DOCTYPE html><html><head><title>" + title + "</title>" + style + "</head><body>" +
+                "<h1>" + title + "</h1>" + description;
+        String changelogHeader = "<!DOCTYPE html><html><head><title>" + changelogTitle + "</title>" + style +
+                "</head><body><h1>" + changelogTitle + "</h1>" + description;
+        String commit = "<li><a href='{{#url}}{{url}}{{/url}}{{^url}}#{{/url}}'>{{short_sha}}</a> {{subject}} " +
+                "(by {{#author}}{{author}}{{/author}}{{^author}}unknown{{/author}})</li>";
+
+        return new TemplateFormat("HTML", ".html", Escaping.HTML, header, changelogHeader, "<h2>{{version}}</h2>",
+                null, null, "<h2>{{section}}</h2><ul>", "<h3>{{section}}</h3><ul>", null, "</ul>", commit, null,
+                "</body></html>");
+    }
+
+    private static TemplateFormat json() {
+        String project = "{\"project\":\"{{project}}\"{{#description}},\"description\":\"{{description}}\"{{/description}}";
+        String header = project + "{{#version}},\"version\":\"{{version}}\"{{/version}},\"sections\":[";
+        String changelogHeader = project + ",\"releases\":[";
+        String release = "{\"version\":\"{{version}}\",\"sections\":[";
+        String section = "{\"title\":\"{{section}}\",\"commits\":[";
+        String commit = "{\"sha\":\"{{sha}}\",\"subject\":\"{{subject}}\"" +
+                "{{#author}},\"author\":\"{{author}}\"{{/author}}{{#url}},\"url\":\"{{url}}\"{{/url}}}";
+
+        return new TemplateFormat("JSON", ".json", Escaping.JSON, header, changelogHeader, release, ",", "]}",
+                section, null, ",", "]}", commit, ",", "]}");
+    }
+
+    private static TemplateFormat asciiDoc() {
+        String description = "{{#description}}\n*{{description}}*\n{{/description}}";
+        String header = "= Release Notes for {{project}}{{#version}} - {{version}}{{/version}}\n" + description;
+        String changelogHeader = "= Changelog for {{project}}\n" + description;
+        String commit = "* {{#url}}{{url}}[{{short_sha}}]{{/url}}{{^url}}{{short_sha}}{{/url}} {{subject}} " +
+                "(by {{#author}}{{author}}{{/author}}{{^author}}unknown{{/author}})";
+
+        return new TemplateFormat("ASCIIDOC", ".adoc", Escaping.NONE, header, changelogHeader, "\n== {{version}}\n",
+                null, null, "\n== {{section}}\n\n", "\n=== {{section}}\n\n", null, "\n", commit, "\n", null);
+    }
+}
@@ -0,0 +1,133 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.render.ChangelogEntry;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesRenderer;
+import uk.ac.ebi.atlas.releasenotes.render.template.TemplateVariable.Scope;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders release notes with the compiled templates of a {@link TemplateFormat}. The whole document is appended to
+ * one buffer, which is handed to the writer whenever it grows past {@link #FLUSH_THRESHOLD} characters.
+ */
+public final class TemplateRenderer implements ReleaseNotesRenderer {
+
+    static final int FLUSH_THRESHOLD = 8192;
+
+    private static final Map<TemplateFormat, TemplateRenderer> COMPILED = new ConcurrentHashMap<>();
+
+    private final Template header;
+    private final Template changelogHeader;
+    private final Template release;
+    private final Template releaseSeparator;
+    private final Template releaseEnd;
+    private final Template section;
+    private final Template changelogSection;
+    private final Template sectionSeparator;
+    private final Template sectionEnd;
+    private final Template commit;
+    private final Template commitSeparator;
+    private final Template footer;
+
+    private TemplateRenderer(TemplateFormat format) {
+        Escaping escaping = format.escaping();
+        header = Template.compile("header", format.header(), escaping, Scope.DOCUMENT);
+        changelogHeader = Template.compile("changelog_header", format.changelogHeader(), escaping, Scope.DOCUMENT);
+        release = Template.compile("release", format.release(), escaping, Scope.DOCUMENT);
+        releaseSeparator = Template.compile("release_separator", format.releaseSeparator(), escaping, Scope.DOCUMENT);
+        releaseEnd = Template.compile("release_end", format.releaseEnd(), escaping, Scope.DOCUMENT);
+        section = Template.compile("section", format.section(), escaping, Scope.SECTION);
+        changelogSection = Template.compile("changelog_section", format.changelogSection(), escaping, Scope.SECTION);
+        sectionSeparator = Template.compile("section_separator", format.sectionSeparator(), escaping, Scope.DOCUMENT);
+        sectionEnd = Template.compile("section_end", format.sectionEnd(), escaping, Scope.SECTION);
+        commit = Template.compile("commit", format.commit(), escaping, Scope.COMMIT);
+        commitSeparator = Template.compile("commit_separator", format.commitSeparator(), escaping, Scope.COMMIT);
+        footer = Template.compile("footer", format.footer(), escaping, Scope.DOCUMENT);
+    }
+
+    /**
+     * Returns the renderer of {@code format}, compiling its templates the first time. Throws an
+     * {@link IllegalArgumentException} if a template refers to an unknown variable or to one that isn't set in it, or
+     * has an unclosed section.
+     */
+    public static TemplateRenderer of(TemplateFormat format) {
+        return COMPILED.computeIfAbsent(format, TemplateRenderer::new);
+    }
+
+    @Override
+    public void render(List<ReleaseSection> sections, GitHubProject project, String releaseVersion, Writer writer) throws IOException {
+        RenderContext context = new RenderContext(project);
+        context.version = releaseVersion;
+        StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD * 2);
+
+        header.render(context, buffer);
+        for (int i = 0; i < sections.size(); i++) {
+            if (i > 0) {
+                sectionSeparator.render(context, buffer);
+            }
+            renderSection(sections.get(i), section, context, buffer, writer);
+        }
+        footer.render(context, buffer);
+        writer.append(buffer);
+    }
+
+    @Override
+    public void renderChangelog(List<ChangelogEntry> entries, GitHubProject project, Writer writer) throws IOException {
+        RenderContext context = new RenderContext(project);
+        StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD * 2);
+
+        changelogHeader.render(context, buffer);
+        for (int i = 0; i < entries.size(); i++) {
+            context.version = entries.get(i).version();
+            if (i > 0) {
+                releaseSeparator.render(context, buffer);
+            }
+            release.render(context, buffer);
+            boolean firstSection = true;
+            for (ReleaseSection releaseSection : entries.get(i).sections()) {
+                if (releaseSection.commits().isEmpty()) {
+                    continue;
+                }
+                if (!firstSection) {
+                    sectionSeparator.render(context, buffer);
+                }
+                renderSection(releaseSection, changelogSection, context, buffer, writer);
+                firstSection = false;
+            }
+            releaseEnd.render(context, buffer);
+        }
+        context.version = null;
+        footer.render(context, buffer);
+        writer.append(buffer);
+    }
+
+    private void renderSection(ReleaseSection releaseSection, Template sectionTemplate, RenderContext context,
+                               StringBuilder buffer, Writer writer) throws IOException {
+        context.section = releaseSection.title();
+        sectionTemplate.render(context, buffer);
+
+        List<? extends CommitView> commits = releaseSection.commits();
+        for (int i = 0; i < commits.size(); i++) {
+            context.commit = commits.get(i);
+            if (i > 0) {
+                commitSeparator.render(context, buffer);
+            }
+            commit.render(context, buffer);
+            if (buffer.length() >= FLUSH_THRESHOLD) {
+                writer.append(buffer);
+                buffer.setLength(0);
+            }
+        }
+        context.commit = null;
+
+        sectionEnd.render(context, buffer);
+        context.section = null;
+    }
+}
@@ -0,0 +1,70 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Variables templates can refer to, by name, and the templates they're set in.
+ */
+enum TemplateVariable {
+    PROJECT("project", Scope.DOCUMENT, context -> context.project.name()),
+    DESCRIPTION("description", Scope.DOCUMENT, context -> context.project.description()),
+    PROJECT_URL("project_url", Scope.DOCUMENT, context -> context.project.htmlUrl()),
+    VERSION("version", Scope.DOCUMENT, context -> context.version),
+    SECTION("section", Scope.SECTION, context -> context.section),
+    SHA("sha", Scope.COMMIT, context -> context.commit.sha()),
+    SHORT_SHA("short_sha", Scope.COMMIT, context -> shorten(context.commit.sha())),
+    SUBJECT("subject", Scope.COMMIT, context -> context.commit.subject()),
+    AUTHOR("author", Scope.COMMIT, context -> context.commit.authorEmail()),
+    URL("url", Scope.COMMIT, context -> context.commit.htmlUrl());
+
+    /**
+     * Templates a variable is set in: document variables are set in every template, section variables in the
+     * templates of a section and of its commits, and commit variables in the templates of a commit.
+     */
+    enum Scope {
+        DOCUMENT, SECTION, COMMIT
+    }
+
+    private static final int SHORT_SHA_LENGTH = 8;
+
+    private static final Map<String, TemplateVariable> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(variable -> variable.variableName, Function.identity()));
+
+    private final String variableName;
+    private final Scope scope;
+    private final Function<RenderContext, CharSequence> value;
+
+    TemplateVariable(String variableName, Scope scope, Function<RenderContext, CharSequence> value) {
+        this.variableName = variableName;
+        this.scope = scope;
+        this.value = value;
+    }
+
+    boolean isSetIn(Scope templateScope) {
+        return scope.compareTo(templateScope) <= 0;
+    }
+
+    /**
+     * Returns the value of this variable, or {@code null} if it has none, e.g. the description of a project that
+     * doesn't have one.
+     */
+    CharSequence get(RenderContext context) {
+        return value.apply(context);
+    }
+
+    static TemplateVariable of(String name) {
+        TemplateVariable variable = BY_NAME.get(name);
+        if (variable == null) {
+            throw new IllegalArgumentException("Unknown template variable {{%s}}, expected one of %s"
+                    .formatted(name, Arrays.stream(values()).map(known -> known.variableName).toList()));
+        }
+        return variable;
+    }
+
+    private static CharSequence shorten(String sha) {
+        return sha.length() > SHORT_SHA_LENGTH ? sha.subSequence(0, SHORT_SHA_LENGTH) : sha;
+    }
+}
@@ -0,0 +1,104 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Receives GitHub push webhooks and refreshes the history of the pushed repository in the background, so the next
+ * request for its release notes does not wait for the new commits to be fetched. Deliveries are authenticated with
+ * the {@code X-Hub-Signature-256} header, so the endpoint answers {@code 404} until
+ * {@code releasenotes.server.webhook-secret} is set. Only pushes to the configured repositories are refreshed.
+ */
+@Slf4j
+@RestController
+public class GitHubWebhookController {
+
+    private static final String SIGNATURE_PREFIX = "sha256=";
+
+    private final HistoryRefresher historyRefresher;
+    private final ObjectMapper objectMapper;
+    private final ReleaseNotesServerProperties properties;
+    private final byte[] webhookSecret;
+
+    public GitHubWebhookController(HistoryRefresher historyRefresher, ObjectMapper objectMapper,
+                                   ReleaseNotesServerProperties properties) {
+        this.historyRefresher = historyRefresher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.webhookSecret = properties.webhookSecret() == null || properties.webhookSecret().isEmpty()
+                ? null
+                : properties.webhookSecret().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PostMapping("/webhooks/github")
+    public ResponseEntity<Void> handleEvent(@RequestHeader("X-GitHub-Event") String event,
+                                            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+                                            @RequestBody byte[] payload) throws IOException {
+        if (webhookSecret == null) {
+            log.warn("Rejecting {} webhook, releasenotes.server.webhook-secret isn't set", event);
+            return ResponseEntity.notFound().build();
+        }
+        if (!isSignatureValid(payload, signature)) {
+            log.warn("Rejecting {} webhook with an invalid signature", event);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if ("ping".equals(event)) {
+            return ResponseEntity.ok().build();
+        }
+        if (!"push".equals(event)) {
+            return ResponseEntity.noContent().build();
+        }
+
+        JsonNode push = objectMapper.readTree(payload);
+        JsonNode repository = push.path("repository");
+        String defaultBranchRef = "refs/heads/" + repository.path("default_branch").asText();
+        if (!defaultBranchRef.equals(push.path("ref").asText())) {
+            return ResponseEntity.noContent().build();
+        }
+
+        String owner = repository.path("owner").path("login").asText();
+        String repo = repository.path("name").asText();
+        if (owner.isEmpty() || repo.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!properties.isRepositoryConfigured(owner, repo)) {
+            log.debug("Ignoring push to {}/{}, which isn't one of the configured repositories", owner, repo);
+            return ResponseEntity.noContent().build();
+        }
+        log.info("Push to {}/{}, refreshing its history", owner, repo);
+        historyRefresher.refreshAsync(owner, repo);
+        return ResponseEntity.accepted().build();
+    }
+
+    private boolean isSignatureValid(byte[] payload, String signature) {
+        if (signature == null || !signature.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(webhookSecret, "HmacSHA256"));
+            byte[] expected = mac.doFinal(payload);
+            byte[] actual = HexFormat.of().parseHex(signature.substring(SIGNATURE_PREFIX.length()));
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException e) {
+            return false;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
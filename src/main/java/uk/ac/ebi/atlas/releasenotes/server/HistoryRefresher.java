@@ -0,0 +1,48 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the in-memory history of the configured repositories warm: polls them every
+ * {@link ReleaseNotesServerProperties#pollInterval()} from startup on, as scheduled by
+ * {@link ReleaseNotesServerConfiguration#historyPolling}, and refreshes a single repository in the
+ * background when its webhook reports a push.
+ */
+@Slf4j
+@Component
+public class HistoryRefresher {
+
+    private final ReleaseNotesService releaseNotesService;
+    private final ReleaseNotesServerProperties properties;
+
+    public HistoryRefresher(ReleaseNotesService releaseNotesService, ReleaseNotesServerProperties properties) {
+        this.releaseNotesService = releaseNotesService;
+        this.properties = properties;
+    }
+
+    public void refreshRepositories() {
+        for (String repository : properties.repositories()) {
+            String[] ownerAndRepo = repository.split("/", 2);
+            if (ownerAndRepo.length != 2) {
+                log.warn("Ignoring repository {}, expected owner/repo", repository);
+                continue;
+            }
+            refresh(ownerAndRepo[0], ownerAndRepo[1]);
+        }
+    }
+
+    @Async
+    public void refreshAsync(String owner, String repo) {
+        refresh(owner, repo);
+    }
+
+    private void refresh(String owner, String repo) {
+        try {
+            releaseNotesService.refresh(owner, repo);
+        } catch (RuntimeException e) {
+            log.error("Error refreshing the history of {}/{}: {}", owner, repo, e.getMessage(), e);
+        }
+    }
+}
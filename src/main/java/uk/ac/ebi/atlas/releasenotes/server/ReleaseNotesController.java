@@ -0,0 +1,77 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import feign.FeignException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.ac.ebi.atlas.releasenotes.exception.CommitNotInHistoryException;
+import uk.ac.ebi.atlas.releasenotes.exception.GitHubApiException;
+import uk.ac.ebi.atlas.releasenotes.render.OutputFormat;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+@RestController
+public class ReleaseNotesController {
+
+    private static final MediaType TEXT_MARKDOWN = MediaType.valueOf("text/markdown;charset=UTF-8");
+    private static final MediaType TEXT_HTML = MediaType.valueOf("text/html;charset=UTF-8");
+    private static final MediaType TEXT_ASCIIDOC = MediaType.valueOf("text/asciidoc;charset=UTF-8");
+
+    private final ReleaseNotesService releaseNotesService;
+
+    public ReleaseNotesController(ReleaseNotesService releaseNotesService) {
+        this.releaseNotesService = releaseNotesService;
+    }
+
+    @GetMapping("/release-notes/{owner}/{repo}")
+    public ResponseEntity<String> getReleaseNotes(@PathVariable String owner,
+                                                  @PathVariable String repo,
+                                                  @RequestParam String since,
+                                                  @RequestParam String until,
+                                                  @RequestParam(required = false) String version,
+                                                  @RequestParam(defaultValue = "markdown") String format) {
+        OutputFormat outputFormat = parseFormat(format);
+        String releaseNotes = releaseNotesService.generateReleaseNotes(
+                owner, repo, since, until, version == null ? until : version, outputFormat);
+        return ResponseEntity.ok()
+                .contentType(getMediaType(outputFormat))
+                .body(releaseNotes);
+    }
+
+    @ExceptionHandler({FeignException.NotFound.class, GitHubApiException.class})
+    public ResponseEntity<String> handleNotFound(RuntimeException e) {
+        HttpStatus status = e instanceof GitHubApiException apiException && apiException.getStatus() != 404
+                ? HttpStatus.BAD_GATEWAY
+                : HttpStatus.NOT_FOUND;
+        return ResponseEntity.status(status).contentType(MediaType.TEXT_PLAIN).body(e.getMessage());
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, CommitNotInHistoryException.class})
+    public ResponseEntity<String> handleBadRequest(RuntimeException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.TEXT_PLAIN).body(e.getMessage());
+    }
+
+    private static OutputFormat parseFormat(String format) {
+        try {
+            return OutputFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown format " + format + ", expected one of "
+                    + Arrays.stream(OutputFormat.values()).map(known -> known.name().toLowerCase(Locale.ROOT)).toList());
+        }
+    }
+
+    private static MediaType getMediaType(OutputFormat format) {
+        return switch (format) {
+            case MARKDOWN -> TEXT_MARKDOWN;
+            case HTML -> TEXT_HTML;
+            case JSON, SLACK -> MediaType.APPLICATION_JSON;
+            case ASCIIDOC -> TEXT_ASCIIDOC;
+        };
+    }
+}
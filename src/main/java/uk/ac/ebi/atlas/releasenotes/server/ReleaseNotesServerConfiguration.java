@@ -0,0 +1,47 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.cache.CachingCommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.cache.InMemoryCommitStore;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesGenerator;
+
+/**
+ * Beans of the {@code serve} mode. The GitHub client is the same one the command line uses, so requests share its
+ * token, rate limiter and HTTP response cache.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableAsync
+@EnableScheduling
+@EnableConfigurationProperties(ReleaseNotesServerProperties.class)
+public class ReleaseNotesServerConfiguration {
+
+    @Bean
+    public GitHubClient gitHubClient() {
+        return ReleaseNotesApplication.getGitHubClient();
+    }
+
+    @Bean
+    public CachingCommitRangeResolver commitRangeResolver(GitHubClient gitHubClient, ReleaseNotesServerProperties properties) {
+        return new CachingCommitRangeResolver(gitHubClient, new InMemoryCommitStore(properties.maxCachedCommits()));
+    }
+
+    @Bean
+    public ReleaseNotesGenerator releaseNotesGenerator() {
+        return new ReleaseNotesGenerator();
+    }
+
+    /**
+     * Polls the configured repositories every {@code releasenotes.server.poll-interval}, starting right away.
+     */
+    @Bean
+    public SchedulingConfigurer historyPolling(HistoryRefresher historyRefresher, ReleaseNotesServerProperties properties) {
+        return taskRegistrar -> taskRegistrar.addFixedDelayTask(historyRefresher::refreshRepositories, properties.pollInterval());
+    }
+}
@@ -0,0 +1,31 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings of the {@code serve} mode.
+ *
+ * @param maxCachedCommits total number of commits kept in memory across all repositories
+ * @param repositories     repositories ({@code owner/repo}) whose default branch is polled to keep their history warm
+ * @param pollInterval     time between two polls of the repositories
+ * @param webhookSecret    secret of the GitHub webhook; webhooks are refused when it is empty
+ */
+@ConfigurationProperties(prefix = "releasenotes.server")
+public record ReleaseNotesServerProperties(@DefaultValue("200000") int maxCachedCommits,
+                                           @DefaultValue List<String> repositories,
+                                           @DefaultValue("PT5M") Duration pollInterval,
+                                           String webhookSecret) {
+
+    /**
+     * Returns whether {@code owner/repo} is one of the {@link #repositories}. GitHub names are compared ignoring
+     * case, as GitHub does.
+     */
+    public boolean isRepositoryConfigured(String owner, String repo) {
+        String repository = owner + "/" + repo;
+        return repositories.stream().anyMatch(repository::equalsIgnoreCase);
+    }
+}
@@ -0,0 +1,80 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.cache.CachingCommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.render.OutputFormat;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesGenerator;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders release notes from the in-memory history, which {@link #refresh} keeps up to date with the default branch.
+ * Project metadata is fetched once per repository and updated on refresh; the metadata of the
+ * {@value #MAX_CACHED_PROJECTS} most recently used repositories is kept.
+ */
+@Slf4j
+@Service
+public class ReleaseNotesService {
+
+    static final int MAX_CACHED_PROJECTS = 256;
+
+    private final GitHubClient gitHubClient;
+    private final CachingCommitRangeResolver commitRangeResolver;
+    private final ReleaseNotesGenerator releaseNotesGenerator;
+    private final Map<String, GitHubProject> projects = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, GitHubProject> eldest) {
+            return size() > MAX_CACHED_PROJECTS;
+        }
+    };
+
+    public ReleaseNotesService(GitHubClient gitHubClient, CachingCommitRangeResolver commitRangeResolver,
+                               ReleaseNotesGenerator releaseNotesGenerator) {
+        this.gitHubClient = gitHubClient;
+        this.commitRangeResolver = commitRangeResolver;
+        this.releaseNotesGenerator = releaseNotesGenerator;
+    }
+
+    public String generateReleaseNotes(String owner, String repo, String sinceCommit, String untilCommit,
+                                       String version, OutputFormat format) {
+        GitHubProject project = getProject(owner, repo);
+        List<Commit> commits = commitRangeResolver.resolve(owner, repo, sinceCommit, untilCommit);
+        return releaseNotesGenerator.generateReleaseNotes(commits, project, version, format);
+    }
+
+    public void refresh(String owner, String repo) {
+        GitHubProject project = gitHubClient.getProject(owner, repo);
+        synchronized (projects) {
+            projects.put(key(owner, repo), project);
+        }
+        commitRangeResolver.refresh(owner, repo, project.defaultBranch());
+        log.debug("Refreshed the history of {}/{} up to {}", owner, repo, project.defaultBranch());
+    }
+
+    // Fetched outside the lock, so a slow request doesn't hold up the other repositories
+    private GitHubProject getProject(String owner, String repo) {
+        String key = key(owner, repo);
+        synchronized (projects) {
+            GitHubProject project = projects.get(key);
+            if (project != null) {
+                return project;
+            }
+        }
+
+        GitHubProject project = gitHubClient.getProject(owner, repo);
+        synchronized (projects) {
+            GitHubProject fetchedMeanwhile = projects.putIfAbsent(key, project);
+            return fetchedMeanwhile != null ? fetchedMeanwhile : project;
+        }
+    }
+
+    private static String key(String owner, String repo) {
+        return owner + "/" + repo;
+    }
+}
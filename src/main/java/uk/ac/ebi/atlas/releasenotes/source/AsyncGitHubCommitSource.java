@@ -0,0 +1,80 @@
+package uk.ac.ebi.atlas.releasenotes.source;
+
+import uk.ac.ebi.atlas.releasenotes.AsyncGitHubClient;
+import uk.ac.ebi.atlas.releasenotes.range.CommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static uk.ac.ebi.atlas.releasenotes.GitHubClient.DEFAULT_PAGE_SIZE;
+
+/**
+ * Resolves the range through the compare endpoint like {@link CommitRangeResolver}, but requests the since commit
+ * together with the first page, and every remaining page at once; {@link AsyncGitHubClient} bounds how many of them
+ * are in flight.
+ */
+public class AsyncGitHubCommitSource implements CommitSource {
+
+    private final AsyncGitHubClient gitHubClient;
+
+    public AsyncGitHubCommitSource(AsyncGitHubClient gitHubClient) {
+        this.gitHubClient = gitHubClient;
+    }
+
+    @Override
+    public GitHubProject getProject(String owner, String repo) {
+        return await(getProjectAsync(owner, repo));
+    }
+
+    @Override
+    public CompletableFuture<GitHubProject> getProjectAsync(String owner, String repo) {
+        return gitHubClient.getProject(owner, repo);
+    }
+
+    @Override
+    public List<Commit> getCommitsInRange(String owner, String repo, String sinceCommit, String untilCommit) {
+        return await(getCommitsInRangeAsync(owner, repo, sinceCommit, untilCommit));
+    }
+
+    public CompletableFuture<List<Commit>> getCommitsInRangeAsync(String owner, String repo, String sinceCommit,
+                                                                  String untilCommit) {
+        CompletableFuture<Commit> since = gitHubClient.getCommit(owner, repo, sinceCommit);
+
+        return gitHubClient.compareCommits(owner, repo, sinceCommit, untilCommit, 1, DEFAULT_PAGE_SIZE)
+                .thenCompose(firstPage -> {
+                    int pageCount = CommitRangeResolver.getPageCount(firstPage, sinceCommit, untilCommit);
+                    List<CompletableFuture<CommitComparison>> pages = new ArrayList<>(pageCount);
+                    pages.add(CompletableFuture.completedFuture(firstPage));
+                    for (int page = 2; page <= pageCount; page++) {
+                        pages.add(gitHubClient.compareCommits(owner, repo, sinceCommit, untilCommit, page, DEFAULT_PAGE_SIZE));
+                    }
+
+                    return CompletableFuture.allOf(pages.toArray(CompletableFuture[]::new))
+                            .thenCombine(since, (ignored, sinceCommitDetails) -> {
+                                List<Commit> commits = new ArrayList<>(firstPage.totalCommits() + 1);
+                                pages.forEach(page -> commits.addAll(page.join().commits()));
+                                // The compare endpoint lists commits oldest first and leaves out the base commit
+                                Collections.reverse(commits);
+                                commits.add(sinceCommitDetails);
+                                return commits;
+                            });
+                });
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
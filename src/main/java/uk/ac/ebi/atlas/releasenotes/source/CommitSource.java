@@ -0,0 +1,48 @@
+package uk.ac.ebi.atlas.releasenotes.source;
+
+import uk.ac.ebi.atlas.releasenotes.exception.CommitNotInHistoryException;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface CommitSource {
+    GitHubProject getProject(String owner, String repo);
+
+    /**
+     * Starts fetching the project, so it can overlap with fetching the commits. Fetches it right away by default.
+     */
+    default CompletableFuture<GitHubProject> getProjectAsync(String owner, String repo) {
+        return CompletableFuture.completedFuture(getProject(owner, repo));
+    }
+
+    /**
+     * Returns the commits reachable from {@code untilCommit} but not from {@code sinceCommit}, newest first,
+     * followed by the {@code sinceCommit} itself.
+     */
+    List<Commit> getCommitsInRange(String owner, String repo, String sinceCommit, String untilCommit);
+
+    /**
+     * Returns the commits reachable from {@code untilCommit} but not from {@code sinceCommit}, newest first. Throws a
+     * {@link CommitNotInHistoryException} if {@code sinceCommit} isn't in the history of {@code untilCommit}, e.g. after a
+     * force-push.
+     * <p>
+     * By default, the range is listed with {@link #getCommitsInRange} and {@code sinceCommit}, which has to be a SHA
+     * or a prefix of one, is taken out of it. A since commit that isn't in the history of {@code untilCommit} isn't in
+     * the range either, which is how it's detected.
+     */
+    default List<Commit> getCommitsAfter(String owner, String repo, String sinceCommit, String untilCommit) {
+        List<Commit> commits = new ArrayList<>(getCommitsInRange(owner, repo, sinceCommit, untilCommit));
+        // Usually the last commit, but a history ordered by date can list older commits of merged branches after it
+        for (int i = commits.size() - 1; i >= 0; i--) {
+            if (commits.get(i).sha().startsWith(sinceCommit)) {
+                commits.remove(i);
+                return commits;
+            }
+        }
+        throw new CommitNotInHistoryException("Couldn't find start commit [%s] in the history of [%s]"
+                .formatted(sinceCommit, untilCommit));
+    }
+}
@@ -0,0 +1,38 @@
+package uk.ac.ebi.atlas.releasenotes.source;
+
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.range.CommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+import java.util.List;
+
+public class GitHubCommitSource implements CommitSource {
+
+    private final GitHubClient gitHubClient;
+    private final CommitRangeResolver commitRangeResolver;
+
+    public GitHubCommitSource(GitHubClient gitHubClient) {
+        this(gitHubClient, new CommitRangeResolver(gitHubClient));
+    }
+
+    public GitHubCommitSource(GitHubClient gitHubClient, CommitRangeResolver commitRangeResolver) {
+        this.gitHubClient = gitHubClient;
+        this.commitRangeResolver = commitRangeResolver;
+    }
+
+    @Override
+    public GitHubProject getProject(String owner, String repo) {
+        return gitHubClient.getProject(owner, repo);
+    }
+
+    @Override
+    public List<Commit> getCommitsInRange(String owner, String repo, String sinceCommit, String untilCommit) {
+        return commitRangeResolver.resolve(owner, repo, sinceCommit, untilCommit);
+    }
+
+    @Override
+    public List<Commit> getCommitsAfter(String owner, String repo, String sinceCommit, String untilCommit) {
+        return commitRangeResolver.resolveAfter(owner, repo, sinceCommit, untilCommit);
+    }
+}
@@ -0,0 +1,176 @@
+package uk.ac.ebi.atlas.releasenotes.source;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.GitHubGraphQLClient;
+import uk.ac.ebi.atlas.releasenotes.exception.CommitNotInHistoryException;
+import uk.ac.ebi.atlas.releasenotes.exception.GitHubGraphQLException;
+import uk.ac.ebi.atlas.releasenotes.range.CommitGraph;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.PullRequest;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the history of a ref through the GitHub GraphQL API. Every request returns up to 100 commits together with
+ * their associated pull requests and labels, which the REST API would need a request per commit for.
+ */
+@Slf4j
+public class GraphQLCommitSource implements CommitSource {
+
+    public static final int PAGE_SIZE = 100;
+
+    private static final String PROJECT_QUERY = """
+            query($owner: String!, $repo: String!) {
+              repository(owner: $owner, name: $repo) {
+                name
+                description
+                url
+                updatedAt
+                defaultBranchRef { name }
+              }
+            }""";
+
+    // An annotated tag is an object of its own, whose target is the commit it was made on
+    private static final String HISTORY_QUERY = """
+            query($owner: String!, $repo: String!, $until: String!, $pageSize: Int!, $cursor: String) {
+              repository(owner: $owner, name: $repo) {
+                object(expression: $until) {
+                  ... on Commit { ...history }
+                  ... on Tag { target { ... on Commit { ...history } } }
+                }
+              }
+            }
+
+            fragment history on Commit {
+              history(first: $pageSize, after: $cursor) {
+                pageInfo { hasNextPage endCursor }
+                nodes {
+                  oid
+                  message
+                  url
+                  author { email date }
+                  parents(first: 10) { nodes { oid } }
+                  associatedPullRequests(first: 5) {
+                    nodes {
+                      number
+                      title
+                      url
+                      author { login }
+                      labels(first: 20) { nodes { name } }
+                    }
+                  }
+                }
+              }
+            }""";
+
+    private final GitHubGraphQLClient gitHubGraphQLClient;
+
+    public GraphQLCommitSource(GitHubGraphQLClient gitHubGraphQLClient) {
+        this.gitHubGraphQLClient = gitHubGraphQLClient;
+    }
+
+    @Override
+    public GitHubProject getProject(String owner, String repo) {
+        JsonNode repository = query(PROJECT_QUERY, Map.of("owner", owner, "repo", repo)).path("repository");
+        if (repository.isMissingNode() || repository.isNull()) {
+            throw new GitHubGraphQLException("Repository %s/%s not found".formatted(owner, repo));
+        }
+
+        String updatedAt = repository.path("updatedAt").asText(null);
+        return new GitHubProject(
+                repository.path("defaultBranchRef").path("name").asText(null),
+                repository.path("name").asText(),
+                repository.path("description").asText(null),
+                repository.path("url").asText(null),
+                updatedAt != null ? OffsetDateTime.parse(updatedAt) : null);
+    }
+
+    @Override
+    public List<Commit> getCommitsInRange(String owner, String repo, String sinceCommit, String untilCommit) {
+        List<Commit> commits = new ArrayList<>();
+        Map<String, Object> variables = new HashMap<>(Map.of(
+                "owner", owner, "repo", repo, "until", untilCommit, "pageSize", PAGE_SIZE));
+
+        JsonNode history;
+        boolean sinceFound = false;
+        do {
+            JsonNode object = query(HISTORY_QUERY, variables).path("repository").path("object");
+            history = object.has("target") ? object.path("target").path("history") : object.path("history");
+            if (history.isMissingNode()) {
+                throw new GitHubGraphQLException("Commit [%s] not found in %s/%s".formatted(untilCommit, owner, repo));
+            }
+
+            for (JsonNode node : history.path("nodes")) {
+                Commit commit = toCommit(node);
+                commits.add(commit);
+                sinceFound |= commit.sha().startsWith(sinceCommit);
+            }
+            // The history is ordered by date, so commits of branches merged after the since commit can still follow
+            // it: the range is only complete once every commit in it has its parents in the graph
+            if (sinceFound) {
+                CommitGraph<Commit> graph = CommitGraph.of(commits);
+                List<Commit> range = graph.range(graph.indexOf(sinceCommit), 0);
+                if (range != null) {
+                    log.debug("Found {} commits in {} pages", range.size(), (commits.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+                    return range;
+                }
+            }
+            variables.put("cursor", history.path("pageInfo").path("endCursor").asText(null));
+        } while (history.path("pageInfo").path("hasNextPage").asBoolean());
+
+        throw new CommitNotInHistoryException("Couldn't find start commit [%s] in the history of [%s]".formatted(sinceCommit, untilCommit));
+    }
+
+    private JsonNode query(String query, Map<String, Object> variables) {
+        JsonNode response = gitHubGraphQLClient.query(new GitHubGraphQLClient.Query(query, variables));
+        JsonNode errors = response.path("errors");
+        if (errors.isArray() && !errors.isEmpty()) {
+            throw new GitHubGraphQLException("GraphQL query failed: " + errors.get(0).path("message").asText());
+        }
+        return response.path("data");
+    }
+
+    private static Commit toCommit(JsonNode node) {
+        JsonNode authorNode = node.path("author");
+        String authorDate = authorNode.path("date").asText(null);
+        Author author = new Author(
+                authorNode.path("email").asText(null),
+                authorDate != null ? OffsetDateTime.parse(authorDate).toInstant() : null);
+
+        List<PullRequest> pullRequests = new ArrayList<>();
+        for (JsonNode pullRequest : node.path("associatedPullRequests").path("nodes")) {
+            List<String> labels = new ArrayList<>();
+            pullRequest.path("labels").path("nodes").forEach(label -> labels.add(label.path("name").asText()));
+            pullRequests.add(new PullRequest(
+                    pullRequest.path("number").asInt(),
+                    pullRequest.path("title").asText(null),
+                    pullRequest.path("url").asText(null),
+                    pullRequest.path("author").path("login").asText(null),
+                    labels));
+        }
+
+        List<CommitParent> parents = null;
+        if (node.has("parents")) {
+            parents = new ArrayList<>(2);
+            for (JsonNode parent : node.path("parents").path("nodes")) {
+                parents.add(new CommitParent(parent.path("oid").asText()));
+            }
+        }
+
+        return new Commit(
+                node.path("oid").asText(),
+                new CommitDetails(node.path("message").asText(""), author),
+                node.path("url").asText(null),
+                pullRequests,
+                parents);
+    }
+}
@@ -0,0 +1,52 @@
+package uk.ac.ebi.atlas.releasenotes.source;
+
+import uk.ac.ebi.atlas.releasenotes.metrics.ReleaseNotesMetrics;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Times the range resolution of another {@link CommitSource}, tagged with the source's name.
+ */
+public class InstrumentedCommitSource implements CommitSource {
+
+    private final CommitSource delegate;
+    private final String sourceName;
+
+    public InstrumentedCommitSource(CommitSource delegate) {
+        this.delegate = delegate;
+        this.sourceName = delegate.getClass().getSimpleName();
+    }
+
+    @Override
+    public GitHubProject getProject(String owner, String repo) {
+        return delegate.getProject(owner, repo);
+    }
+
+    @Override
+    public CompletableFuture<GitHubProject> getProjectAsync(String owner, String repo) {
+        return delegate.getProjectAsync(owner, repo);
+    }
+
+    @Override
+    public List<Commit> getCommitsInRange(String owner, String repo, String sinceCommit, String untilCommit) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getCommitsInRange(owner, repo, sinceCommit, untilCommit);
+        } finally {
+            ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.RANGE_RESOLUTION, "source", sourceName);
+        }
+    }
+
+    @Override
+    public List<Commit> getCommitsAfter(String owner, String repo, String sinceCommit, String untilCommit) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.getCommitsAfter(owner, repo, sinceCommit, untilCommit);
+        } finally {
+            ReleaseNotesMetrics.recordSince(startNanos, ReleaseNotesMetrics.RANGE_RESOLUTION, "source", sourceName);
+        }
+    }
+}
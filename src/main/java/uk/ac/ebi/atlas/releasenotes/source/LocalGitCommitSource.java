@@ -0,0 +1,119 @@
+package uk.ac.ebi.atlas.releasenotes.source;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.exception.GitProcessException;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.ProcessBuilder.Redirect.PIPE;
+
+/**
+ * Reads commits from a local clone by streaming the output of {@code git log}, so no GitHub API calls are needed.
+ * Commit URLs are derived from the owner and repository names.
+ */
+@Slf4j
+public class LocalGitCommitSource implements CommitSource {
+
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+    private static final String LOG_FORMAT = "--format=%H%x1F%P%x1F%ae%x1F%aI%x1F%B%x1E";
+    private static final String GITHUB_URL = "https://github.com/%s/%s";
+
+    private final Path repositoryDir;
+
+    public LocalGitCommitSource(Path repositoryDir) {
+        this.repositoryDir = repositoryDir;
+    }
+
+    @Override
+    public GitHubProject getProject(String owner, String repo) {
+        return new GitHubProject(null, repo, null, GITHUB_URL.formatted(owner, repo), null);
+    }
+
+    @Override
+    public List<Commit> getCommitsInRange(String owner, String repo, String sinceCommit, String untilCommit) {
+        // <since>^@ excludes the parents of the since commit, which keeps the since commit itself in the range
+        String commitUrlTemplate = GITHUB_URL.formatted(owner, repo) + "/commit/";
+        try {
+            // stderr goes to a file, so git can't block on a full stderr pipe while stdout is being read
+            Path errorFile = Files.createTempFile("git-log", ".err");
+            try {
+                Process logProcess = new ProcessBuilder(
+                        "git", "-C", repositoryDir.toString(), "log", LOG_FORMAT, untilCommit, "--not", sinceCommit + "^@", "--")
+                        .redirectOutput(PIPE)
+                        .redirectError(errorFile.toFile())
+                        .start();
+
+                List<Commit> commits;
+                try (Reader reader = new InputStreamReader(logProcess.getInputStream(), StandardCharsets.UTF_8)) {
+                    commits = readCommits(reader, commitUrlTemplate);
+                }
+
+                int exitCode = logProcess.waitFor();
+                if (exitCode != 0) {
+                    String logError = new String(Files.readAllBytes(errorFile), StandardCharsets.UTF_8);
+                    throw new GitProcessException("git log exited with code %d: %s".formatted(exitCode, logError.strip()));
+                }
+                log.debug("Read {} commits from {}", commits.size(), repositoryDir);
+                return commits;
+            } finally {
+                Files.deleteIfExists(errorFile);
+            }
+
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new GitProcessException("git process error: " + e.getMessage(), e);
+        }
+    }
+
+    private static List<Commit> readCommits(Reader reader, String commitUrlTemplate) throws IOException {
+        List<Commit> commits = new ArrayList<>();
+        StringBuilder record = new StringBuilder();
+        char[] buffer = new char[8192];
+        for (int length = reader.read(buffer); length != -1; length = reader.read(buffer)) {
+            for (int i = 0; i < length; i++) {
+                char c = buffer[i];
+                if (c == RECORD_SEPARATOR) {
+                    commits.add(parseCommit(record, commitUrlTemplate));
+                    record.setLength(0);
+                } else if (c != '\n' || !record.isEmpty()) {
+                    // Skip the newline git prints between records
+                    record.append(c);
+                }
+            }
+        }
+        return commits;
+    }
+
+    private static Commit parseCommit(CharSequence record, String commitUrlTemplate) {
+        String[] fields = record.toString().split(String.valueOf(FIELD_SEPARATOR), 5);
+        if (fields.length != 5) {
+            throw new GitProcessException("Unexpected git log record: " + record);
+        }
+        String sha = fields[0];
+        List<CommitParent> parents = new ArrayList<>(2);
+        for (String parent : fields[1].split(" ")) {
+            // A root commit has no parents, and %P is empty
+            if (!parent.isEmpty()) {
+                parents.add(new CommitParent(parent));
+            }
+        }
+        Author author = new Author(fields[2], OffsetDateTime.parse(fields[3]).toInstant());
+        return new Commit(sha, new CommitDetails(fields[4].stripTrailing(), author), commitUrlTemplate + sha, null, parents);
+    }
+}
@@ -0,0 +1,319 @@
+package uk.ac.ebi.atlas.releasenotes.store;
+
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.PullRequest;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Column-oriented, append-only list of commits, for histories too long to keep as {@link Commit} records. Only what
+ * release notes are made of is kept, one array per column: SHAs packed as raw bytes, the subject instead of the whole
+ * message, and author emails as indices into a dictionary. Commit URLs aren't stored when they can be derived from
+ * the SHA, and the few pull requests are kept by row. Rows are read as {@link CommitView}s, which are created on
+ * access and hold nothing but their row number. Rows are found by SHA, and parents resolved to rows, on the packed
+ * bytes, through an index of the rows sorted by SHA that is built on first use.
+ */
+public final class CommitTable extends AbstractList<CommitView> implements RandomAccess {
+
+    private static final int SHA_LENGTH = 20;
+    private static final int NO_AUTHOR = -1;
+    private static final int UNKNOWN_PARENTS = -1;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private byte[] shas = new byte[INITIAL_CAPACITY * SHA_LENGTH];
+    private String[] subjects = new String[INITIAL_CAPACITY];
+    private int[] authors = new int[INITIAL_CAPACITY];
+    private int[] parentCounts = new int[INITIAL_CAPACITY];
+    // Offset of the first parent of each row in parentShas, in parents
+    private int[] parentOffsets = new int[INITIAL_CAPACITY];
+    private byte[] parentShas = new byte[INITIAL_CAPACITY * SHA_LENGTH];
+    private int size;
+    private int parentSize;
+    private int rowsWithUnknownParents;
+    // Rows sorted by SHA, for the first indexedSize rows
+    private int[] sortedRows = new int[0];
+    private int indexedSize;
+
+    private final List<String> authorEmails = new ArrayList<>();
+    private final Map<String, Integer> authorIndices = new HashMap<>();
+    private final Map<Integer, List<PullRequest>> pullRequests = new HashMap<>();
+    private final Map<Integer, String> urls = new HashMap<>();
+    private String urlPrefix;
+
+    /**
+     * Appends a commit, whose SHA must be a full one.
+     */
+    public void append(Commit commit) {
+        ensureCapacity(size + 1);
+        System.arraycopy(parseSha(commit.sha()), 0, shas, size * SHA_LENGTH, SHA_LENGTH);
+        subjects[size] = commit.subject();
+        authors[size] = indexOfAuthor(commit.authorEmail());
+        appendParents(commit.parents());
+        appendUrl(commit.sha(), commit.htmlUrl());
+        if (commit.pullRequests() != null && !commit.pullRequests().isEmpty()) {
+            pullRequests.put(size, commit.pullRequests());
+        }
+        size++;
+    }
+
+    @Override
+    public CommitView get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+        return new Row(row);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the source of every row reported its parents.
+     */
+    public boolean hasAllParents() {
+        return rowsWithUnknownParents == 0;
+    }
+
+    /**
+     * Returns the rows of the parents of {@code row}, first parent first, with -1 for the parents that aren't in the
+     * table, or {@code null} if the source of the row didn't report its parents.
+     */
+    public int[] getParentRows(int row) {
+        if (parentCounts[row] == UNKNOWN_PARENTS) {
+            return null;
+        }
+        int[] sorted = getSortedRows();
+        int[] parentRows = new int[parentCounts[row]];
+        for (int i = 0; i < parentRows.length; i++) {
+            int found = binarySearch(sorted, parentShas, (parentOffsets[row] + i) * SHA_LENGTH);
+            parentRows[i] = found >= 0 ? sorted[found] : -1;
+        }
+        return parentRows;
+    }
+
+    /**
+     * Returns the row of the commit whose SHA is or starts with {@code sha}, or -1 if there's none. When an
+     * abbreviated SHA matches several commits, the newest one is returned.
+     */
+    public int indexOf(String sha) {
+        int[] sorted = getSortedRows();
+        // Lower bound of the SHAs starting with sha
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareToPrefix(sorted[middle], sha) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        int row = -1;
+        for (int i = low; i < sorted.length && compareToPrefix(sorted[i], sha) == 0; i++) {
+            if (row == -1 || sorted[i] < row) {
+                row = sorted[i];
+            }
+        }
+        return row;
+    }
+
+    private int indexOfAuthor(String email) {
+        if (email == null) {
+            return NO_AUTHOR;
+        }
+        return authorIndices.computeIfAbsent(email, newEmail -> {
+            authorEmails.add(newEmail);
+            return authorEmails.size() - 1;
+        });
+    }
+
+    private void appendParents(List<CommitParent> parents) {
+        parentOffsets[size] = parentSize;
+        if (parents == null) {
+            parentCounts[size] = UNKNOWN_PARENTS;
+            rowsWithUnknownParents++;
+            return;
+        }
+        parentCounts[size] = parents.size();
+        if ((parentSize + parents.size()) * SHA_LENGTH > parentShas.length) {
+            parentShas = Arrays.copyOf(parentShas, Math.max(parentShas.length * 2, (parentSize + parents.size()) * SHA_LENGTH));
+        }
+        for (CommitParent parent : parents) {
+            System.arraycopy(parseSha(parent.sha()), 0, parentShas, parentSize * SHA_LENGTH, SHA_LENGTH);
+            parentSize++;
+        }
+    }
+
+    // GitHub commit URLs only differ by their SHA, so the prefix of the first one is enough for the others
+    private void appendUrl(String sha, String url) {
+        if (url == null) {
+            urls.put(size, null);
+            return;
+        }
+        if (urlPrefix == null && url.endsWith(sha)) {
+            urlPrefix = url.substring(0, url.length() - sha.length());
+        }
+        if (!url.equals(urlPrefix + sha)) {
+            urls.put(size, url);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= subjects.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, subjects.length * 2);
+        shas = Arrays.copyOf(shas, newCapacity * SHA_LENGTH);
+        subjects = Arrays.copyOf(subjects, newCapacity);
+        authors = Arrays.copyOf(authors, newCapacity);
+        parentCounts = Arrays.copyOf(parentCounts, newCapacity);
+        parentOffsets = Arrays.copyOf(parentOffsets, newCapacity);
+    }
+
+    private int[] getSortedRows() {
+        if (indexedSize != size) {
+            sortedRows = sortRows();
+            indexedSize = size;
+        }
+        return sortedRows;
+    }
+
+    // Sorts the rows by the first four bytes of their SHA, packed with the row in a long, then the few ties by the rest
+    private int[] sortRows() {
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++) {
+            long prefix = ((shas[row * SHA_LENGTH] & 0xFFL) << 24) | ((shas[row * SHA_LENGTH + 1] & 0xFFL) << 16)
+                    | ((shas[row * SHA_LENGTH + 2] & 0xFFL) << 8) | (shas[row * SHA_LENGTH + 3] & 0xFFL);
+            // Flipping the sign bit makes the signed sort order the prefixes as unsigned
+            keys[row] = (prefix << 32 | row) ^ Long.MIN_VALUE;
+        }
+        Arrays.sort(keys);
+
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = (int) keys[i];
+            for (int j = i; j > 0 && keys[j] >>> 32 == keys[j - 1] >>> 32 && compareShas(sorted[j], sorted[j - 1]) < 0; j--) {
+                int swapped = sorted[j];
+                sorted[j] = sorted[j - 1];
+                sorted[j - 1] = swapped;
+            }
+        }
+        return sorted;
+    }
+
+    private int compareShas(int row, int otherRow) {
+        return Arrays.compareUnsigned(shas, row * SHA_LENGTH, (row + 1) * SHA_LENGTH,
+                shas, otherRow * SHA_LENGTH, (otherRow + 1) * SHA_LENGTH);
+    }
+
+    private int binarySearch(int[] sorted, byte[] sha, int offset) {
+        int low = 0;
+        int high = sorted.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int row = sorted[middle];
+            int comparison = Arrays.compareUnsigned(shas, row * SHA_LENGTH, (row + 1) * SHA_LENGTH,
+                    sha, offset, offset + SHA_LENGTH);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    // Compares the hex digits of the SHA of row with those of prefix, over the length of prefix
+    private int compareToPrefix(int row, String prefix) {
+        int length = Math.min(prefix.length(), SHA_LENGTH * 2);
+        for (int i = 0; i < length; i++) {
+            int digit = (shas[row * SHA_LENGTH + i / 2] >> (i % 2 == 0 ? 4 : 0)) & 0xF;
+            int prefixDigit = Character.digit(prefix.charAt(i), 16);
+            if (digit != prefixDigit) {
+                return prefixDigit == -1 ? 1 : Integer.compare(digit, prefixDigit);
+            }
+        }
+        return prefix.length() > SHA_LENGTH * 2 ? -1 : 0;
+    }
+
+    private static byte[] parseSha(String sha) {
+        byte[] bytes = HEX.parseHex(sha);
+        if (bytes.length != SHA_LENGTH) {
+            throw new IllegalArgumentException("Not a full commit SHA: " + sha);
+        }
+        return bytes;
+    }
+
+    private static String formatSha(byte[] bytes, int row) {
+        return HEX.formatHex(bytes, row * SHA_LENGTH, (row + 1) * SHA_LENGTH);
+    }
+
+    private final class Row implements CommitView {
+
+        private final int row;
+
+        private Row(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String sha() {
+            return formatSha(shas, row);
+        }
+
+        @Override
+        public String subject() {
+            return subjects[row];
+        }
+
+        @Override
+        public String authorEmail() {
+            return authors[row] == NO_AUTHOR ? null : authorEmails.get(authors[row]);
+        }
+
+        @Override
+        public String htmlUrl() {
+            if (urls.containsKey(row)) {
+                return urls.get(row);
+            }
+            return urlPrefix + sha();
+        }
+
+        @Override
+        public List<PullRequest> pullRequests() {
+            return pullRequests.get(row);
+        }
+
+        @Override
+        public List<CommitParent> parents() {
+            if (parentCounts[row] == UNKNOWN_PARENTS) {
+                return null;
+            }
+            List<CommitParent> parents = new ArrayList<>(parentCounts[row]);
+            for (int i = 0; i < parentCounts[row]; i++) {
+                parents.add(new CommitParent(formatSha(parentShas, parentOffsets[row] + i)));
+            }
+            return parents;
+        }
+
+        @Override
+        public String toString() {
+            return sha() + " " + subject();
+        }
+    }
+}
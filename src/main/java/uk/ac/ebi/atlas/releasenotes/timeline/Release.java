@@ -0,0 +1,11 @@
+package uk.ac.ebi.atlas.releasenotes.timeline;
+
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+
+import java.util.List;
+
+/**
+ * Commits of one release, newest first: the tagged commit and the commits after the previous tag. The commits after
+ * the newest tag form an unreleased entry, whose {@code tag} is {@code null}.
+ */
+public record Release(String version, String tag, List<? extends CommitView> commits) {}
@@ -0,0 +1,163 @@
+package uk.ac.ebi.atlas.releasenotes.timeline;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.range.CommitGraph;
+import uk.ac.ebi.atlas.releasenotes.range.CommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.Tag;
+import uk.ac.ebi.atlas.releasenotes.store.CommitTable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static uk.ac.ebi.atlas.releasenotes.GitHubClient.DEFAULT_PAGE_SIZE;
+
+/**
+ * Splits the history of a branch into releases at its tags. The history is fetched once, page by page, however many
+ * tags there are, so a changelog of every release costs as much as the history itself. Each page is moved into a
+ * {@link CommitTable} as it arrives, so a long history isn't held as commit records. The releases after a tag are
+ * split from the comparison of the tag with the branch instead, which lists every commit the tag doesn't reach,
+ * however far down the history of the branch they are.
+ */
+@Slf4j
+public class TagTimeline {
+
+    public static final String UNRELEASED = "Unreleased";
+
+    private final GitHubClient gitHubClient;
+
+    public TagTimeline(GitHubClient gitHubClient) {
+        this.gitHubClient = gitHubClient;
+    }
+
+    /**
+     * Returns the releases in the history of {@code ref}, newest first. With a {@code sinceTag}, only the commits
+     * that tag doesn't reach are fetched, and the releases after it are returned.
+     */
+    public List<Release> getReleases(String owner, String repo, String ref, String sinceTag) {
+        List<Tag> tags = gitHubClient.getTags(owner, repo);
+        log.debug("Found {} tags in {}/{}", tags.size(), owner, repo);
+
+        CommitTable history = new CommitTable();
+        if (sinceTag == null) {
+            gitHubClient.forEachUntil(DEFAULT_PAGE_SIZE, page -> gitHubClient.getCommitsPage(owner, repo, ref, page),
+                    commit -> false, history::append);
+            return split(history, tags, null);
+        }
+
+        String sinceSha = tags.stream()
+                .filter(tag -> tag.name().equals(sinceTag))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Tag " + sinceTag + " not found in " + owner + "/" + repo))
+                .commit()
+                .sha();
+        // The history of a branch lists the tagged commit before older commits of branches merged after it
+        new CommitRangeResolver(gitHubClient).resolve(owner, repo, sinceSha, ref).forEach(history::append);
+        return split(history, tags, sinceSha);
+    }
+
+    /**
+     * Splits {@code history}, newest first, into a release per tagged commit: each release has the commits its tag
+     * reaches and no older tag does. Tags outside the history are ignored; when several tags point to the same commit,
+     * the first one listed names the release. The history either ends at the first commit of the repository, or
+     * has the commits {@code sinceSha} doesn't reach followed by {@code sinceSha}, whose release is left out.
+     */
+    static <T extends CommitView> List<Release> split(List<T> history, List<Tag> tags, String sinceSha) {
+        boolean hasAllParents = history.stream().allMatch(commit -> commit.parents() != null);
+        return split(CommitGraph.of(history), hasAllParents, tags, sinceSha);
+    }
+
+    /**
+     * Same as {@link #split(List, List, String)}, with the graph indexed on the packed SHAs of the table, so no SHA
+     * of the history is read as a string.
+     */
+    static List<Release> split(CommitTable history, List<Tag> tags, String sinceSha) {
+        return split(CommitGraph.of(history), history.hasAllParents(), tags, sinceSha);
+    }
+
+    private static List<Release> split(CommitGraph<?> graph, boolean hasAllParents, List<Tag> tags, String sinceSha) {
+        Map<Integer, String> tagsByPosition = new HashMap<>();
+        for (Tag tag : tags) {
+            int position = graph.indexOf(tag.commit().sha());
+            if (position != -1) {
+                tagsByPosition.putIfAbsent(position, tag.name());
+            }
+        }
+        int since = sinceSha == null ? -1 : graph.indexOf(sinceSha);
+        if (!hasAllParents) {
+            return splitInOrder(graph, tagsByPosition, since);
+        }
+
+        BitSet released = new BitSet(graph.size());
+        if (since != -1) {
+            graph.walk(since, released);
+        }
+
+        // Only a whole history has the parents of every commit; after since, the missing ones are ancestors of since
+        boolean wholeHistory = since == -1;
+
+        // Oldest tag first, so every commit goes to the oldest release that reaches it
+        List<Release> releases = new ArrayList<>();
+        for (int position = graph.size() - 1; position >= 0; position--) {
+            String tag = tagsByPosition.get(position);
+            if (tag != null && !released.get(position)) {
+                releases.add(new Release(tag, tag, walk(graph, position, released, wholeHistory)));
+            }
+        }
+        if (graph.size() > 0 && !released.get(0)) {
+            releases.add(new Release(UNRELEASED, null, walk(graph, 0, released, wholeHistory)));
+        }
+        Collections.reverse(releases);
+        return releases;
+    }
+
+    private static List<CommitView> walk(CommitGraph<?> graph, int start, BitSet released, boolean wholeHistory) {
+        BitSet reached = (BitSet) released.clone();
+        if (!graph.walk(start, reached) && wholeHistory) {
+            log.warn("Parents of commits reached from {} are missing from the history, so its release is incomplete",
+                    graph.get(start).sha());
+        }
+        reached.andNot(released);
+        released.or(reached);
+
+        List<CommitView> commits = new ArrayList<>(reached.cardinality());
+        for (int position = reached.nextSetBit(0); position >= 0; position = reached.nextSetBit(position + 1)) {
+            commits.add(graph.get(position));
+        }
+        return commits;
+    }
+
+    /**
+     * Splits a history whose commits don't carry their parents in the order it's listed.
+     */
+    private static List<Release> splitInOrder(CommitGraph<?> graph, Map<Integer, String> tagsByPosition, int since) {
+        List<Release> releases = new ArrayList<>();
+        String version = UNRELEASED;
+        String tag = null;
+        List<CommitView> commits = new ArrayList<>();
+        for (int position = 0; position < graph.size() && position != since; position++) {
+            String commitTag = tagsByPosition.get(position);
+            if (commitTag != null) {
+                addRelease(releases, version, tag, commits);
+                version = commitTag;
+                tag = commitTag;
+                commits = new ArrayList<>();
+            }
+            commits.add(graph.get(position));
+        }
+        addRelease(releases, version, tag, commits);
+        return releases;
+    }
+
+    private static void addRelease(List<Release> releases, String version, String tag, List<CommitView> commits) {
+        // Nothing unreleased when the newest commit is tagged
+        if (!commits.isEmpty()) {
+            releases.add(new Release(version, tag, commits));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package uk.ac.ebi.atlas.releasenotes;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.exception.GitHubApiException;
+import uk.ac.ebi.atlas.releasenotes.http.GitHubRateLimiter;
+import uk.ac.ebi.atlas.releasenotes.http.HttpResponseCache;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncGitHubClientTest {
+
+    private static final String PROJECT_JSON = """
+            {"name":"release-notes-generator","default_branch":"main","html_url":"https://github.com/ebi-gene-expression-group/release-notes-generator"}""";
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private GitHubRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newFixedThreadPool(16);
+        server.setExecutor(serverExecutor);
+        server.createContext("/repos/ebi-gene-expression-group/release-notes-generator", this::respondWithProject);
+        server.createContext("/repos/ebi-gene-expression-group/rate-limited", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                respond(exchange, 429, "{}");
+            } else {
+                respond(exchange, 200, PROJECT_JSON);
+            }
+        });
+        server.start();
+
+        rateLimiter = new GitHubRateLimiter(1000, 100, Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void givenMoreRequestsThanTheConcurrencyLimit_keepsTheRestQueued() {
+        var client = createClient(3);
+
+        List<CompletableFuture<GitHubProject>> projects = IntStream.range(0, 12)
+                .mapToObj(i -> client.getProject("ebi-gene-expression-group", "release-notes-generator"))
+                .toList();
+
+        assertThat(projects)
+                .extracting(CompletableFuture::join)
+                .extracting(GitHubProject::name)
+                .containsOnly("release-notes-generator");
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void givenARateLimitedResponse_retriesTheRequest() {
+        var project = createClient(2).getProject("ebi-gene-expression-group", "rate-limited").join();
+
+        assertThat(project.defaultBranch()).isEqualTo("main");
+        assertThat(requests).hasValue(2);
+        assertThat(rateLimiter.getRetries()).isEqualTo(1);
+    }
+
+    @Test
+    void givenANonExistentProject_failsWithTheResponseStatus() {
+        var project = createClient(2).getProject("foo", "barbaz");
+
+        assertThatThrownBy(project::join)
+                .hasCauseInstanceOf(GitHubApiException.class)
+                .cause()
+                .hasFieldOrPropertyWithValue("status", 404);
+    }
+
+    private AsyncGitHubClient createClient(int maxConcurrentRequests) {
+        return new AsyncGitHubClient("http://127.0.0.1:" + server.getAddress().getPort(), () -> "token",
+                rejectedToken -> Optional.empty(), ReleaseNotesApplication.objectMapper, rateLimiter, HttpResponseCache.inMemory(), maxConcurrentRequests);
+    }
+
+    private void respondWithProject(HttpExchange exchange) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Before responding: the client may send the next request as soon as it has the response
+            inFlight.decrementAndGet();
+        }
+        respond(exchange, 200, PROJECT_JSON);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
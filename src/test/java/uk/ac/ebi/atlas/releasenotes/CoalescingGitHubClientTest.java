@@ -0,0 +1,200 @@
+package uk.ac.ebi.atlas.releasenotes;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.Tag;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingGitHubClientTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+    public static final String REPO_NAME = "release-notes-generator";
+
+    private static final GitHubProject PROJECT = new GitHubProject("main", REPO_NAME, null, null, null);
+
+    private static final String HEAD_SHA = "4c087123f3a3c3b8e2b8d6c1a7e5f0d9b2c4e6a8";
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void givenConcurrentIdenticalRequests_callsTheDelegateOnce() throws InterruptedException {
+        var requestStarted = new CountDownLatch(1);
+        var releaseRequest = new CountDownLatch(1);
+        var coalescingGitHubClient = new CoalescingGitHubClient(new CountingGitHubClient() {
+            @Override
+            public GitHubProject getProject(String owner, String repo) {
+                super.getProject(owner, repo);
+                requestStarted.countDown();
+                await(releaseRequest);
+                return PROJECT;
+            }
+        }, Duration.ZERO, nanoTime::get);
+
+        var firstResult = new AtomicReference<GitHubProject>();
+        var secondResult = new AtomicReference<GitHubProject>();
+        var first = new Thread(() -> firstResult.set(coalescingGitHubClient.getProject(REPO_OWNER, REPO_NAME)));
+        var second = new Thread(() -> secondResult.set(coalescingGitHubClient.getProject(REPO_OWNER, REPO_NAME)));
+        first.start();
+        assertThat(requestStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        second.start();
+        waitUntilBlocked(second);
+        releaseRequest.countDown();
+        first.join();
+        second.join();
+
+        assertThat(calls).hasValue(1);
+        assertThat(firstResult).hasValue(PROJECT);
+        assertThat(secondResult).hasValue(PROJECT);
+    }
+
+    @Test
+    void givenARecentResult_returnsItUntilItExpires() {
+        var coalescingGitHubClient = new CoalescingGitHubClient(new CountingGitHubClient(), Duration.ofSeconds(30), nanoTime::get);
+
+        coalescingGitHubClient.getCommitsPage(REPO_OWNER, REPO_NAME, HEAD_SHA, 1);
+        nanoTime.addAndGet(Duration.ofSeconds(29).toNanos());
+        coalescingGitHubClient.getCommitsPage(REPO_OWNER, REPO_NAME, HEAD_SHA, 1);
+        assertThat(calls).hasValue(1);
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        coalescingGitHubClient.getCommitsPage(REPO_OWNER, REPO_NAME, HEAD_SHA, 1);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void givenABranchThatMoved_returnsItsNewHeadWithinAndAfterTheTtl() {
+        var head = new AtomicReference<>("4c087123");
+        var coalescingGitHubClient = new CoalescingGitHubClient(new CountingGitHubClient() {
+            @Override
+            public Commit getCommit(String owner, String repo, String ref) {
+                super.getCommit(owner, repo, ref);
+                return new Commit(head.get(), null, null, null, null);
+            }
+        }, Duration.ofSeconds(30), nanoTime::get);
+
+        assertThat(coalescingGitHubClient.getCommit(REPO_OWNER, REPO_NAME, "main").sha()).isEqualTo("4c087123");
+        head.set("b5f64456");
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(coalescingGitHubClient.getCommit(REPO_OWNER, REPO_NAME, "main").sha()).isEqualTo("b5f64456");
+        head.set("e3b0c442");
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(coalescingGitHubClient.getCommit(REPO_OWNER, REPO_NAME, "main").sha()).isEqualTo("e3b0c442");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void givenShortShasOrTheProject_doesNotRememberTheResult() {
+        var coalescingGitHubClient = new CoalescingGitHubClient(new CountingGitHubClient(), Duration.ofSeconds(30), nanoTime::get);
+
+        coalescingGitHubClient.getCommit(REPO_OWNER, REPO_NAME, "4c087123");
+        coalescingGitHubClient.getCommit(REPO_OWNER, REPO_NAME, "4c087123");
+        coalescingGitHubClient.getProject(REPO_OWNER, REPO_NAME);
+        coalescingGitHubClient.getProject(REPO_OWNER, REPO_NAME);
+        coalescingGitHubClient.compareCommits(REPO_OWNER, REPO_NAME, HEAD_SHA, "main", 1, 100);
+        coalescingGitHubClient.compareCommits(REPO_OWNER, REPO_NAME, HEAD_SHA, "main", 1, 100);
+        assertThat(calls).hasValue(6);
+
+        coalescingGitHubClient.compareCommits(REPO_OWNER, REPO_NAME, HEAD_SHA, HEAD_SHA, 1, 100);
+        coalescingGitHubClient.compareCommits(REPO_OWNER, REPO_NAME, HEAD_SHA, HEAD_SHA, 1, 100);
+        assertThat(calls).hasValue(7);
+    }
+
+    @Test
+    void givenDifferentPages_callsTheDelegateForEach() {
+        var coalescingGitHubClient = new CoalescingGitHubClient(new CountingGitHubClient(), Duration.ofSeconds(30), nanoTime::get);
+
+        coalescingGitHubClient.getCommitsPage(REPO_OWNER, REPO_NAME, HEAD_SHA, 1);
+        coalescingGitHubClient.getCommitsPage(REPO_OWNER, REPO_NAME, HEAD_SHA, 2);
+        coalescingGitHubClient.getCommitsPage(REPO_OWNER, REPO_NAME, "b5f64456e3b0c44298fc1c149afbf4c8996fb924", 1);
+
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void givenAFailedRequest_doesNotRememberTheFailure() {
+        var coalescingGitHubClient = new CoalescingGitHubClient(new CountingGitHubClient() {
+            @Override
+            public Commit getCommit(String owner, String repo, String ref) {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IllegalStateException("Server error");
+                }
+                return new Commit(ref, null, null, null, null);
+            }
+        }, Duration.ofSeconds(30), nanoTime::get);
+
+        assertThatThrownBy(() -> coalescingGitHubClient.getCommit(REPO_OWNER, REPO_NAME, "4c087123"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Server error");
+        assertThat(coalescingGitHubClient.getCommit(REPO_OWNER, REPO_NAME, "4c087123").sha()).isEqualTo("4c087123");
+        assertThat(calls).hasValue(2);
+    }
+
+    private static void waitUntilBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class CountingGitHubClient implements GitHubClient {
+        @Override
+        public GitHubProject getProject(String owner, String repo) {
+            calls.incrementAndGet();
+            return PROJECT;
+        }
+
+        @Override
+        public List<Commit> getCommitsPage(String owner, String repo, String sha, int page, int perPage) {
+            calls.incrementAndGet();
+            return List.of();
+        }
+
+        @Override
+        public List<Commit> getFilteredCommitsPage(String owner, String repo, String sha, int page, int perPage,
+                                                   Map<String, Object> filter) {
+            calls.incrementAndGet();
+            return List.of();
+        }
+
+        @Override
+        public Commit getCommit(String owner, String repo, String ref) {
+            calls.incrementAndGet();
+            return new Commit(ref, null, null, null, null);
+        }
+
+        @Override
+        public CommitComparison compareCommits(String owner, String repo, String base, String head, int page, int perPage) {
+            calls.incrementAndGet();
+            return null;
+        }
+
+        @Override
+        public List<Tag> listTags(String owner, String repo, int page, int perPage) {
+            calls.incrementAndGet();
+            return List.of();
+        }
+    }
+}
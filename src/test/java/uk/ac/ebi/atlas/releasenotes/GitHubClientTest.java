@@ -29,6 +29,7 @@ class GitHubClientTest {
     public static final String INVALID_REPOSITORY_OWNER = "foo";
     public static final String INVALID_REPOSITORY = "barbaz";
     public static final String VALID_SHA_FOR_GIVEN_REPO = "9cf91ff128e1309b52db055b43ece218733f1b17";
+    public static final String EARLIER_VALID_SHA_FOR_GIVEN_REPO = "afc2ab859d72b0cd8d0ef0076643f789fad6a806";
 
     @BeforeEach
     void setUp() {
@@ -126,6 +127,28 @@ class GitHubClientTest {
         });
     }
 
+    @Test
+    void givenValidParams_getCommitsUntilStopsAtTheMatchingCommit() {
+        var commits = gitHubClient.getCommitsUntil(REPO_OWNER, REPO_NAME, VALID_SHA_FOR_GIVEN_REPO,
+                commit -> commit.sha().equals(VALID_SHA_FOR_GIVEN_REPO));
+
+        assertThat(commits).hasSize(1);
+        assertThat(commits.get(0).sha()).isEqualTo(VALID_SHA_FOR_GIVEN_REPO);
+    }
+
+    @Test
+    void givenValidRange_compareCommitsReturnsTheCommitsAfterTheBase() {
+        var comparison = gitHubClient.compareCommits(
+                REPO_OWNER, REPO_NAME, EARLIER_VALID_SHA_FOR_GIVEN_REPO, VALID_SHA_FOR_GIVEN_REPO, 1, GitHubClient.DEFAULT_PAGE_SIZE);
+
+        assertThat(comparison.status()).isEqualTo("ahead");
+        assertThat(comparison.totalCommits()).isGreaterThan(0);
+        assertThat(comparison.commits())
+                .extracting(commit -> commit.sha())
+                .contains(VALID_SHA_FOR_GIVEN_REPO)
+                .doesNotContain(EARLIER_VALID_SHA_FOR_GIVEN_REPO);
+    }
+
     private String getSha() {
         return generateRandomNumberWithLength(8);
     }
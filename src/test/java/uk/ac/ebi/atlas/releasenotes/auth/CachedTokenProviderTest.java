@@ -0,0 +1,80 @@
+package uk.ac.ebi.atlas.releasenotes.auth;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedTokenProviderTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger cliCalls = new AtomicInteger();
+    private final TokenProvider gitHubCli = () -> Optional.of("cli-token-" + cliCalls.incrementAndGet());
+
+    @Test
+    void givenCachedToken_doesNotRunTheDelegateAgain() {
+        Path cacheFile = tempDir.resolve("token");
+
+        assertThat(createProvider(cacheFile, NOW).getToken()).contains("cli-token-1");
+        assertThat(createProvider(cacheFile, NOW.plus(Duration.ofHours(1))).getToken()).contains("cli-token-1");
+        assertThat(cliCalls).hasValue(1);
+    }
+
+    @Test
+    void cachedToken_isOnlyReadableByItsOwner() throws Exception {
+        Path cacheFile = tempDir.resolve("cache").resolve("token");
+
+        createProvider(cacheFile, NOW).getToken();
+
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheFile))).isEqualTo("rw-------");
+    }
+
+    @Test
+    void givenExpiredToken_runsTheDelegateAgain() {
+        Path cacheFile = tempDir.resolve("token");
+
+        createProvider(cacheFile, NOW).getToken();
+
+        assertThat(createProvider(cacheFile, NOW.plus(Duration.ofHours(9))).getToken()).contains("cli-token-2");
+    }
+
+    @Test
+    void givenARejectedCachedToken_runsTheDelegateAgain() {
+        Path cacheFile = tempDir.resolve("token");
+        CachedTokenProvider provider = createProvider(cacheFile, NOW);
+        provider.getToken();
+
+        provider.invalidate("cli-token-1");
+
+        assertThat(cacheFile).doesNotExist();
+        assertThat(provider.getToken()).contains("cli-token-2");
+    }
+
+    @Test
+    void givenCacheFileReadableByOthers_ignoresIt() throws Exception {
+        Path cacheFile = tempDir.resolve("token");
+        Files.writeString(cacheFile, NOW.plus(Duration.ofHours(1)) + "\nleaked-token\n");
+        Files.setPosixFilePermissions(cacheFile, PosixFilePermissions.fromString("rw-r--r--"));
+
+        assertThat(createProvider(cacheFile, NOW).getToken()).contains("cli-token-1");
+    }
+
+    private CachedTokenProvider createProvider(Path cacheFile, Instant now) {
+        return new CachedTokenProvider(
+                cacheFile, Duration.ofHours(8), gitHubCli, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
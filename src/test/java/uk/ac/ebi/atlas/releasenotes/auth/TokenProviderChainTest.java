@@ -0,0 +1,120 @@
+package uk.ac.ebi.atlas.releasenotes.auth;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.exception.GitHubTokenException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class TokenProviderChainTest {
+
+    @Test
+    void givenEnvironmentToken_returnsItWithoutAskingTheNextProviders() {
+        var environment = Map.of("GH_TOKEN", " gh-token\n");
+        TokenProvider failingProvider = () -> {
+            throw new AssertionError("The GitHub CLI shouldn't be asked for a token");
+        };
+
+        var chain = new TokenProviderChain(List.of(
+                new EnvironmentTokenProvider(environment::get, EnvironmentTokenProvider.DEFAULT_VARIABLES),
+                failingProvider));
+
+        assertThat(chain.getToken()).isEqualTo("gh-token");
+    }
+
+    @Test
+    void givenGitHubTokenAndGhToken_prefersGitHubToken() {
+        var environment = Map.of("GITHUB_TOKEN", "github-token", "GH_TOKEN", "gh-token");
+
+        var provider = new EnvironmentTokenProvider(environment::get, EnvironmentTokenProvider.DEFAULT_VARIABLES);
+
+        assertThat(provider.getToken()).contains("github-token");
+    }
+
+    @Test
+    void givenNoProviderWithAToken_throwsGitHubTokenException() {
+        var chain = new TokenProviderChain(List.of(Optional::empty));
+
+        assertThatExceptionOfType(GitHubTokenException.class).isThrownBy(chain::getToken);
+    }
+
+    @Test
+    void givenARejectedToken_asksTheProvidersOnceForAnother() {
+        var cachedTokens = new ArrayList<>(List.of("expired-token"));
+        var cliCalls = new AtomicInteger();
+        TokenProvider cachingProvider = new TokenProvider() {
+            @Override
+            public Optional<String> getToken() {
+                if (cachedTokens.isEmpty()) {
+                    cachedTokens.add("cli-token-" + cliCalls.incrementAndGet());
+                }
+                return Optional.of(cachedTokens.get(0));
+            }
+
+            @Override
+            public void invalidate(String token) {
+                cachedTokens.remove(token);
+            }
+        };
+        var chain = new TokenProviderChain(List.of(cachingProvider));
+
+        assertThat(chain.getToken()).isEqualTo("expired-token");
+        assertThat(chain.refreshToken("expired-token")).contains("cli-token-1");
+        assertThat(chain.getToken()).isEqualTo("cli-token-1");
+        // A request rejected before the token was replaced is retried with the new one
+        assertThat(chain.refreshToken("expired-token")).contains("cli-token-1");
+        assertThat(chain.refreshToken("cli-token-1")).isEmpty();
+        assertThat(cliCalls).hasValue(1);
+    }
+
+    @Test
+    void givenARejectedEnvironmentToken_fallsThroughToTheNextProvider() {
+        var environment = Map.of("GITHUB_TOKEN", "revoked-token");
+        var chain = new TokenProviderChain(List.of(
+                new EnvironmentTokenProvider(environment::get, EnvironmentTokenProvider.DEFAULT_VARIABLES),
+                () -> Optional.of("cli-token")));
+
+        assertThat(chain.getToken()).isEqualTo("revoked-token");
+        assertThat(chain.refreshToken("revoked-token")).contains("cli-token");
+    }
+
+    @Test
+    void givenConcurrentCallers_looksTheTokenUpOnce() throws Exception {
+        var lookups = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var chain = new TokenProviderChain(List.of(() -> Optional.of("token-" + lookups.incrementAndGet())));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<String>> tokens = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return chain.getToken();
+                    }, executor))
+                    .toList();
+            start.countDown();
+
+            for (CompletableFuture<String> token : tokens) {
+                assertThat(token.get()).isEqualTo("token-1");
+            }
+            assertThat(lookups).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
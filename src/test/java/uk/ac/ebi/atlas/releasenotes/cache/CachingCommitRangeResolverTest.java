@@ -0,0 +1,172 @@
+package uk.ac.ebi.atlas.releasenotes.cache;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.Tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingCommitRangeResolverTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+    public static final String REPO_NAME = "atlas-web-core";
+
+    private final FakeGitHubClient gitHubClient = new FakeGitHubClient();
+    private final InMemoryCommitStore commitStore = new InMemoryCommitStore(100);
+    private final CachingCommitRangeResolver resolver = new CachingCommitRangeResolver(gitHubClient, commitStore);
+
+    @Test
+    void givenARangeInTheCachedHistory_resolvesItWithoutRequests() {
+        gitHubClient.commits("sha0", "sha1", "sha2", "sha3");
+        resolver.resolve(REPO_OWNER, REPO_NAME, "sha0", "sha3");
+        gitHubClient.requests.clear();
+
+        List<Commit> commits = resolver.resolve(REPO_OWNER, REPO_NAME, "sha1", "sha2");
+
+        assertThat(shas(commits)).containsExactly("sha2", "sha1");
+        assertThat(gitHubClient.requests).isEmpty();
+        assertThat(resolver.getHits()).isEqualTo(2);
+        assertThat(resolver.getMisses()).isEqualTo(4);
+    }
+
+    @Test
+    void givenNewCommitsOnTheBranch_onlyRequestsTheCommitsAfterTheCachedHead() {
+        gitHubClient.commits("sha0", "sha1", "sha2");
+        resolver.resolve(REPO_OWNER, REPO_NAME, "sha0", "sha2");
+        gitHubClient.commits("sha3", "sha4");
+        gitHubClient.requests.clear();
+
+        List<Commit> commits = resolver.resolve(REPO_OWNER, REPO_NAME, "sha1", FakeGitHubClient.BRANCH);
+
+        assertThat(shas(commits)).containsExactly("sha4", "sha3", "sha2", "sha1");
+        assertThat(gitHubClient.requests).containsExactly("compare sha2...main");
+        assertThat(shas(commitStore.load(REPO_OWNER, REPO_NAME))).containsExactly("sha4", "sha3", "sha2", "sha1", "sha0");
+        assertThat(resolver.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    void givenASinceCommitOlderThanTheCachedHistory_resolvesTheRangeAndCachesItsOlderCommits() {
+        gitHubClient.commits("sha0", "sha1", "sha2", "sha3");
+        resolver.resolve(REPO_OWNER, REPO_NAME, "sha2", "sha3");
+        gitHubClient.requests.clear();
+
+        List<Commit> commits = resolver.resolve(REPO_OWNER, REPO_NAME, "sha0", "sha3");
+
+        assertThat(shas(commits)).containsExactly("sha3", "sha2", "sha1", "sha0");
+        assertThat(gitHubClient.requests).containsExactly("compare sha0...sha3", "commit sha0");
+        assertThat(shas(commitStore.load(REPO_OWNER, REPO_NAME))).containsExactly("sha3", "sha2", "sha1", "sha0");
+
+        gitHubClient.requests.clear();
+        assertThat(shas(resolver.resolve(REPO_OWNER, REPO_NAME, "sha0", "sha3"))).containsExactly("sha3", "sha2", "sha1", "sha0");
+        assertThat(gitHubClient.requests).isEmpty();
+    }
+
+    @Test
+    void givenABranchThatNoLongerContainsTheCachedHead_resolvesTheWholeRangeAndReplacesTheCachedHistory() {
+        gitHubClient.commits("sha0", "sha1", "sha2", "sha3");
+        resolver.resolve(REPO_OWNER, REPO_NAME, "sha0", "sha3");
+        // sha2 and sha3 are rewritten and force-pushed as sha4
+        gitHubClient.commit("sha4", "sha1");
+        gitHubClient.requests.clear();
+
+        List<Commit> commits = resolver.resolve(REPO_OWNER, REPO_NAME, "sha1", FakeGitHubClient.BRANCH);
+
+        assertThat(shas(commits)).containsExactly("sha4", "sha1");
+        assertThat(gitHubClient.requests).containsExactly("compare sha3...main", "compare sha1...main", "commit sha1");
+        assertThat(shas(commitStore.load(REPO_OWNER, REPO_NAME))).containsExactly("sha4", "sha1");
+    }
+
+    private static List<String> shas(List<Commit> commits) {
+        return commits.stream().map(Commit::sha).toList();
+    }
+
+    // Commits with a single parent, with a branch pointing at the last one
+    private static class FakeGitHubClient implements GitHubClient {
+
+        private static final String BRANCH = "main";
+
+        private final Map<String, Commit> commits = new HashMap<>();
+        private final List<String> requests = new ArrayList<>();
+        private String branchHead;
+
+        void commits(String... shas) {
+            for (String sha : shas) {
+                commit(sha, branchHead);
+            }
+        }
+
+        void commit(String sha, String parentSha) {
+            List<CommitParent> parents = parentSha == null ? List.of() : List.of(new CommitParent(parentSha));
+            commits.put(sha, new Commit(sha, new CommitDetails("Commit " + sha, new Author("joe@example.com", null)),
+                    null, null, parents));
+            branchHead = sha;
+        }
+
+        @Override
+        public GitHubProject getProject(String owner, String repo) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Commit> getCommitsPage(String owner, String repo, String sha, int page, int perPage) {
+            requests.add("commits " + sha);
+            List<Commit> history = history(sha, null);
+            return page == 1 ? history.subList(0, Math.min(perPage, history.size())) : List.of();
+        }
+
+        @Override
+        public List<Commit> getFilteredCommitsPage(String owner, String repo, String sha, int page, int perPage,
+                                                   Map<String, Object> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Commit getCommit(String owner, String repo, String ref) {
+            requests.add("commit " + ref);
+            return commits.get(BRANCH.equals(ref) ? branchHead : ref);
+        }
+
+        @Override
+        public CommitComparison compareCommits(String owner, String repo, String base, String head, int page, int perPage) {
+            requests.add("compare " + base + "..." + head);
+            List<Commit> history = history(head, base);
+            if (history.isEmpty() || !history.get(history.size() - 1).sha().equals(base)) {
+                return new CommitComparison("diverged", 0, List.of());
+            }
+            List<Commit> commits = new ArrayList<>(history.subList(0, history.size() - 1));
+            Collections.reverse(commits);
+            return new CommitComparison(commits.isEmpty() ? "identical" : "ahead", commits.size(), commits);
+        }
+
+        @Override
+        public List<Tag> listTags(String owner, String repo, int page, int perPage) {
+            throw new UnsupportedOperationException();
+        }
+
+        // The history of ref, newest first, down to and including the last commit
+        private List<Commit> history(String ref, String lastCommit) {
+            List<Commit> history = new ArrayList<>();
+            Commit commit = commits.get(BRANCH.equals(ref) ? branchHead : ref);
+            while (commit != null) {
+                history.add(commit);
+                if (commit.sha().equals(lastCommit) || commit.parents().isEmpty()) {
+                    break;
+                }
+                commit = commits.get(commit.parents().get(0).sha());
+            }
+            return history;
+        }
+    }
+}
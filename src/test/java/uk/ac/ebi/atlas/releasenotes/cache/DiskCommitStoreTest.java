@@ -0,0 +1,66 @@
+package uk.ac.ebi.atlas.releasenotes.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiskCommitStoreTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+    public static final String REPO_NAME = "release-notes-generator";
+
+    @TempDir
+    Path cacheDir;
+
+    private DiskCommitStore diskCommitStore;
+
+    @BeforeEach
+    void setUp() {
+        diskCommitStore = new DiskCommitStore(cacheDir);
+    }
+
+    @Test
+    void givenNoCachedHistory_returnsAnEmptyList() {
+        assertThat(diskCommitStore.load(REPO_OWNER, REPO_NAME)).isEmpty();
+    }
+
+    @Test
+    void givenStoredHistory_loadsTheSameCommits() {
+        var history = List.of(
+                new Commit("9cf91ff128e1309b52db055b43ece218733f1b17",
+                        new CommitDetails("Fix the build\n\nLonger description", new Author("joe@example.com", Instant.ofEpochSecond(1700000000))),
+                        "https://github.com/ebi-gene-expression-group/release-notes-generator/commit/9cf91ff128e1309b52db055b43ece218733f1b17",
+                        null,
+                        List.of(new CommitParent("afc2ab859d72b0cd8d0ef0076643f789fad6a806"))),
+                new Commit("afc2ab859d72b0cd8d0ef0076643f789fad6a806",
+                        new CommitDetails("Initial commit", new Author(null, null)),
+                        null,
+                        null,
+                        List.of()));
+
+        diskCommitStore.store(REPO_OWNER, REPO_NAME, history);
+
+        assertThat(diskCommitStore.load(REPO_OWNER, REPO_NAME)).isEqualTo(history);
+    }
+
+    @Test
+    void givenACorruptCacheFile_returnsAnEmptyList() throws IOException {
+        Path cacheFile = cacheDir.resolve(REPO_OWNER).resolve(REPO_NAME + ".commits");
+        Files.createDirectories(cacheFile.getParent());
+        Files.writeString(cacheFile, "not a commit cache");
+
+        assertThat(diskCommitStore.load(REPO_OWNER, REPO_NAME)).isEmpty();
+    }
+}
@@ -0,0 +1,62 @@
+package uk.ac.ebi.atlas.releasenotes.cache;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryCommitStoreTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+
+    @Test
+    void givenStoredHistory_loadsTheSameCommits() {
+        var inMemoryCommitStore = new InMemoryCommitStore(10);
+        var history = history("a", 3);
+
+        inMemoryCommitStore.store(REPO_OWNER, "atlas-web-core", history);
+
+        assertThat(inMemoryCommitStore.load(REPO_OWNER, "atlas-web-core")).isEqualTo(history);
+        assertThat(inMemoryCommitStore.load(REPO_OWNER, "scxa")).isEmpty();
+    }
+
+    @Test
+    void givenAHistoryLongerThanTheBound_keepsTheNewestCommits() {
+        var inMemoryCommitStore = new InMemoryCommitStore(2);
+
+        inMemoryCommitStore.store(REPO_OWNER, "atlas-web-core", history("a", 5));
+
+        assertThat(inMemoryCommitStore.load(REPO_OWNER, "atlas-web-core")).isEqualTo(history("a", 2));
+        assertThat(inMemoryCommitStore.size()).isEqualTo(2);
+    }
+
+    @Test
+    void givenTheBoundIsExceeded_evictsTheLeastRecentlyUsedHistory() {
+        var inMemoryCommitStore = new InMemoryCommitStore(5);
+        inMemoryCommitStore.store(REPO_OWNER, "atlas-web-core", history("a", 2));
+        inMemoryCommitStore.store(REPO_OWNER, "atlas-web-bulk", history("b", 2));
+        inMemoryCommitStore.load(REPO_OWNER, "atlas-web-core");
+
+        inMemoryCommitStore.store(REPO_OWNER, "atlas-web-single-cell", history("c", 2));
+
+        assertThat(inMemoryCommitStore.load(REPO_OWNER, "atlas-web-bulk")).isEmpty();
+        assertThat(inMemoryCommitStore.load(REPO_OWNER, "atlas-web-core")).hasSize(2);
+        assertThat(inMemoryCommitStore.load(REPO_OWNER, "atlas-web-single-cell")).hasSize(2);
+        assertThat(inMemoryCommitStore.size()).isEqualTo(4);
+    }
+
+    private static List<Commit> history(String prefix, int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> new Commit(prefix + i,
+                        new CommitDetails("Commit " + i, new Author("joe@example.com", null)),
+                        null,
+                        null,
+                        null))
+                .toList();
+    }
+}
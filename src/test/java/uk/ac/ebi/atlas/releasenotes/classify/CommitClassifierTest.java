@@ -0,0 +1,87 @@
+package uk.ac.ebi.atlas.releasenotes.classify;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.PullRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class CommitClassifierTest {
+
+    private static final String FEATURES = "Features";
+    private static final String FIXES = "Fixes";
+    private static final String DOCS = "Documentation";
+    private static final String OTHER = "Other";
+
+    private final CommitClassifier commitClassifier = CommitClassifier.compile(new ClassificationRules(List.of(
+            new ClassificationRule(FEATURES, RuleType.CONVENTIONAL_COMMIT, "feat"),
+            new ClassificationRule(FIXES, RuleType.LABEL, "bug"),
+            new ClassificationRule(FIXES, RuleType.CONVENTIONAL_COMMIT, "fix"),
+            new ClassificationRule(DOCS, RuleType.REGEX, "(?i)readme|docs?\\b"),
+            new ClassificationRule(FEATURES, RuleType.PREFIX, "Merge")),
+            OTHER));
+
+    @Test
+    void givenConventionalCommits_matchesTheirType() {
+        assertThat(commitClassifier.classify(commit("feat: add the HTML renderer"))).isEqualTo(FEATURES);
+        assertThat(commitClassifier.classify(commit("feat(render)!: drop the old renderer"))).isEqualTo(FEATURES);
+        assertThat(commitClassifier.classify(commit("fix(cache): read truncated files"))).isEqualTo(FIXES);
+        assertThat(commitClassifier.classify(commit("feature: not a conventional type"))).isEqualTo(OTHER);
+    }
+
+    @Test
+    void givenSeveralMatchingRules_theFirstRuleWins() {
+        assertThat(commitClassifier.classify(commit("feat: document the README"))).isEqualTo(FEATURES);
+        assertThat(commitClassifier.classify(commit("Merge pull request #3 from docs", "bug"))).isEqualTo(FIXES);
+        assertThat(commitClassifier.classify(commit("Merge pull request #3 from docs"))).isEqualTo(DOCS);
+    }
+
+    @Test
+    void givenAMultiLineMessage_onlyTheSubjectIsMatched() {
+        assertThat(commitClassifier.classify(commit("Bump versions\n\nfeat: not on the first line"))).isEqualTo(OTHER);
+    }
+
+    @Test
+    void givenCommits_assignsEachToExactlyOneSectionInRuleOrder() {
+        var sections = commitClassifier.classify(List.of(
+                commit("Update README"), commit("fix: typo"), commit("Refactor"), commit("feat: new")));
+
+        assertThat(sections).extracting(ReleaseSection::title).containsExactly(FEATURES, FIXES, DOCS, OTHER);
+        assertThat(sections).extracting(section -> section.commits().size()).containsExactly(1, 1, 1, 1);
+    }
+
+    @Test
+    void givenAnInvalidRegex_throwsIllegalArgumentException() {
+        var rules = new ClassificationRules(List.of(new ClassificationRule(DOCS, RuleType.REGEX, "(unclosed")), OTHER);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> CommitClassifier.compile(rules));
+    }
+
+    @Test
+    void givenRegexesWithGroups_matchesThemAsWritten() {
+        var classifier = CommitClassifier.compile(new ClassificationRules(List.of(
+                new ClassificationRule(FEATURES, RuleType.CONVENTIONAL_COMMIT, "feat"),
+                new ClassificationRule(DOCS, RuleType.REGEX, "(?<rule0>\\b\\w+) \\k<rule0>\\b"),
+                new ClassificationRule(FIXES, RuleType.REGEX, "^(\\w+): \\1:")),
+                OTHER));
+
+        assertThat(classifier.classify(commit("feat: add the the renderer"))).isEqualTo(FEATURES);
+        assertThat(classifier.classify(commit("Fix the the typo"))).isEqualTo(DOCS);
+        assertThat(classifier.classify(commit("fix: fix: repeated type"))).isEqualTo(FIXES);
+        assertThat(classifier.classify(commit("fix: the typo"))).isEqualTo(OTHER);
+    }
+
+    private static Commit commit(String message, String... labels) {
+        var pullRequests = labels.length == 0
+                ? null
+                : List.of(new PullRequest(3, message, null, "joe", List.of(labels)));
+        return new Commit("9cf91ff128e1309b52db055b43ece218733f1b17",
+                new CommitDetails(message, new Author("joe@example.com", Instant.EPOCH)), null, pullRequests, null);
+    }
+}
@@ -0,0 +1,114 @@
+package uk.ac.ebi.atlas.releasenotes.command;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.http.GitHubRateLimiter;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.Tag;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchCommandTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+    public static final String REPO_NAME = "release-notes-generator";
+    public static final String VALID_SHA_SINCE = "afc2ab859d72b0cd8d0ef0076643f789fad6a806";
+    public static final String VALID_SHA_UNTIL = "9cf91ff128e1309b52db055b43ece218733f1b17";
+
+    @TempDir
+    Path outputDir;
+
+    private final BatchCommand batchCommand = new BatchCommand(StubGitHubClient::new, new GitHubRateLimiter());
+
+    @Test
+    void givenMissingManifest_ReturnsNonZeroExitCode() {
+        var exitCode = new CommandLine(batchCommand).execute("-m=" + outputDir.resolve("missing.json"));
+
+        assertThat(exitCode).isNotZero();
+    }
+
+    @Test
+    void givenNoParallelism_ReturnsExitCodeOne() throws IOException {
+        Path manifest = outputDir.resolve("manifest.json");
+        Files.writeString(manifest, "[]");
+
+        assertThat(new CommandLine(batchCommand).execute("-m=" + manifest, "-p=0")).isEqualTo(1);
+        assertThat(new CommandLine(batchCommand).execute("-m=" + manifest, "-p=-2")).isEqualTo(1);
+    }
+
+    @Test
+    void givenValidManifest_WritesAFilePerJob() throws IOException {
+        Path markdownFile = outputDir.resolve("notes");
+        Path htmlFile = outputDir.resolve("notes-html");
+        Path manifest = outputDir.resolve("manifest.json");
+        Files.writeString(manifest, """
+                [
+                  {"user": "%1$s", "repo": "%2$s", "since": "%3$s", "until": "%4$s", "file": "%5$s"},
+                  {"user": "%1$s", "repo": "%2$s", "since": "%3$s", "until": "%4$s", "file": "%6$s", "format": "HTML", "version": "v2.0.0"}
+                ]
+                """.formatted(REPO_OWNER, REPO_NAME, VALID_SHA_SINCE, VALID_SHA_UNTIL, markdownFile, htmlFile));
+
+        var exitCode = new CommandLine(batchCommand).execute("-m=" + manifest);
+
+        assertThat(exitCode).isZero();
+        assertThat(Files.readString(Path.of(markdownFile + ".md"))).contains("Release Notes for " + REPO_NAME + " - v1.0.0");
+        assertThat(Files.readString(Path.of(htmlFile + ".html"))).contains("Release Notes for " + REPO_NAME + " - v2.0.0");
+    }
+
+    // The history VALID_SHA_UNTIL, VALID_SHA_SINCE of every repository
+    private static class StubGitHubClient implements GitHubClient {
+
+        private final Commit since = commit(VALID_SHA_SINCE, List.of());
+        private final Commit until = commit(VALID_SHA_UNTIL, List.of(new CommitParent(VALID_SHA_SINCE)));
+
+        @Override
+        public GitHubProject getProject(String owner, String repo) {
+            return new GitHubProject("main", repo, null, null, null);
+        }
+
+        @Override
+        public List<Commit> getCommitsPage(String owner, String repo, String sha, int page, int perPage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Commit> getFilteredCommitsPage(String owner, String repo, String sha, int page, int perPage,
+                                                   Map<String, Object> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Commit getCommit(String owner, String repo, String ref) {
+            return VALID_SHA_SINCE.equals(ref) ? since : until;
+        }
+
+        @Override
+        public CommitComparison compareCommits(String owner, String repo, String base, String head, int page, int perPage) {
+            return new CommitComparison("ahead", 1, page == 1 ? List.of(until) : List.of());
+        }
+
+        @Override
+        public List<Tag> listTags(String owner, String repo, int page, int perPage) {
+            throw new UnsupportedOperationException();
+        }
+
+        private static Commit commit(String sha, List<CommitParent> parents) {
+            return new Commit(sha, new CommitDetails("Commit " + sha, new Author("joe@example.com", Instant.EPOCH)),
+                    "https://github.com/commit/" + sha, null, parents);
+        }
+    }
+}
@@ -31,6 +31,19 @@ class ReleaseNoteCommandTest {
         assertThat(exitCode).isNotZero();
     }
 
+    @Test
+    void givenAPathFilterWithALocalRepo_ReturnsNonZeroExitCode() {
+        final var cmd = getCommandLine();
+        var exitCode = cmd.execute("-u=" + REPO_OWNER,
+                "-r=" + REPO_NAME,
+                "-s=" + VALID_SHA_SINCE,
+                "-ut=" + VALID_SHA_UNTIL,
+                "--local-repo=.",
+                "--path=src");
+
+        assertThat(exitCode).isNotZero();
+    }
+
     @Test
     void givenValidParams_ReturnsZeroExitCode() {
         final var exitCode = executeCommandWithValidParams();
@@ -0,0 +1,82 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestClientTest {
+
+    private static final String URL = "https://api.github.com/repos/ebi-gene-expression-group/release-notes-generator";
+    private static final String ETAG = "W/\"4f8b2c\"";
+    private static final String BODY = "{\"name\":\"release-notes-generator\"}";
+
+    @TempDir
+    Path cacheDir;
+
+    private final List<Request> sentRequests = new ArrayList<>();
+
+    @Test
+    void givenACachedResponse_sendsIfNoneMatchAndServesTheCachedBodyOnNotModified() throws IOException {
+        Client stubClient = (request, options) -> {
+            sentRequests.add(request);
+            return sentRequests.size() == 1
+                    ? response(request, 200, Map.of("ETag", List.of(ETAG)), BODY)
+                    : response(request, 304, Map.of(), "");
+        };
+        var client = new ConditionalRequestClient(stubClient, HttpResponseCache.inMemory());
+
+        var firstResponse = client.execute(request(), new Request.Options());
+        var secondResponse = client.execute(request(), new Request.Options());
+
+        assertThat(bodyOf(firstResponse)).isEqualTo(BODY);
+        assertThat(secondResponse.status()).isEqualTo(200);
+        assertThat(bodyOf(secondResponse)).isEqualTo(BODY);
+        assertThat(sentRequests.get(0).headers()).doesNotContainKey("If-None-Match");
+        assertThat(sentRequests.get(1).headers()).containsEntry("If-None-Match", List.of(ETAG));
+        assertThat(client.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void givenACacheDirectory_readsEntriesWrittenByAnotherInstance() {
+        var cachedResponse = new CachedResponse(ETAG, null, "application/json", BODY.getBytes(StandardCharsets.UTF_8));
+        new HttpResponseCache(cacheDir).put(URL, cachedResponse);
+
+        var readResponse = new HttpResponseCache(cacheDir).get(URL);
+
+        assertThat(readResponse.etag()).isEqualTo(ETAG);
+        assertThat(readResponse.lastModified()).isNull();
+        assertThat(readResponse.contentType()).isEqualTo("application/json");
+        assertThat(new String(readResponse.body(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, URL, Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static Response response(Request request, int status, Map<String, Collection<String>> headers, String body) {
+        return Response.builder()
+                .status(status)
+                .reason("")
+                .request(request)
+                .headers(headers)
+                .body(body.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static String bodyOf(Response response) throws IOException {
+        return new String(Util.toByteArray(response.body().asInputStream()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class HttpResponseCacheTest {
+
+    private static final String URL = "https://api.github.com/repos/ebi-gene-expression-group/release-notes-generator";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void givenACacheDirectory_createsItAndItsFilesReadableByTheOwnerOnly() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        Path cacheDir = tempDir.resolve("http");
+
+        new HttpResponseCache(cacheDir).put(URL, response(10));
+
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(cacheDir))).isEqualTo("rwx------");
+        assertThat(cacheFiles(cacheDir)).singleElement()
+                .satisfies(file -> assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(file)))
+                        .isEqualTo("rw-------"));
+    }
+
+    @Test
+    void givenMoreBytesThanTheMemoryLimit_evictsTheLeastRecentlyUsedResponses() {
+        var httpResponseCache = new HttpResponseCache(null, 3 * (URL.length() + 2 + 100), 0, Duration.ZERO);
+
+        httpResponseCache.put(URL + "/0", response(100));
+        httpResponseCache.put(URL + "/1", response(100));
+        httpResponseCache.put(URL + "/2", response(100));
+        httpResponseCache.get(URL + "/0");
+        httpResponseCache.put(URL + "/3", response(100));
+
+        assertThat(httpResponseCache.get(URL + "/0")).isNotNull();
+        assertThat(httpResponseCache.get(URL + "/1")).isNull();
+        assertThat(httpResponseCache.get(URL + "/2")).isNotNull();
+        assertThat(httpResponseCache.get(URL + "/3")).isNotNull();
+
+        httpResponseCache.put(URL + "/4", response(1000));
+        assertThat(httpResponseCache.get(URL + "/4")).isNull();
+    }
+
+    @Test
+    void givenAFileUnusedForLongerThanTheMaxAge_ignoresAndDeletesIt() throws IOException {
+        new HttpResponseCache(tempDir).put(URL, response(10));
+        Path file = cacheFiles(tempDir).get(0);
+        setLastModifiedTime(file, HttpResponseCache.DEFAULT_MAX_AGE.plusMinutes(1));
+
+        assertThat(new HttpResponseCache(tempDir).get(URL)).isNull();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void givenATruncatedFile_ignoresAndDeletesIt() throws IOException {
+        new HttpResponseCache(tempDir).put(URL, response(100));
+        Path file = cacheFiles(tempDir).get(0);
+        byte[] contents = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(contents, contents.length - 10));
+
+        assertThat(new HttpResponseCache(tempDir).get(URL)).isNull();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void givenMoreBytesThanTheDiskLimit_deletesTheLeastRecentlyUsedFiles() throws IOException {
+        var httpResponseCache = new HttpResponseCache(tempDir, 0, 2500, HttpResponseCache.DEFAULT_MAX_AGE);
+        httpResponseCache.put(URL + "/0", response(1000));
+        Path firstFile = cacheFiles(tempDir).get(0);
+        setLastModifiedTime(firstFile, Duration.ofHours(2));
+        httpResponseCache.put(URL + "/1", response(1000));
+        Path secondFile = cacheFiles(tempDir).stream().filter(file -> !file.equals(firstFile)).findFirst().orElseThrow();
+        setLastModifiedTime(secondFile, Duration.ofHours(1));
+
+        // Reading the oldest file makes the second one the least recently used
+        assertThat(new HttpResponseCache(tempDir).get(URL + "/0")).isNotNull();
+        httpResponseCache.put(URL + "/2", response(1000));
+
+        var reopenedCache = new HttpResponseCache(tempDir);
+        assertThat(cacheFiles(tempDir)).hasSize(2);
+        assertThat(reopenedCache.get(URL + "/0")).isNotNull();
+        assertThat(reopenedCache.get(URL + "/1")).isNull();
+        assertThat(reopenedCache.get(URL + "/2")).isNotNull();
+    }
+
+    private static CachedResponse response(int bodySize) {
+        return new CachedResponse("W/\"4f8b2c\"", null, "application/json", new byte[bodySize]);
+    }
+
+    private static List<Path> cacheFiles(Path cacheDir) throws IOException {
+        try (var files = Files.list(cacheDir)) {
+            return files.toList();
+        }
+    }
+
+    private static void setLastModifiedTime(Path file, Duration age) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+    }
+}
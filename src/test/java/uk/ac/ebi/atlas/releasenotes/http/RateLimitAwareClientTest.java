@@ -0,0 +1,81 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitAwareClientTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.GET,
+            "https://api.github.com/repos/ebi-gene-expression-group/release-notes-generator",
+            Map.of(), null, StandardCharsets.UTF_8, null);
+
+    private final Deque<Response> responses = new ArrayDeque<>();
+    private final Client stubClient = (request, options) -> responses.removeFirst();
+
+    private GitHubRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new GitHubRateLimiter(1000, 100, Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+
+    @Test
+    void givenASecondaryRateLimitResponse_retriesTheRequest() throws IOException {
+        responses.add(response(403, Map.of("Retry-After", List.of("0"))));
+        responses.add(response(200, Map.of("X-RateLimit-Remaining", List.of("4999"), "X-RateLimit-Limit", List.of("5000"))));
+
+        var response = new RateLimitAwareClient(stubClient, rateLimiter).execute(REQUEST, new Request.Options());
+
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(rateLimiter.getRetries()).isEqualTo(1);
+        assertThat(rateLimiter.getRemaining()).isEqualTo(4999);
+        assertThat(rateLimiter.getLimit()).isEqualTo(5000);
+    }
+
+    @Test
+    void givenTransientServerErrors_givesUpAfterMaxAttempts() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            responses.add(response(502, Map.of()));
+        }
+
+        var response = new RateLimitAwareClient(stubClient, rateLimiter, 3).execute(REQUEST, new Request.Options());
+
+        assertThat(response.status()).isEqualTo(502);
+        assertThat(responses).isEmpty();
+        assertThat(rateLimiter.getRequests()).isEqualTo(3);
+    }
+
+    @Test
+    void givenAForbiddenResponseWithRemainingBudget_doesNotRetry() throws IOException {
+        responses.add(response(403, Map.of("X-RateLimit-Remaining", List.of("10"))));
+
+        var response = new RateLimitAwareClient(stubClient, rateLimiter).execute(REQUEST, new Request.Options());
+
+        assertThat(response.status()).isEqualTo(403);
+        assertThat(rateLimiter.getRetries()).isZero();
+    }
+
+    private static Response response(int status, Map<String, Collection<String>> headers) {
+        return Response.builder()
+                .status(status)
+                .reason("")
+                .request(REQUEST)
+                .headers(headers)
+                .body(new byte[0])
+                .build();
+    }
+}
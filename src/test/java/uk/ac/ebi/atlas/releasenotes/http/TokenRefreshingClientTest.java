@@ -0,0 +1,72 @@
+package uk.ac.ebi.atlas.releasenotes.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRefreshingClientTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.GET,
+            "https://api.github.com/repos/ebi-gene-expression-group/release-notes-generator",
+            Map.of("Authorization", List.of("Bearer expired-token")), null, StandardCharsets.UTF_8, null);
+
+    private final Deque<Integer> statuses = new ArrayDeque<>();
+    private final List<String> authorizations = new ArrayList<>();
+    private final List<String> rejectedTokens = new ArrayList<>();
+
+    private final Client stubClient = (request, options) -> {
+        authorizations.addAll(request.headers().get("Authorization"));
+        return response(statuses.removeFirst());
+    };
+
+    @Test
+    void givenARejectedToken_retriesWithTheRefreshedOne() throws IOException {
+        statuses.add(401);
+        statuses.add(200);
+
+        var response = new TokenRefreshingClient(stubClient, this::refresh).execute(REQUEST, new Request.Options());
+
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(rejectedTokens).containsExactly("expired-token");
+        assertThat(authorizations).containsExactly("Bearer expired-token", "Bearer new-token");
+    }
+
+    @Test
+    void givenNoOtherToken_returnsTheUnauthorizedResponse() throws IOException {
+        statuses.add(401);
+
+        var response = new TokenRefreshingClient(stubClient, token -> Optional.empty())
+                .execute(REQUEST, new Request.Options());
+
+        assertThat(response.status()).isEqualTo(401);
+        assertThat(authorizations).hasSize(1);
+    }
+
+    private Optional<String> refresh(String rejectedToken) {
+        rejectedTokens.add(rejectedToken);
+        return Optional.of("new-token");
+    }
+
+    private static Response response(int status) {
+        return Response.builder()
+                .status(status)
+                .reason("")
+                .request(REQUEST)
+                .headers(Map.<String, Collection<String>>of())
+                .body(new byte[0])
+                .build();
+    }
+}
@@ -0,0 +1,180 @@
+package uk.ac.ebi.atlas.releasenotes.incremental;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRule;
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules;
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.classify.RuleType;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.source.CommitSource;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules.BUG_FIXES;
+import static uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules.NEW_FEATURES;
+import static uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules.OTHER_CHANGES;
+
+class IncrementalReleaseNotesTest {
+
+    private static final String OWNER = "ebi-gene-expression-group";
+    private static final String REPO = "release-notes-generator";
+
+    @TempDir
+    Path tempDir;
+
+    private final InMemoryCommitSource commitSource = new InMemoryCommitSource();
+
+    @Test
+    void givenStoredState_onlyFetchesTheCommitsAfterTheLastProcessedOne() {
+        commitSource.commit("Initial commit");
+        commitSource.commit("Fix typo in README");
+        Path stateFile = tempDir.resolve("notes.md.state.json");
+
+        var firstRun = new IncrementalReleaseNotes(stateFile, ClassificationRules.DEFAULT, ReleaseNotesApplication.objectMapper);
+        firstRun.save(firstRun.update(commitSource, OWNER, REPO, "sha0", "sha1"));
+
+        commitSource.commit("Merge pull request #3 from feature/search");
+        commitSource.commit("Update dependencies");
+        var secondRun = new IncrementalReleaseNotes(stateFile, ClassificationRules.DEFAULT, ReleaseNotesApplication.objectMapper);
+        ReleaseNotesState state = secondRun.update(commitSource, OWNER, REPO, "sha0", "sha3");
+
+        assertThat(commitSource.requestedRanges).containsExactly("sha0..sha1", "sha1...sha3");
+        assertThat(state.lastSha()).isEqualTo("sha3");
+        assertThat(state.sections())
+                .extracting(ReleaseSection::title, section -> subjects(section.commits()))
+                .containsExactly(
+                        tuple(NEW_FEATURES, List.of("Merge pull request #3 from feature/search")),
+                        tuple(BUG_FIXES, List.of("Fix typo in README")),
+                        tuple(OTHER_CHANGES, List.of("Update dependencies", "Initial commit")));
+    }
+
+    @Test
+    void givenStateWrittenWithOtherRules_classifiesTheWholeRangeAgain() {
+        commitSource.commit("Initial commit");
+        commitSource.commit("feat: add search");
+        Path stateFile = tempDir.resolve("notes.md.state.json");
+
+        var firstRun = new IncrementalReleaseNotes(stateFile, ClassificationRules.DEFAULT, ReleaseNotesApplication.objectMapper);
+        firstRun.save(firstRun.update(commitSource, OWNER, REPO, "sha0", "sha1"));
+
+        var conventionalRules = new ClassificationRules(
+                List.of(new ClassificationRule(NEW_FEATURES, RuleType.CONVENTIONAL_COMMIT, "feat")), OTHER_CHANGES);
+        var secondRun = new IncrementalReleaseNotes(stateFile, conventionalRules, ReleaseNotesApplication.objectMapper);
+        ReleaseNotesState state = secondRun.update(commitSource, OWNER, REPO, "sha0", "sha1");
+
+        assertThat(commitSource.requestedRanges).containsExactly("sha0..sha1", "sha0..sha1");
+        assertThat(subjects(state.sections().get(0).commits())).containsExactly("feat: add search");
+    }
+
+    @Test
+    void givenALastProcessedCommitThatWasForcePushedAway_classifiesTheWholeRangeAgain() {
+        var rewritableSource = new RewritableCommitSource();
+        rewritableSource.commit("sha0", null, "Initial commit");
+        rewritableSource.commit("sha1", "sha0", "Fix typo");
+        Path stateFile = tempDir.resolve("notes.md.state.json");
+
+        var firstRun = new IncrementalReleaseNotes(stateFile, ClassificationRules.DEFAULT, ReleaseNotesApplication.objectMapper);
+        firstRun.save(firstRun.update(rewritableSource, OWNER, REPO, "sha0", "sha1"));
+
+        // sha1 is amended and force-pushed as sha2
+        rewritableSource.commit("sha2", "sha0", "Fix typo in README");
+        var secondRun = new IncrementalReleaseNotes(stateFile, ClassificationRules.DEFAULT, ReleaseNotesApplication.objectMapper);
+        ReleaseNotesState state = secondRun.update(rewritableSource, OWNER, REPO, "sha0", "sha2");
+
+        assertThat(rewritableSource.requestedRanges).containsExactly("sha0..sha1", "sha1..sha2", "sha0..sha2");
+        assertThat(state.lastSha()).isEqualTo("sha2");
+        assertThat(state.sections())
+                .extracting(ReleaseSection::title, section -> subjects(section.commits()))
+                .containsExactly(
+                        tuple(NEW_FEATURES, List.of()),
+                        tuple(BUG_FIXES, List.of("Fix typo in README")),
+                        tuple(OTHER_CHANGES, List.of("Initial commit")));
+    }
+
+    private static List<String> subjects(List<? extends CommitView> commits) {
+        return commits.stream().map(CommitView::subject).toList();
+    }
+
+    // A linear history whose commits are named sha0, sha1, ... from the oldest
+    private static class InMemoryCommitSource implements CommitSource {
+        private final List<Commit> history = new ArrayList<>();
+        private final List<String> requestedRanges = new ArrayList<>();
+
+        void commit(String message) {
+            String sha = "sha" + history.size();
+            history.add(0, new Commit(sha,
+                    new CommitDetails(message, new Author("dev@ebi.ac.uk", Instant.parse("2024-05-02T10:15:30Z"))),
+                    "https://github.com/%s/%s/commit/%s".formatted(OWNER, REPO, sha), null, null));
+        }
+
+        @Override
+        public GitHubProject getProject(String owner, String repo) {
+            return new GitHubProject("main", repo, null, null, null);
+        }
+
+        @Override
+        public List<Commit> getCommitsInRange(String owner, String repo, String sinceCommit, String untilCommit) {
+            requestedRanges.add(sinceCommit + ".." + untilCommit);
+            return new ArrayList<>(history.subList(indexOf(untilCommit), indexOf(sinceCommit) + 1));
+        }
+
+        @Override
+        public List<Commit> getCommitsAfter(String owner, String repo, String sinceCommit, String untilCommit) {
+            requestedRanges.add(sinceCommit + "..." + untilCommit);
+            return new ArrayList<>(history.subList(indexOf(untilCommit), indexOf(sinceCommit)));
+        }
+
+        private int indexOf(String sha) {
+            return history.size() - 1 - Integer.parseInt(sha.substring("sha".length()));
+        }
+    }
+
+    // Commits with a single parent, listed like git log <until> --not <since>^@, so ranges can be rewritten
+    private static class RewritableCommitSource implements CommitSource {
+        private final Map<String, Commit> commits = new HashMap<>();
+        private final Map<String, String> parents = new HashMap<>();
+        private final List<String> requestedRanges = new ArrayList<>();
+
+        void commit(String sha, String parentSha, String message) {
+            commits.put(sha, new Commit(sha,
+                    new CommitDetails(message, new Author("dev@ebi.ac.uk", Instant.parse("2024-05-02T10:15:30Z"))),
+                    "https://github.com/%s/%s/commit/%s".formatted(OWNER, REPO, sha), null, null));
+            if (parentSha != null) {
+                parents.put(sha, parentSha);
+            }
+        }
+
+        @Override
+        public GitHubProject getProject(String owner, String repo) {
+            return new GitHubProject("main", repo, null, null, null);
+        }
+
+        @Override
+        public List<Commit> getCommitsInRange(String owner, String repo, String sinceCommit, String untilCommit) {
+            requestedRanges.add(sinceCommit + ".." + untilCommit);
+            List<String> excluded = parents.containsKey(sinceCommit) ? history(parents.get(sinceCommit)) : List.of();
+            return history(untilCommit).stream().filter(sha -> !excluded.contains(sha)).map(commits::get).toList();
+        }
+
+        private List<String> history(String sha) {
+            List<String> history = new ArrayList<>();
+            for (String ancestor = sha; ancestor != null; ancestor = parents.get(ancestor)) {
+                history.add(ancestor);
+            }
+            return history;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package uk.ac.ebi.atlas.releasenotes.json;
+
+import feign.Request;
+import feign.Response;
+import feign.jackson.JacksonDecoder;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommitPageDecoderTest {
+
+    private static final Type COMMIT_PAGE_TYPE = CommitPage.class.getGenericInterfaces()[0];
+
+    private static final String COMMIT_JSON = """
+            {
+              "sha": "9cf91ff128e1309b52db055b43ece218733f1b17",
+              "node_id": "C_kwDOLAbc",
+              "commit": {
+                "author": {"name": "Joe", "email": "joe@ebi.ac.uk", "date": "2024-05-02T10:15:30Z"},
+                "committer": {"name": "GitHub", "email": "noreply@github.com", "date": "2024-05-02T10:15:30Z"},
+                "message": "Fix cache eviction\\n\\nThe entries were never evicted.",
+                "tree": {"sha": "4b825dc642cb6eb9a060e54bf8d69288fbee4904", "url": "https://api.github.com/tree"},
+                "verification": {"verified": false, "reason": "unsigned", "signature": null, "payload": null}
+              },
+              "html_url": "https://github.com/ebi-gene-expression-group/release-notes-generator/commit/9cf91ff",
+              "author": null,
+              "parents": [{"sha": "afc2ab859d72b0cd8d0ef0076643f789fad6a806", "url": "https://api.github.com/parent"}],
+              "stats": {"total": 3, "additions": 2, "deletions": 1}
+            }""";
+
+    private static final Commit COMMIT = new Commit(
+            "9cf91ff128e1309b52db055b43ece218733f1b17",
+            new CommitDetails("Fix cache eviction\n\nThe entries were never evicted.",
+                    new Author("joe@ebi.ac.uk", Instant.parse("2024-05-02T10:15:30Z"))),
+            "https://github.com/ebi-gene-expression-group/release-notes-generator/commit/9cf91ff",
+            null,
+            List.of(new CommitParent("afc2ab859d72b0cd8d0ef0076643f789fad6a806")));
+
+    private final CommitPageDecoder decoder = new CommitPageDecoder(ReleaseNotesApplication.objectMapper);
+
+    // Gives access to the List<Commit> type the Feign client decodes into
+    private interface CommitPage extends List<Commit> {
+    }
+
+    @Test
+    void givenACommitsPage_decodesTheSameCommitsAsJacksonDecoder() throws IOException {
+        String page = "[" + COMMIT_JSON + "," + COMMIT_JSON + "]";
+
+        Object commits = decoder.decode(response(page), COMMIT_PAGE_TYPE);
+
+        assertThat(commits)
+                .isEqualTo(List.of(COMMIT, COMMIT))
+                .isEqualTo(new JacksonDecoder(ReleaseNotesApplication.objectMapper).decode(response(page), COMMIT_PAGE_TYPE));
+    }
+
+    @Test
+    void givenAComparison_skipsTheBaseCommitAndTheFiles() throws IOException {
+        String comparison = """
+                {"url": "https://api.github.com/compare", "base_commit": %s, "merge_base_commit": %s,
+                 "status": "ahead", "ahead_by": 1, "behind_by": 0, "total_commits": 1, "commits": [%s],
+                 "files": [{"filename": "README.md", "status": "modified", "patch": "@@ -1 +1 @@"}]}"""
+                .formatted(COMMIT_JSON, COMMIT_JSON, COMMIT_JSON);
+
+        Object decoded = decoder.decode(response(comparison), CommitComparison.class);
+
+        assertThat(decoded).isEqualTo(new CommitComparison("ahead", 1, List.of(COMMIT)));
+    }
+
+    @Test
+    void givenAnotherType_delegatesToJacksonDecoder() throws IOException {
+        String project = """
+                {"name": "release-notes-generator", "default_branch": "main", "owner": {"login": "ebi-gene-expression-group"}}""";
+
+        Object decoded = decoder.decode(response(project), GitHubProject.class);
+
+        assertThat(decoded).isEqualTo(new GitHubProject("main", "release-notes-generator", null, null, null));
+    }
+
+    private static Response response(String body) {
+        return Response.builder()
+                .status(200)
+                .request(Request.create(Request.HttpMethod.GET, "https://api.github.com/repos/owner/repo/commits",
+                        Map.of(), null, StandardCharsets.UTF_8, null))
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
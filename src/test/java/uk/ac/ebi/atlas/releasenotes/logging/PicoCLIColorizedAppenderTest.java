@@ -0,0 +1,120 @@
+package uk.ac.ebi.atlas.releasenotes.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import picocli.CommandLine;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.stefanbirkner.systemlambda.SystemLambda.tapSystemOutNormalized;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PicoCLIColorizedAppenderTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+
+    private PicoCLIColorizedAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%level %msg%n");
+        encoder.start();
+
+        appender = new PicoCLIColorizedAppender();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setAnsi(CommandLine.Help.Ansi.OFF);
+    }
+
+    @Test
+    void givenAnAnsiTerminal_colorsEventsByLevel() throws Exception {
+        appender.setAnsi(CommandLine.Help.Ansi.ON);
+        appender.start();
+
+        String output = tapSystemOutNormalized(() -> {
+            appender.doAppend(event(Level.INFO, "Release notes saved"));
+            appender.doAppend(event(Level.ERROR, "Error fetching commits"));
+        });
+
+        assertThat(output).isEqualTo(
+                "\u001B[32mINFO Release notes saved\n\u001B[0m\u001B[31mERROR Error fetching commits\n\u001B[0m");
+    }
+
+    @Test
+    void givenAsyncMode_writesEveryEventInOrderByTheTimeItStops() throws Exception {
+        appender.setAsync(true);
+        appender.start();
+
+        String output = tapSystemOutNormalized(() -> {
+            IntStream.range(0, 100).forEach(i -> appender.doAppend(event(Level.INFO, "Page " + i)));
+            appender.stop();
+        });
+
+        assertThat(output).isEqualTo(IntStream.range(0, 100)
+                .mapToObj(i -> "INFO Page " + i + "\n")
+                .collect(Collectors.joining()));
+    }
+
+    @Test
+    void givenAsyncModeRestarted_keepsOneShutdownHook() {
+        appender.setAsync(true);
+        appender.start();
+        Thread firstShutdownHook = appender.shutdownHook;
+        appender.stop();
+        appender.start();
+
+        try {
+            assertThat(Runtime.getRuntime().removeShutdownHook(firstShutdownHook)).isFalse();
+            assertThat(appender.shutdownHook).isNotNull().isNotSameAs(firstShutdownHook);
+        } finally {
+            appender.stop();
+        }
+        assertThat(appender.shutdownHook).isNull();
+    }
+
+    @Test
+    void givenAFullQueue_dropsDebugEvents() {
+        CountDownLatch consoleReleased = new CountDownLatch(1);
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                try {
+                    consoleReleased.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }));
+        try {
+            appender.setAsync(true);
+            appender.setQueueSize(1);
+            appender.start();
+
+            // The writer holds at most one event and the queue another one
+            IntStream.range(0, 3).forEach(i -> appender.doAppend(event(Level.DEBUG, "GET page " + i)));
+
+            assertThat(appender.getDroppedEvents()).isPositive();
+        } finally {
+            consoleReleased.countDown();
+            appender.stop();
+            System.setOut(originalOut);
+        }
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(PicoCLIColorizedAppenderTest.class.getName(), loggerContext.getLogger("test"), level,
+                message, null, null);
+    }
+}
@@ -0,0 +1,84 @@
+package uk.ac.ebi.atlas.releasenotes.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicLong remaining = new AtomicLong(4999);
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        Timer requests = Timer.builder(ReleaseNotesMetrics.HTTP_REQUESTS)
+                .tags("endpoint", "getCommitsPage", "status", "200")
+                .register(registry);
+        requests.record(Duration.ofMillis(100));
+        requests.record(Duration.ofMillis(300));
+        DistributionSummary responseSize = DistributionSummary.builder(ReleaseNotesMetrics.HTTP_RESPONSE_SIZE)
+                .baseUnit("bytes")
+                .tag("endpoint", "getCommitsPage")
+                .register(registry);
+        responseSize.record(1024);
+        responseSize.record(2048);
+        Gauge.builder(ReleaseNotesMetrics.RATE_LIMIT_REMAINING, remaining, AtomicLong::get).register(registry);
+    }
+
+    @Test
+    void givenRecordedMeters_tabulatesThemByName() {
+        String[] lines = MetricsReport.of(registry).toTable().split("\n");
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("Metric");
+        assertThat(lines[1]).startsWith(ReleaseNotesMetrics.RATE_LIMIT_REMAINING).contains("4999");
+        assertThat(lines[2]).startsWith(ReleaseNotesMetrics.HTTP_REQUESTS)
+                .contains("endpoint=getCommitsPage,status=200")
+                .contains(" 2 ")
+                .contains("400.0 ms")
+                .contains("200.0 ms")
+                .contains("300.0 ms");
+        assertThat(lines[3]).startsWith(ReleaseNotesMetrics.HTTP_RESPONSE_SIZE)
+                .contains("3072 bytes")
+                .contains("1536 bytes")
+                .contains("2048 bytes");
+    }
+
+    @Test
+    void givenRecordedMeters_writesThemAsJson() throws IOException {
+        File metricsFile = tempDir.resolve("metrics.json").toFile();
+
+        MetricsReport.of(registry).writeJson(ReleaseNotesApplication.objectMapper, metricsFile);
+
+        JsonNode meters = ReleaseNotesApplication.objectMapper.readTree(metricsFile).get("meters");
+        assertThat(meters).hasSize(3);
+        JsonNode requests = meters.get(1);
+        assertThat(requests.get("name").asText()).isEqualTo(ReleaseNotesMetrics.HTTP_REQUESTS);
+        assertThat(requests.get("tags").get("status").asText()).isEqualTo("200");
+        assertThat(requests.get("count").asLong()).isEqualTo(2);
+        assertThat(requests.get("total").asDouble()).isEqualTo(400.0);
+        assertThat(requests.get("unit").asText()).isEqualTo("ms");
+        assertThat(meters.get(0).get("value").asDouble()).isEqualTo(4999.0);
+        assertThat(meters.get(0).has("count")).isFalse();
+    }
+}
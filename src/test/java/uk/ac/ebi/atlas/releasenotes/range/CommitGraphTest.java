@@ -0,0 +1,60 @@
+package uk.ac.ebi.atlas.releasenotes.range;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommitGraphTest {
+
+    // Newest first. A feature branch started at a1c8e5d3, and was merged into main after b2d9f6c0.
+    private static final List<Commit> HISTORY = List.of(
+            commit("e5a2bd1b", "d4f0c9aa", "c3b1e872"),
+            commit("d4f0c9aa", "b2d9f6c0"),
+            commit("c3b1e872", "a1c8e5d3"),
+            commit("b2d9f6c0", "a1c8e5d3"),
+            commit("a1c8e5d3"));
+
+    private final CommitGraph<Commit> commitGraph = CommitGraph.of(HISTORY);
+
+    @Test
+    void givenAnAbbreviatedSha_findsItsPosition() {
+        assertThat(commitGraph.indexOf("c3b1e872")).isEqualTo(2);
+        assertThat(commitGraph.indexOf("c3b")).isEqualTo(2);
+        assertThat(commitGraph.indexOf("f6e3d2c1")).isEqualTo(-1);
+    }
+
+    @Test
+    void givenAMergedBranch_includesItsCommitsInTheRange() {
+        var range = commitGraph.range(commitGraph.indexOf("b2d9f6c0"), commitGraph.indexOf("e5a2bd1b"));
+
+        assertThat(range).extracting(Commit::sha).containsExactly("e5a2bd1b", "d4f0c9aa", "c3b1e872", "b2d9f6c0");
+    }
+
+    @Test
+    void givenASinceCommitOnAnotherBranch_returnsNull() {
+        assertThat(commitGraph.range(commitGraph.indexOf("c3b1e872"), commitGraph.indexOf("d4f0c9aa"))).isNull();
+    }
+
+    @Test
+    void givenARangeReachingPastTheHistory_returnsNull() {
+        var truncatedGraph = CommitGraph.of(HISTORY.subList(0, 4));
+
+        assertThat(truncatedGraph.range(truncatedGraph.indexOf("b2d9f6c0"), truncatedGraph.indexOf("e5a2bd1b"))).isNull();
+        assertThat(truncatedGraph.range(truncatedGraph.indexOf("d4f0c9aa"), truncatedGraph.indexOf("d4f0c9aa")))
+                .extracting(Commit::sha)
+                .containsExactly("d4f0c9aa");
+    }
+
+    private static Commit commit(String sha, String... parents) {
+        return new Commit(sha, new CommitDetails("Commit " + sha, new Author("joe@example.com", Instant.EPOCH)),
+                "https://github.com/commit/" + sha, null, Arrays.stream(parents).map(CommitParent::new).toList());
+    }
+}
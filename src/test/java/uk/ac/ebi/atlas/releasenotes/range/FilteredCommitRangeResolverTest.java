@@ -0,0 +1,97 @@
+package uk.ac.ebi.atlas.releasenotes.range;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.Tag;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FilteredCommitRangeResolverTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+    public static final String REPO_NAME = "atlas";
+
+    private static final Commit SINCE = commit("since", "2024-01-01T00:00:00Z");
+    private static final Commit SCXA_FIX = commit("scxa-fix", "2024-03-01T00:00:00Z");
+    private static final Commit SHARED_CHANGE = commit("shared-change", "2024-02-01T00:00:00Z");
+    private static final Commit BULK_FEATURE = commit("bulk-feature", "2024-01-15T00:00:00Z");
+    private static final Commit MERGED_BEFORE_SINCE = commit("merged-before-since", "2024-01-10T00:00:00Z");
+
+    // Filtered histories by ref and path, as the commits endpoint would list them
+    private final Map<String, List<Commit>> histories = Map.of(
+            "main:scxa", List.of(SCXA_FIX, SHARED_CHANGE, MERGED_BEFORE_SINCE),
+            "main:bulk", List.of(SHARED_CHANGE, BULK_FEATURE, MERGED_BEFORE_SINCE),
+            "since:scxa", List.of(MERGED_BEFORE_SINCE),
+            "since:bulk", List.of(MERGED_BEFORE_SINCE));
+    private final Map<String, Map<String, Object>> requests = new ConcurrentHashMap<>();
+
+    @Test
+    void givenSeveralPaths_mergesTheirCommitsBySha() {
+        var resolver = new FilteredCommitRangeResolver(new FakeGitHubClient(),
+                new CommitFilter(List.of("scxa", "bulk"), null, null, null));
+
+        List<Commit> commits = resolver.resolve(REPO_OWNER, REPO_NAME, "since", "main");
+
+        assertThat(commits).containsExactly(SCXA_FIX, SHARED_CHANGE, BULK_FEATURE, SINCE);
+    }
+
+    @Test
+    void givenAFilter_passesItToGitHubFromTheSinceCommitOn() {
+        var resolver = new FilteredCommitRangeResolver(new FakeGitHubClient(),
+                new CommitFilter(List.of("scxa"), "joe", Instant.parse("2023-06-01T00:00:00Z"), null));
+
+        resolver.resolveAfter(REPO_OWNER, REPO_NAME, "since", "main");
+
+        assertThat(requests.get("main:scxa")).containsExactly(
+                Map.entry("path", "scxa"), Map.entry("author", "joe"), Map.entry("since", "2024-01-01T00:00:00Z"));
+    }
+
+    private static Commit commit(String sha, String date) {
+        return new Commit(sha, new CommitDetails(sha, new Author("joe@example.com", Instant.parse(date))), null, null, null);
+    }
+
+    private class FakeGitHubClient implements GitHubClient {
+        @Override
+        public List<Commit> getFilteredCommitsPage(String owner, String repo, String sha, int page, int perPage,
+                                                   Map<String, Object> filter) {
+            String key = sha + ":" + filter.get("path");
+            requests.put(key, filter);
+            return page == 1 ? histories.getOrDefault(key, List.of()) : List.of();
+        }
+
+        @Override
+        public Commit getCommit(String owner, String repo, String ref) {
+            return SINCE;
+        }
+
+        @Override
+        public GitHubProject getProject(String owner, String repo) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Commit> getCommitsPage(String owner, String repo, String sha, int page, int perPage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CommitComparison compareCommits(String owner, String repo, String base, String head, int page, int perPage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Tag> listTags(String owner, String repo, int page, int perPage) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
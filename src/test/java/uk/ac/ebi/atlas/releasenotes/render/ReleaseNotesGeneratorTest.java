@@ -0,0 +1,115 @@
+package uk.ac.ebi.atlas.releasenotes.render;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.render.template.Escaping;
+import uk.ac.ebi.atlas.releasenotes.render.template.TemplateFormat;
+import uk.ac.ebi.atlas.releasenotes.timeline.Release;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReleaseNotesGeneratorTest {
+
+    private static final GitHubProject PROJECT = new GitHubProject("main", "release-notes-generator",
+            "A helper project to generate release notes for our web apps", null, null);
+
+    private static final List<Commit> COMMITS = List.of(
+            commit("9cf91ff128e1309b52db055b43ece218733f1b17", "Merge pull request #7\n\nAdd HTML output"),
+            commit("5e1c6e0d3c1d4c2b8c1a9f1e2d3c4b5a69788776", "Fix the output file extension"),
+            commit("afc2ab859d72b0cd8d0ef0076643f789fad6a806", "Update README"));
+
+    @TempDir
+    Path outputDir;
+
+    private final ReleaseNotesGenerator releaseNotesGenerator = new ReleaseNotesGenerator();
+
+    @Test
+    void givenCommits_generatesMarkdownSections() {
+        String releaseNotes = releaseNotesGenerator.generateReleaseNotes(COMMITS, PROJECT, "v1.0.0", OutputFormat.MARKDOWN);
+
+        assertThat(releaseNotes).isEqualTo("""
+
+                # Release Notes for release-notes-generator - v1.0.0
+                **A helper project to generate release notes for our web apps**
+
+                ##⭐ New Features
+                * **[9cf91ff1](https://github.com/commit/9cf91ff128e1309b52db055b43ece218733f1b17)** Merge pull request #7 (by joe@example.com)
+
+                ##🐞 Bug Fixes
+                * **[5e1c6e0d](https://github.com/commit/5e1c6e0d3c1d4c2b8c1a9f1e2d3c4b5a69788776)** Fix the output file extension (by joe@example.com)
+
+                ##💡 Other Changes
+                * **[afc2ab85](https://github.com/commit/afc2ab859d72b0cd8d0ef0076643f789fad6a806)** Update README (by joe@example.com)""");
+    }
+
+    @Test
+    void givenAnOutputFile_streamsTheReleaseNotesIntoIt() throws IOException {
+        var outputFile = releaseNotesGenerator.writeReleaseNotes(
+                COMMITS, PROJECT, "v1.0.0", OutputFormat.HTML, outputDir.resolve("release_notes").toFile());
+
+        assertThat(outputFile.getName()).isEqualTo("release_notes.html");
+        assertThat(Files.readString(outputFile.toPath()))
+                .isEqualTo(releaseNotesGenerator.generateReleaseNotes(COMMITS, PROJECT, "v1.0.0", OutputFormat.HTML))
+                .startsWith("<!DOCTYPE html>")
+                .contains("<h2>⭐ New Features</h2><ul><li><a href='https://github.com/commit/9cf91ff128e1309b52db055b43ece218733f1b17'>9cf91ff1</a>")
+                .endsWith("</ul></body></html>");
+    }
+
+    @Test
+    void givenATemplateFormat_writesAFileWithItsExtension() throws IOException {
+        var format = new TemplateFormat("CSV", ".csv", Escaping.NONE, "sha,subject\n", null, null, null, null,
+                null, null, null, null, "{{sha}},{{subject}}", "\n", null);
+
+        var outputFile = releaseNotesGenerator.writeReleaseNotes(
+                COMMITS, PROJECT, "v1.0.0", format, outputDir.resolve("release_notes").toFile());
+
+        assertThat(outputFile.getName()).isEqualTo("release_notes.csv");
+        assertThat(Files.readAllLines(outputFile.toPath())).containsExactly(
+                "sha,subject",
+                "9cf91ff128e1309b52db055b43ece218733f1b17,Merge pull request #7",
+                "5e1c6e0d3c1d4c2b8c1a9f1e2d3c4b5a69788776,Fix the output file extension",
+                "afc2ab859d72b0cd8d0ef0076643f789fad6a806,Update README");
+    }
+
+    @Test
+    void givenReleases_generatesAMarkdownChangelogWithoutEmptySections() {
+        var releases = List.of(
+                new Release("v1.1.0", "v1.1.0", COMMITS.subList(0, 2)),
+                new Release("v1.0.0", "v1.0.0", COMMITS.subList(2, 3)));
+
+        String changelog = releaseNotesGenerator.generateChangelog(releases, PROJECT, OutputFormat.MARKDOWN);
+
+        assertThat(changelog).isEqualTo("""
+
+                # Changelog for release-notes-generator
+                **A helper project to generate release notes for our web apps**
+
+                ## v1.1.0
+
+                ###⭐ New Features
+                * **[9cf91ff1](https://github.com/commit/9cf91ff128e1309b52db055b43ece218733f1b17)** Merge pull request #7 (by joe@example.com)
+
+                ###🐞 Bug Fixes
+                * **[5e1c6e0d](https://github.com/commit/5e1c6e0d3c1d4c2b8c1a9f1e2d3c4b5a69788776)** Fix the output file extension (by joe@example.com)
+
+                ## v1.0.0
+
+                ###💡 Other Changes
+                * **[afc2ab85](https://github.com/commit/afc2ab859d72b0cd8d0ef0076643f789fad6a806)** Update README (by joe@example.com)""");
+    }
+
+    private static Commit commit(String sha, String message) {
+        return new Commit(sha, new CommitDetails(message, new Author("joe@example.com", Instant.EPOCH)),
+                "https://github.com/commit/" + sha, null, null);
+    }
+}
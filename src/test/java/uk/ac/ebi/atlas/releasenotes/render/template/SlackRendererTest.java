@@ -0,0 +1,112 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.render.ChangelogEntry;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlackRendererTest {
+
+    private static final GitHubProject PROJECT = new GitHubProject("main", "release-notes-generator", null, null, null);
+
+    private static final Commit UNSAFE_COMMIT = commit("Render <b>bold</b> & \"quoted\" names\\paths");
+
+    @Test
+    void givenASectionWithoutCommits_rendersABlockPerSection() throws IOException {
+        JsonNode slack = render(List.of(
+                new ReleaseSection("Features", List.of(UNSAFE_COMMIT, commit("Tab\there"))),
+                new ReleaseSection("Fixes", List.of())));
+
+        assertThat(slack.at("/blocks")).hasSize(3);
+        assertThat(slack.at("/blocks/0/text/text").asText()).isEqualTo("*Release Notes for release-notes-generator - v1.0.0*");
+        assertThat(slack.at("/blocks/1/text/text").asText())
+                .startsWith("*Features*\n• <https://github.com/commit/9cf91ff128e1309b52db055b43ece218733f1b17|9cf91ff1>")
+                .contains("Render &lt;b&gt;bold&lt;/b&gt; &amp; \"quoted\" names\\paths (by joe@example.com)")
+                .endsWith("Tab\there (by joe@example.com)");
+        assertThat(slack.at("/blocks/2/text/text").asText()).isEqualTo("*Fixes*");
+    }
+
+    @Test
+    void givenMoreCommitsThanABlockHolds_continuesTheSectionInAnotherBlock() throws IOException {
+        JsonNode slack = render(List.of(new ReleaseSection("Features", commits(100))));
+
+        assertThat(slack.at("/blocks").size()).isGreaterThan(2);
+        assertThat(slack.at("/blocks/2/text/text").asText()).startsWith("*Features (continued)*\n");
+        assertTextsWithinLimit(slack);
+        assertThat(countCommits(slack)).isEqualTo(100);
+    }
+
+    @Test
+    void givenMoreBlocksThanAMessageHolds_countsTheCommitsLeftOut() throws IOException {
+        List<ChangelogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            entries.add(new ChangelogEntry("v1." + i + ".0", List.of(new ReleaseSection("Fixes", commits(1)))));
+        }
+        StringWriter changelog = new StringWriter();
+
+        SlackRenderer.INSTANCE.renderChangelog(entries, PROJECT, changelog);
+
+        JsonNode slack = ReleaseNotesApplication.objectMapper.readTree(changelog.toString());
+        // The header, then a divider, the version and a section per release
+        assertThat(slack.at("/blocks")).hasSize(SlackRenderer.MAX_BLOCKS);
+        assertThat(slack.at("/blocks/48/text/text").asText()).startsWith("*Fixes*");
+        assertThat(slack.at("/blocks/49/text/text").asText()).isEqualTo("_…and 44 more commits_");
+        assertThat(countCommits(slack)).isEqualTo(16);
+    }
+
+    @Test
+    void givenASubjectLongerThanABlockHolds_shortensIt() throws IOException {
+        JsonNode slack = render(List.of(new ReleaseSection("Features", List.of(commit("<&>".repeat(2000))))));
+
+        assertThat(slack.at("/blocks")).hasSize(2);
+        assertThat(slack.at("/blocks/1/text/text").asText()).contains("&lt;&amp;&gt;… (by joe@example.com)");
+        assertTextsWithinLimit(slack);
+    }
+
+    private static void assertTextsWithinLimit(JsonNode slack) {
+        for (JsonNode block : slack.at("/blocks")) {
+            assertThat(block.at("/text/text").asText().length()).isLessThanOrEqualTo(SlackRenderer.MAX_TEXT_LENGTH);
+        }
+    }
+
+    private static int countCommits(JsonNode slack) {
+        int commits = 0;
+        for (JsonNode block : slack.at("/blocks")) {
+            commits += block.at("/text/text").asText().split("•", -1).length - 1;
+        }
+        return commits;
+    }
+
+    private static JsonNode render(List<ReleaseSection> sections) throws IOException {
+        StringWriter releaseNotes = new StringWriter();
+        SlackRenderer.INSTANCE.render(sections, PROJECT, "v1.0.0", releaseNotes);
+        return ReleaseNotesApplication.objectMapper.readTree(releaseNotes.toString());
+    }
+
+    private static List<Commit> commits(int count) {
+        List<Commit> commits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            commits.add(commit("Commit " + i + " with a subject long enough to fill a block after a few dozen commits"));
+        }
+        return commits;
+    }
+
+    private static Commit commit(String message) {
+        String sha = "9cf91ff128e1309b52db055b43ece218733f1b17";
+        return new Commit(sha, new CommitDetails(message, new Author("joe@example.com", Instant.EPOCH)),
+                "https://github.com/commit/" + sha, null, null);
+    }
+}
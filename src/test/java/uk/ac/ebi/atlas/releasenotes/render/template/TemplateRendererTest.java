@@ -0,0 +1,168 @@
+package uk.ac.ebi.atlas.releasenotes.render.template;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.ReleaseNotesApplication;
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.render.ChangelogEntry;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesRenderer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TemplateRendererTest {
+
+    private static final GitHubProject PROJECT = new GitHubProject("main", "release-notes-generator", null, null, null);
+
+    private static final Commit UNSAFE_COMMIT = commit("9cf91ff128e1309b52db055b43ece218733f1b17",
+            "Render <b>bold</b> & \"quoted\" names\\paths", "joe@example.com");
+
+    @Test
+    void givenHtml_escapesCommitMessages() throws IOException {
+        String releaseNotes = render(TemplateFormats.HTML, List.of(new ReleaseSection("Fixes", List.of(UNSAFE_COMMIT))));
+
+        assertThat(releaseNotes)
+                .contains("Render &lt;b&gt;bold&lt;/b&gt; &amp; &quot;quoted&quot; names\\paths")
+                .doesNotContain("<b>");
+    }
+
+    @Test
+    void givenJson_rendersADocumentThatParsesBackToTheCommitMessage() throws IOException {
+        var sections = List.of(
+                new ReleaseSection("Features", List.of(UNSAFE_COMMIT, commit("afc2ab859d72b0cd8d0ef0076643f789fad6a806", "Tab\there", null))),
+                new ReleaseSection("Fixes", List.of()));
+
+        JsonNode json = ReleaseNotesApplication.objectMapper.readTree(render(TemplateFormats.JSON, sections));
+        assertThat(json.at("/version").asText()).isEqualTo("v1.0.0");
+        assertThat(json.at("/sections/0/commits/0/subject").asText()).isEqualTo(UNSAFE_COMMIT.subject());
+        assertThat(json.at("/sections/0/commits/1/subject").asText()).isEqualTo("Tab\there");
+        assertThat(json.at("/sections/0/commits/1/author").isMissingNode()).isTrue();
+        assertThat(json.at("/sections/1/commits")).isEmpty();
+    }
+
+    @Test
+    void givenAChangelog_rendersEachReleaseWithoutEmptySections() throws IOException {
+        var entries = List.of(
+                new ChangelogEntry("v1.1.0", List.of(
+                        new ReleaseSection("Features", List.of(UNSAFE_COMMIT)), new ReleaseSection("Fixes", List.of()))),
+                new ChangelogEntry("v1.0.0", List.of()));
+        StringWriter changelog = new StringWriter();
+
+        TemplateFormats.JSON.getRenderer().renderChangelog(entries, PROJECT, changelog);
+
+        JsonNode json = ReleaseNotesApplication.objectMapper.readTree(changelog.toString());
+        assertThat(json.at("/releases")).hasSize(2);
+        assertThat(json.at("/releases/0/sections")).hasSize(1);
+        assertThat(json.at("/releases/1/version").asText()).isEqualTo("v1.0.0");
+    }
+
+    @Test
+    void givenATemplateFromJson_rendersItsSectionsAndDefaults() throws IOException {
+        TemplateFormat format = ReleaseNotesApplication.objectMapper.readValue("""
+                {
+                  "header": "{{project}} {{version}}{{^description}} (no description){{/description}}",
+                  "section": "\\n[{{section}}]",
+                  "commit": "\\n- {{short_sha}} {{subject}}{{#author}} <{{author}}>{{/author}}"
+                }""", TemplateFormat.class);
+
+        String releaseNotes = render(format, List.of(new ReleaseSection("Fixes", List.of(
+                UNSAFE_COMMIT, commit("afc2ab859d72b0cd8d0ef0076643f789fad6a806", "Update README", null)))));
+
+        assertThat(format.getExtension()).isEqualTo(".txt");
+        assertThat(releaseNotes).isEqualTo("""
+                release-notes-generator v1.0.0 (no description)
+                [Fixes]
+                - 9cf91ff1 Render <b>bold</b> & "quoted" names\\paths <joe@example.com>
+                - afc2ab85 Update README""");
+    }
+
+    @Test
+    void givenTheSameFormat_reusesItsCompiledRenderer() {
+        TemplateFormat format = template("* {{subject}}");
+
+        assertThat(template("* {{subject}}").getRenderer()).isSameAs(format.getRenderer());
+        assertThat(template("- {{subject}}").getRenderer()).isNotSameAs(format.getRenderer());
+    }
+
+    @Test
+    void givenAnUnknownVariable_throwsIllegalArgumentException() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> template("* {{message}}").getRenderer())
+                .withMessageContaining("{{message}}");
+    }
+
+    @Test
+    void givenAVariableOutsideTheTemplatesItIsSetIn_throwsIllegalArgumentException() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TemplateFormat(null, null, null, "# {{subject}}", null, null, null, null, null,
+                        null, null, null, "* {{subject}}", null, null).getRenderer())
+                .withMessageContaining("{{subject}}")
+                .withMessageContaining("header");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TemplateFormat(null, null, null, null, null, null, null, null,
+                        "{{#author}}{{section}}{{/author}}", null, null, null, "* {{subject}}", null, null).getRenderer())
+                .withMessageContaining("{{author}}");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new TemplateFormat(null, null, null, null, null, null, null, null, null, null,
+                        "{{section}}", null, "* {{subject}}", null, null).getRenderer())
+                .withMessageContaining("section_separator");
+    }
+
+    @Test
+    void givenSectionAndCommitVariablesWhereTheyAreSet_rendersThem() throws IOException {
+        var format = new TemplateFormat(null, null, null, "{{project}}", null, null, null, null, "\n{{section}}:", null,
+                null, " ({{section}})", " {{short_sha}}", ",", null);
+
+        String releaseNotes = render(format, List.of(new ReleaseSection("Fixes", List.of(
+                UNSAFE_COMMIT, commit("afc2ab859d72b0cd8d0ef0076643f789fad6a806", "Update README", null)))));
+
+        assertThat(releaseNotes).isEqualTo("release-notes-generator\nFixes: 9cf91ff1, afc2ab85 (Fixes)");
+    }
+
+    @Test
+    void givenMismatchedSections_throwsIllegalArgumentException() {
+        assertThatIllegalArgumentException().isThrownBy(() -> template("{{#author}}{{subject}}").getRenderer());
+        assertThatIllegalArgumentException().isThrownBy(() -> template("{{#author}}{{subject}}{{/url}}").getRenderer());
+        assertThatIllegalArgumentException().isThrownBy(() -> template("{{subject").getRenderer());
+    }
+
+    @Test
+    void givenMoreCommitsThanTheBufferHolds_rendersThemAll() throws IOException {
+        List<Commit> commits = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            commits.add(commit("9cf91ff128e1309b52db055b43ece218733f1b17", "Commit " + i, "joe@example.com"));
+        }
+
+        String releaseNotes = render(template("{{subject}}"), List.of(new ReleaseSection("All", commits)));
+
+        assertThat(releaseNotes.length()).isGreaterThan(TemplateRenderer.FLUSH_THRESHOLD);
+        assertThat(releaseNotes).startsWith("Commit 0Commit 1").endsWith("Commit 9998Commit 9999");
+    }
+
+    private static String render(TemplateFormat format, List<ReleaseSection> sections) throws IOException {
+        ReleaseNotesRenderer renderer = format.getRenderer();
+        StringWriter releaseNotes = new StringWriter();
+        renderer.render(sections, PROJECT, "v1.0.0", releaseNotes);
+        return releaseNotes.toString();
+    }
+
+    private static TemplateFormat template(String commit) {
+        return new TemplateFormat(null, null, null, null, null, null, null, null, null, null, null, null, commit,
+                null, null);
+    }
+
+    private static Commit commit(String sha, String message, String authorEmail) {
+        return new Commit(sha, new CommitDetails(message, new Author(authorEmail, Instant.EPOCH)),
+                "https://github.com/commit/" + sha, null, null);
+    }
+}
@@ -0,0 +1,89 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.Tag;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the same linear history, newest first, and project for every repository.
+ */
+class FakeGitHubClient implements GitHubClient {
+
+    static final String DEFAULT_BRANCH = "main";
+
+    final List<Commit> history = new ArrayList<>();
+    final AtomicInteger projectRequests = new AtomicInteger();
+    volatile String description = "Expression Atlas web application";
+
+    FakeGitHubClient(String... shas) {
+        for (int i = 0; i < shas.length; i++) {
+            List<CommitParent> parents = i + 1 < shas.length ? List.of(new CommitParent(shas[i + 1])) : List.of();
+            history.add(new Commit(shas[i], new CommitDetails("Commit " + shas[i], new Author("joe@example.com", Instant.EPOCH)),
+                    "https://github.com/commit/" + shas[i], null, parents));
+        }
+    }
+
+    @Override
+    public GitHubProject getProject(String owner, String repo) {
+        projectRequests.incrementAndGet();
+        return new GitHubProject(DEFAULT_BRANCH, repo, description, null, null);
+    }
+
+    @Override
+    public List<Commit> getCommitsPage(String owner, String repo, String sha, int page, int perPage) {
+        int head = indexOf(sha);
+        return page == 1 ? List.copyOf(history.subList(head, Math.min(head + perPage, history.size()))) : List.of();
+    }
+
+    @Override
+    public List<Commit> getFilteredCommitsPage(String owner, String repo, String sha, int page, int perPage,
+                                               Map<String, Object> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Commit getCommit(String owner, String repo, String ref) {
+        return history.get(indexOf(ref));
+    }
+
+    @Override
+    public CommitComparison compareCommits(String owner, String repo, String base, String head, int page, int perPage) {
+        int baseIdx = indexOf(base);
+        int headIdx = indexOf(head);
+        if (baseIdx < headIdx) {
+            return new CommitComparison("behind", 0, List.of());
+        }
+        List<Commit> commits = new ArrayList<>(history.subList(headIdx, baseIdx));
+        Collections.reverse(commits);
+        return new CommitComparison(commits.isEmpty() ? "identical" : "ahead", commits.size(), commits);
+    }
+
+    @Override
+    public List<Tag> listTags(String owner, String repo, int page, int perPage) {
+        throw new UnsupportedOperationException();
+    }
+
+    private int indexOf(String ref) {
+        if (DEFAULT_BRANCH.equals(ref)) {
+            return 0;
+        }
+        for (int i = 0; i < history.size(); i++) {
+            if (history.get(i).sha().startsWith(ref)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No commit " + ref);
+    }
+}
@@ -0,0 +1,101 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHubWebhookControllerTest {
+
+    private static final String SECRET = "It's a Secret to Everybody";
+    private static final String REPOSITORY = "ebi-gene-expression-group/atlas-web";
+
+    private final List<String> refreshedRepositories = new ArrayList<>();
+
+    @Test
+    void givenNoSecret_refusesWebhooks() throws Exception {
+        var controller = controller(null);
+        byte[] payload = push("EBI-Gene-Expression-Group", "atlas-web", "refs/heads/main");
+
+        assertThat(controller.handleEvent("push", sign(payload), payload).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.handleEvent("push", null, payload).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(refreshedRepositories).isEmpty();
+    }
+
+    @Test
+    void givenAMissingOrInvalidSignature_returnsUnauthorized() throws Exception {
+        var controller = controller(SECRET);
+        byte[] payload = push("ebi-gene-expression-group", "atlas-web", "refs/heads/main");
+
+        assertThat(controller.handleEvent("push", null, payload).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(controller.handleEvent("push", "sha256=0123", payload).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(controller.handleEvent("push", "sha256=not-hex", payload).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(refreshedRepositories).isEmpty();
+    }
+
+    @Test
+    void givenASignedPushToTheDefaultBranch_refreshesTheRepository() throws Exception {
+        var controller = controller(SECRET);
+        byte[] payload = push("EBI-Gene-Expression-Group", "atlas-web", "refs/heads/main");
+
+        assertThat(controller.handleEvent("push", sign(payload), payload).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(refreshedRepositories).containsExactly("EBI-Gene-Expression-Group/atlas-web");
+    }
+
+    @Test
+    void givenAPushToAnotherBranch_ignoresIt() throws Exception {
+        var controller = controller(SECRET);
+        byte[] payload = push("ebi-gene-expression-group", "atlas-web", "refs/heads/feature");
+
+        assertThat(controller.handleEvent("push", sign(payload), payload).getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(refreshedRepositories).isEmpty();
+    }
+
+    @Test
+    void givenASignedPushToAnUnconfiguredRepository_ignoresIt() throws Exception {
+        var controller = controller(SECRET);
+        byte[] payload = push("ebi-gene-expression-group", "scxa", "refs/heads/main");
+
+        assertThat(controller.handleEvent("push", sign(payload), payload).getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(refreshedRepositories).isEmpty();
+    }
+
+    @Test
+    void givenASignedPing_answersOk() throws Exception {
+        byte[] payload = "{\"zen\":\"Keep it logically awesome.\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(controller(SECRET).handleEvent("ping", sign(payload), payload).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private GitHubWebhookController controller(String secret) {
+        var properties = new ReleaseNotesServerProperties(100, List.of(REPOSITORY), Duration.ofMinutes(5), secret);
+        var historyRefresher = new HistoryRefresher(null, properties) {
+            @Override
+            public void refreshAsync(String owner, String repo) {
+                refreshedRepositories.add(owner + "/" + repo);
+            }
+        };
+        return new GitHubWebhookController(historyRefresher, new ObjectMapper(), properties);
+    }
+
+    private static byte[] push(String owner, String repo, String ref) {
+        return """
+                {"ref": "%s", "repository": {"name": "%s", "default_branch": "main", "owner": {"login": "%s"}}}"""
+                .formatted(ref, repo, owner).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sign(byte[] payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal(payload));
+    }
+}
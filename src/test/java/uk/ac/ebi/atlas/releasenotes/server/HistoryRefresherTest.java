@@ -0,0 +1,51 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistoryRefresherTest {
+
+    private final List<String> refreshedRepositories = new ArrayList<>();
+    private final ReleaseNotesService releaseNotesService = new ReleaseNotesService(null, null, null) {
+        @Override
+        public void refresh(String owner, String repo) {
+            refreshedRepositories.add(owner + "/" + repo);
+            if (repo.equals("scxa")) {
+                throw new IllegalStateException("Rate limit exceeded");
+            }
+        }
+    };
+
+    @Test
+    void givenConfiguredRepositories_refreshesEachOneDespiteFailures() {
+        var historyRefresher = new HistoryRefresher(releaseNotesService, properties(
+                List.of("ebi-gene-expression-group/scxa", "not-a-repository", "ebi-gene-expression-group/atlas-web")));
+
+        historyRefresher.refreshRepositories();
+
+        assertThat(refreshedRepositories)
+                .containsExactly("ebi-gene-expression-group/scxa", "ebi-gene-expression-group/atlas-web");
+    }
+
+    @Test
+    void givenAPollInterval_schedulesThePollWithIt() {
+        var historyRefresher = new HistoryRefresher(releaseNotesService, properties(List.of()));
+        var taskRegistrar = new ScheduledTaskRegistrar();
+
+        new ReleaseNotesServerConfiguration().historyPolling(historyRefresher, properties(List.of()))
+                .configureTasks(taskRegistrar);
+
+        assertThat(taskRegistrar.getFixedDelayTaskList()).hasSize(1);
+        assertThat(taskRegistrar.getFixedDelayTaskList().get(0).getIntervalDuration()).isEqualTo(Duration.ofMinutes(2));
+    }
+
+    private static ReleaseNotesServerProperties properties(List<String> repositories) {
+        return new ReleaseNotesServerProperties(100, repositories, Duration.ofMinutes(2), "secret");
+    }
+}
@@ -0,0 +1,72 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import uk.ac.ebi.atlas.releasenotes.cache.CachingCommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.cache.InMemoryCommitStore;
+import uk.ac.ebi.atlas.releasenotes.exception.CommitNotInHistoryException;
+import uk.ac.ebi.atlas.releasenotes.exception.GitHubApiException;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class ReleaseNotesControllerTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+    public static final String REPO_NAME = "atlas-web";
+
+    private final FakeGitHubClient gitHubClient = new FakeGitHubClient("c3", "c2", "c1");
+    private final ReleaseNotesController controller = new ReleaseNotesController(new ReleaseNotesService(gitHubClient,
+            new CachingCommitRangeResolver(gitHubClient, new InMemoryCommitStore(100)), new ReleaseNotesGenerator()));
+
+    @Test
+    void givenNoVersion_namesTheReleaseAfterTheUntilCommit() {
+        var response = controller.getReleaseNotes(REPO_OWNER, REPO_NAME, "c1", "c3", null, "markdown");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.valueOf("text/markdown;charset=UTF-8"));
+        assertThat(response.getBody()).contains("Release Notes for atlas-web - c3", "Commit c2", "Commit c3");
+    }
+
+    @Test
+    void givenAFormat_answersWithItsMediaType() {
+        assertThat(controller.getReleaseNotes(REPO_OWNER, REPO_NAME, "c1", "c3", "v1", "HTML").getHeaders().getContentType())
+                .isEqualTo(MediaType.valueOf("text/html;charset=UTF-8"));
+        assertThat(controller.getReleaseNotes(REPO_OWNER, REPO_NAME, "c1", "c3", "v1", "json").getHeaders().getContentType())
+                .isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(controller.getReleaseNotes(REPO_OWNER, REPO_NAME, "c1", "c3", "v1", "slack").getHeaders().getContentType())
+                .isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(controller.getReleaseNotes(REPO_OWNER, REPO_NAME, "c1", "c3", "v1", "asciidoc").getHeaders().getContentType())
+                .isEqualTo(MediaType.valueOf("text/asciidoc;charset=UTF-8"));
+    }
+
+    @Test
+    void givenAnUnknownFormat_answersBadRequest() {
+        var exception = catchThrowableOfType(
+                () -> controller.getReleaseNotes(REPO_OWNER, REPO_NAME, "c1", "c3", "v1", "pdf"),
+                IllegalArgumentException.class);
+
+        assertThat(exception).hasMessageContaining("markdown");
+        assertThat(controller.handleBadRequest(exception).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void givenASinceCommitOutsideTheHistoryOfUntil_answersBadRequest() {
+        var exception = catchThrowableOfType(
+                () -> controller.getReleaseNotes(REPO_OWNER, REPO_NAME, "c3", "c1", "v1", "markdown"),
+                CommitNotInHistoryException.class);
+
+        assertThat(exception).hasMessageContaining("c3");
+        assertThat(controller.handleBadRequest(exception).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void givenGitHubErrors_answersNotFoundOrBadGateway() {
+        assertThat(controller.handleNotFound(new GitHubApiException(404, "Not Found")).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.handleNotFound(new GitHubApiException(500, "Server Error")).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+}
@@ -0,0 +1,51 @@
+package uk.ac.ebi.atlas.releasenotes.server;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.cache.CachingCommitRangeResolver;
+import uk.ac.ebi.atlas.releasenotes.cache.InMemoryCommitStore;
+import uk.ac.ebi.atlas.releasenotes.render.OutputFormat;
+import uk.ac.ebi.atlas.releasenotes.render.ReleaseNotesGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReleaseNotesServiceTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+    public static final String REPO_NAME = "atlas-web";
+
+    private final FakeGitHubClient gitHubClient = new FakeGitHubClient("c3", "c2", "c1");
+    private final InMemoryCommitStore commitStore = new InMemoryCommitStore(100);
+    private final ReleaseNotesService releaseNotesService = new ReleaseNotesService(gitHubClient,
+            new CachingCommitRangeResolver(gitHubClient, commitStore), new ReleaseNotesGenerator());
+
+    @Test
+    void givenSeveralRequests_fetchesTheProjectOnce() {
+        releaseNotesService.generateReleaseNotes(REPO_OWNER, REPO_NAME, "c1", "c3", "v1", OutputFormat.MARKDOWN);
+        releaseNotesService.generateReleaseNotes(REPO_OWNER, REPO_NAME, "c2", "c3", "v1", OutputFormat.MARKDOWN);
+
+        assertThat(gitHubClient.projectRequests).hasValue(1);
+    }
+
+    @Test
+    void givenMoreRepositoriesThanTheBound_fetchesTheLeastRecentlyUsedProjectAgain() {
+        for (int i = 0; i <= ReleaseNotesService.MAX_CACHED_PROJECTS; i++) {
+            releaseNotesService.generateReleaseNotes(REPO_OWNER, "repo-" + i, "c1", "c3", "v1", OutputFormat.MARKDOWN);
+        }
+        releaseNotesService.generateReleaseNotes(REPO_OWNER, "repo-0", "c1", "c3", "v1", OutputFormat.MARKDOWN);
+
+        assertThat(gitHubClient.projectRequests).hasValue(ReleaseNotesService.MAX_CACHED_PROJECTS + 2);
+    }
+
+    @Test
+    void givenARefresh_updatesTheProjectAndTheHistory() {
+        releaseNotesService.generateReleaseNotes(REPO_OWNER, REPO_NAME, "c1", "c3", "v1", OutputFormat.MARKDOWN);
+        gitHubClient.description = "Single Cell Expression Atlas";
+
+        releaseNotesService.refresh(REPO_OWNER, REPO_NAME);
+
+        assertThat(commitStore.load(REPO_OWNER, REPO_NAME)).hasSize(3);
+        assertThat(releaseNotesService.generateReleaseNotes(REPO_OWNER, REPO_NAME, "c1", "c3", "v1", OutputFormat.MARKDOWN))
+                .contains("Single Cell Expression Atlas");
+        assertThat(gitHubClient.projectRequests).hasValue(2);
+    }
+}
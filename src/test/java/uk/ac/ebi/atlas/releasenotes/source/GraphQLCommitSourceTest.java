@@ -0,0 +1,116 @@
+package uk.ac.ebi.atlas.releasenotes.source;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.GitHubGraphQLClient;
+import uk.ac.ebi.atlas.releasenotes.exception.GitHubGraphQLException;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class GraphQLCommitSourceTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+    public static final String REPO_NAME = "release-notes-generator";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Deque<JsonNode> responses = new ArrayDeque<>();
+    private final List<GitHubGraphQLClient.Query> queries = new ArrayList<>();
+
+    private final GraphQLCommitSource graphQLCommitSource = new GraphQLCommitSource(query -> {
+        queries.add(query);
+        return responses.removeFirst();
+    });
+
+    @Test
+    void givenAMultiPageHistory_stopsAtTheSinceCommit() throws Exception {
+        responses.add(historyPage(true, "cursor-1", commitNode("ccc333", "Merge pull request #3", "bbb222"), commitNode("bbb222", "Fix the build", "aaa111")));
+        responses.add(historyPage(true, "cursor-2", commitNode("aaa111", "Initial commit", "000000"), commitNode("000000", "Not in range")));
+
+        List<Commit> commits = graphQLCommitSource.getCommitsInRange(REPO_OWNER, REPO_NAME, "aaa111", "main");
+
+        assertThat(commits).extracting(Commit::sha).containsExactly("ccc333", "bbb222", "aaa111");
+        assertThat(queries).hasSize(2);
+        assertThat(queries.get(1).variables()).containsEntry("cursor", "cursor-1");
+
+        var pullRequest = commits.get(0).pullRequests().get(0);
+        assertThat(pullRequest.number()).isEqualTo(3);
+        assertThat(pullRequest.author()).isEqualTo("joe");
+        assertThat(pullRequest.labels()).containsExactly("enhancement");
+        assertThat(commits.get(0).commit().author().email()).isEqualTo("joe@example.com");
+    }
+
+    @Test
+    void givenABranchMergedAfterTheSinceCommit_keepsItsOlderCommitsAndLeavesOutAncestorsOfSince() throws Exception {
+        // fix222 was committed on a branch before since111 and merged after it; old000 is listed first but is an
+        // ancestor of since111
+        responses.add(historyPage(true, "cursor-1",
+                commitNode("merge333", "Merge pull request #3", "since111", "fix222"),
+                commitNode("old000", "Initial commit"),
+                commitNode("since111", "Release 1.0", "old000")));
+        responses.add(historyPage(false, "cursor-2",
+                commitNode("fix222", "Fix the build", "old000")));
+
+        List<Commit> commits = graphQLCommitSource.getCommitsInRange(REPO_OWNER, REPO_NAME, "since111", "main");
+
+        assertThat(commits).extracting(Commit::sha).containsExactly("merge333", "fix222", "since111");
+        assertThat(queries).hasSize(2);
+    }
+
+    @Test
+    void givenAnAnnotatedTag_readsTheHistoryOfTheCommitItPointsAt() throws Exception {
+        responses.add(objectMapper.readTree("""
+                {"data": {"repository": {"object": {"target": {"history": {
+                  "pageInfo": {"hasNextPage": false, "endCursor": null},
+                  "nodes": [%s, %s]
+                }}}}}}
+                """.formatted(commitNode("bbb222", "Fix the build", "aaa111"), commitNode("aaa111", "Initial commit"))));
+
+        List<Commit> commits = graphQLCommitSource.getCommitsInRange(REPO_OWNER, REPO_NAME, "aaa111", "v1.0.0");
+
+        assertThat(commits).extracting(Commit::sha).containsExactly("bbb222", "aaa111");
+        assertThat(queries.get(0).query()).contains("... on Tag");
+    }
+
+    @Test
+    void givenGraphQLErrors_throwsGitHubGraphQLException() throws Exception {
+        responses.add(objectMapper.readTree("""
+                {"data": null, "errors": [{"message": "Could not resolve to a Repository"}]}
+                """));
+
+        assertThatExceptionOfType(GitHubGraphQLException.class)
+                .isThrownBy(() -> graphQLCommitSource.getProject(REPO_OWNER, REPO_NAME))
+                .withMessageContaining("Could not resolve to a Repository");
+    }
+
+    private JsonNode historyPage(boolean hasNextPage, String endCursor, String... commitNodes) throws Exception {
+        return objectMapper.readTree("""
+                {"data": {"repository": {"object": {"history": {
+                  "pageInfo": {"hasNextPage": %s, "endCursor": "%s"},
+                  "nodes": [%s]
+                }}}}}
+                """.formatted(hasNextPage, endCursor, String.join(",", commitNodes)));
+    }
+
+    private static String commitNode(String sha, String message, String... parentShas) {
+        String parents = Arrays.stream(parentShas).map("{\"oid\": \"%s\"}"::formatted).collect(Collectors.joining(","));
+        return """
+                {"oid": "%1$s", "message": "%2$s", "url": "https://github.com/%3$s/%4$s/commit/%1$s",
+                 "parents": {"nodes": [%5$s]},
+                 "author": {"email": "joe@example.com", "date": "2024-05-01T10:15:30+01:00"},
+                 "associatedPullRequests": {"nodes": [
+                   {"number": 3, "title": "%2$s", "url": "https://github.com/%3$s/%4$s/pull/3",
+                    "author": {"login": "joe"}, "labels": {"nodes": [{"name": "enhancement"}]}}
+                 ]}}
+                """.formatted(sha, message, REPO_OWNER, REPO_NAME, parents);
+    }
+}
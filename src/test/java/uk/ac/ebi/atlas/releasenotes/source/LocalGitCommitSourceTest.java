@@ -0,0 +1,83 @@
+package uk.ac.ebi.atlas.releasenotes.source;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.ebi.atlas.releasenotes.exception.GitProcessException;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LocalGitCommitSourceTest {
+
+    public static final String REPO_OWNER = "ebi-gene-expression-group";
+    public static final String REPO_NAME = "release-notes-generator";
+    public static final String AUTHOR_EMAIL = "joe@example.com";
+
+    @TempDir
+    Path repositoryDir;
+
+    private LocalGitCommitSource localGitCommitSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        git("init", "--quiet");
+        git("config", "user.name", "Joe");
+        git("config", "user.email", AUTHOR_EMAIL);
+        git("commit", "--quiet", "--allow-empty", "-m", "Initial commit");
+        git("commit", "--quiet", "--allow-empty", "-m", "Fix the build\n\nWith a longer description");
+        git("commit", "--quiet", "--allow-empty", "-m", "Merge the new feature");
+
+        localGitCommitSource = new LocalGitCommitSource(repositoryDir);
+    }
+
+    @Test
+    void givenValidRange_returnsCommitsNewestFirstIncludingTheSinceCommit() throws Exception {
+        String sinceCommit = git("rev-parse", "HEAD~1");
+        String untilCommit = git("rev-parse", "HEAD");
+
+        List<Commit> commits = localGitCommitSource.getCommitsInRange(REPO_OWNER, REPO_NAME, sinceCommit, untilCommit);
+
+        assertThat(commits).extracting(Commit::sha).containsExactly(untilCommit, sinceCommit);
+        assertThat(commits.get(0).commit().message()).isEqualTo("Merge the new feature");
+        assertThat(commits.get(1).commit().message()).isEqualTo("Fix the build\n\nWith a longer description");
+        assertThat(commits.get(1).commit().author().email()).isEqualTo(AUTHOR_EMAIL);
+        assertThat(commits.get(0).parents()).containsExactly(new CommitParent(sinceCommit));
+        assertThat(commits.get(1).htmlUrl())
+                .isEqualTo("https://github.com/%s/%s/commit/%s".formatted(REPO_OWNER, REPO_NAME, sinceCommit));
+    }
+
+    @Test
+    void givenTheRootCommitAsSince_returnsTheWholeHistory() throws Exception {
+        String sinceCommit = git("rev-list", "--max-parents=0", "HEAD");
+
+        List<Commit> commits = localGitCommitSource.getCommitsInRange(REPO_OWNER, REPO_NAME, sinceCommit, "HEAD");
+
+        assertThat(commits).hasSize(3);
+        assertThat(commits.get(2).sha()).isEqualTo(sinceCommit);
+        assertThat(commits.get(2).parents()).isEmpty();
+    }
+
+    @Test
+    void givenUnknownCommit_throwsGitProcessException() {
+        assertThatExceptionOfType(GitProcessException.class)
+                .isThrownBy(() -> localGitCommitSource.getCommitsInRange(REPO_OWNER, REPO_NAME, "deadbeef", "HEAD"));
+    }
+
+    private String git(String... args) throws IOException, InterruptedException {
+        var command = new ArrayList<>(List.of("git", "-C", repositoryDir.toString()));
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).strip();
+        assertThat(process.waitFor()).as(output).isZero();
+        return output;
+    }
+}
@@ -0,0 +1,106 @@
+package uk.ac.ebi.atlas.releasenotes.store;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.classify.ClassificationRules;
+import uk.ac.ebi.atlas.releasenotes.classify.CommitClassifier;
+import uk.ac.ebi.atlas.releasenotes.classify.ReleaseSection;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.PullRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class CommitTableTest {
+
+    private static final String COMMIT_URL = "https://github.com/ebi-gene-expression-group/release-notes-generator/commit/";
+
+    private static final List<Commit> HISTORY = List.of(
+            commit("9cf91ff128e1309b52db055b43ece218733f1b17", "Merge pull request #7\n\nAdd HTML output", "joe@example.com",
+                    COMMIT_URL + "9cf91ff128e1309b52db055b43ece218733f1b17",
+                    List.of(new PullRequest(7, "Add HTML output", null, "joe", List.of("enhancement"))),
+                    List.of(new CommitParent("5e1c6e0d3c1d4c2b8c1a9f1e2d3c4b5a69788776"),
+                            new CommitParent("afc2ab859d72b0cd8d0ef0076643f789fad6a806"))),
+            commit("5e1c6e0d3c1d4c2b8c1a9f1e2d3c4b5a69788776", "Fix the output file extension", "ann@example.com",
+                    "https://example.com/mirror/5e1c6e0d", null,
+                    List.of(new CommitParent("afc2ab859d72b0cd8d0ef0076643f789fad6a806"))),
+            commit("afc2ab859d72b0cd8d0ef0076643f789fad6a806", "Initial commit", "joe@example.com",
+                    COMMIT_URL + "afc2ab859d72b0cd8d0ef0076643f789fad6a806", null, List.of()));
+
+    @Test
+    void givenAppendedCommits_readsBackWhatReleaseNotesShow() {
+        var commitTable = table(HISTORY);
+
+        assertThat(commitTable).hasSize(3);
+        for (int row = 0; row < HISTORY.size(); row++) {
+            Commit commit = HISTORY.get(row);
+            CommitView view = commitTable.get(row);
+            assertThat(view.sha()).isEqualTo(commit.sha());
+            assertThat(view.subject()).isEqualTo(commit.subject());
+            assertThat(view.authorEmail()).isEqualTo(commit.authorEmail());
+            assertThat(view.htmlUrl()).isEqualTo(commit.htmlUrl());
+            assertThat(view.pullRequests()).isEqualTo(commit.pullRequests());
+            assertThat(view.parents()).isEqualTo(commit.parents());
+        }
+    }
+
+    @Test
+    void givenATable_classifiesItsRowsLikeTheCommits() {
+        var commitClassifier = CommitClassifier.compile(ClassificationRules.DEFAULT);
+
+        List<ReleaseSection> sections = commitClassifier.classify(table(HISTORY));
+
+        assertThat(sections).extracting(ReleaseSection::title)
+                .isEqualTo(commitClassifier.classify(HISTORY).stream().map(ReleaseSection::title).toList());
+        assertThat(sections).extracting(section -> section.commits().size())
+                .isEqualTo(commitClassifier.classify(HISTORY).stream().map(section -> section.commits().size()).toList());
+    }
+
+    @Test
+    void givenShas_findsTheirRowsAndTheRowsOfTheirParents() {
+        var commitTable = table(HISTORY);
+        commitTable.append(commit("9cf91ff1aaaa1309b52db055b43ece218733f1b1", "Revert", null, null, null, null));
+
+        assertThat(commitTable.indexOf("afc2ab859d72b0cd8d0ef0076643f789fad6a806")).isEqualTo(2);
+        assertThat(commitTable.indexOf("5e1c")).isEqualTo(1);
+        assertThat(commitTable.indexOf("9cf91ff1")).isEqualTo(0);
+        assertThat(commitTable.indexOf("9cf91ff1a")).isEqualTo(3);
+        assertThat(commitTable.indexOf("f6e3d2c1")).isEqualTo(-1);
+        assertThat(commitTable.indexOf("main")).isEqualTo(-1);
+        assertThat(commitTable.getParentRows(0)).containsExactly(1, 2);
+        assertThat(commitTable.getParentRows(2)).isEmpty();
+        assertThat(commitTable.getParentRows(3)).isNull();
+        assertThat(commitTable.hasAllParents()).isFalse();
+        assertThat(table(HISTORY).hasAllParents()).isTrue();
+    }
+
+    @Test
+    void givenAParentOutsideTheTable_returnsMinusOneForIt() {
+        var commitTable = table(HISTORY.subList(0, 2));
+
+        assertThat(commitTable.getParentRows(0)).containsExactly(1, -1);
+    }
+
+    @Test
+    void givenAnAbbreviatedSha_throwsIllegalArgumentException() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CommitTable().append(commit("9cf91ff1", "Fix", null, null, null, null)));
+    }
+
+    private static CommitTable table(List<Commit> history) {
+        var commitTable = new CommitTable();
+        history.forEach(commitTable::append);
+        return commitTable;
+    }
+
+    private static Commit commit(String sha, String message, String email, String htmlUrl,
+                                 List<PullRequest> pullRequests, List<CommitParent> parents) {
+        return new Commit(sha, new CommitDetails(message, new Author(email, Instant.EPOCH)), htmlUrl, pullRequests, parents);
+    }
+}
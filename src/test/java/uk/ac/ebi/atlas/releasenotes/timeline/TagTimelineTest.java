@@ -0,0 +1,171 @@
+package uk.ac.ebi.atlas.releasenotes.timeline;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ebi.atlas.releasenotes.GitHubClient;
+import uk.ac.ebi.atlas.releasenotes.records.Author;
+import uk.ac.ebi.atlas.releasenotes.records.Commit;
+import uk.ac.ebi.atlas.releasenotes.records.CommitComparison;
+import uk.ac.ebi.atlas.releasenotes.records.CommitDetails;
+import uk.ac.ebi.atlas.releasenotes.records.CommitParent;
+import uk.ac.ebi.atlas.releasenotes.records.CommitView;
+import uk.ac.ebi.atlas.releasenotes.records.GitHubProject;
+import uk.ac.ebi.atlas.releasenotes.records.Tag;
+import uk.ac.ebi.atlas.releasenotes.store.CommitTable;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagTimelineTest {
+
+    // Newest first, as the commits API lists them
+    private static final List<Commit> HISTORY = List.of(
+            commit("e5a2bd1b", "d4f0c9aa"),
+            commit("d4f0c9aa", "c3b1e872"),
+            commit("c3b1e872", "b2d9f6c0"),
+            commit("b2d9f6c0", "a1c8e5d3"),
+            commit("a1c8e5d3"));
+
+    @Test
+    void givenTags_splitsTheHistoryAtEachTaggedCommit() {
+        var releases = TagTimeline.split(HISTORY, List.of(tag("v2.0.0", "d4f0c9aa"), tag("v1.0.0", "b2d9f6c0")), null);
+
+        assertThat(releases).extracting(Release::version).containsExactly(TagTimeline.UNRELEASED, "v2.0.0", "v1.0.0");
+        assertThat(releases.get(0).tag()).isNull();
+        assertThat(releases.get(1).commits()).extracting(CommitView::sha).containsExactly("d4f0c9aa", "c3b1e872");
+        assertThat(releases.get(2).commits()).extracting(CommitView::sha).containsExactly("b2d9f6c0", "a1c8e5d3");
+    }
+
+    @Test
+    void givenATaggedHead_hasNoUnreleasedCommits() {
+        var releases = TagTimeline.split(HISTORY, List.of(tag("v3.0.0", "e5a2bd1b")), null);
+
+        assertThat(releases).extracting(Release::version).containsExactly("v3.0.0");
+        assertThat(releases.get(0).commits()).hasSize(5);
+    }
+
+    @Test
+    void givenASinceTag_leavesItsReleaseOut() {
+        var releases = TagTimeline.split(HISTORY, List.of(tag("v2.0.0", "d4f0c9aa"), tag("v1.0.0", "b2d9f6c0")), "b2d9f6c0");
+
+        assertThat(releases).extracting(Release::version).containsExactly(TagTimeline.UNRELEASED, "v2.0.0");
+    }
+
+    @Test
+    void givenTagsOutsideTheHistory_ignoresThem() {
+        var releases = TagTimeline.split(HISTORY, List.of(tag("v1.0.1-hotfix", "f6e3d2c1")), null);
+
+        assertThat(releases).extracting(Release::version).containsExactly(TagTimeline.UNRELEASED);
+        assertThat(releases.get(0).commits()).hasSize(5);
+    }
+
+    @Test
+    void givenABranchMergedAfterARelease_putsItsCommitsInTheReleaseOfTheMerge() {
+        // The feature branch started before v1.0.0 and was merged after v2.0.0
+        var history = List.of(
+                commit("e5a2bd1b", "d4f0c9aa", "c3b1e872"),
+                commit("d4f0c9aa", "b2d9f6c0"),
+                commit("c3b1e872", "a1c8e5d3"),
+                commit("b2d9f6c0", "a1c8e5d3"),
+                commit("a1c8e5d3"));
+
+        var releases = TagTimeline.split(history, List.of(tag("v2.0.0", "d4f0c9aa"), tag("v1.0.0", "b2d9f6c0")), null);
+
+        assertThat(releases).extracting(Release::version).containsExactly(TagTimeline.UNRELEASED, "v2.0.0", "v1.0.0");
+        assertThat(releases.get(0).commits()).extracting(CommitView::sha).containsExactly("e5a2bd1b", "c3b1e872");
+        assertThat(releases.get(1).commits()).extracting(CommitView::sha).containsExactly("d4f0c9aa");
+        assertThat(releases.get(2).commits()).extracting(CommitView::sha).containsExactly("b2d9f6c0", "a1c8e5d3");
+    }
+
+    @Test
+    void givenACommitTable_splitsItLikeTheCommits() {
+        var history = List.of(
+                commit(fullSha("e5a2bd1b"), fullSha("d4f0c9aa"), fullSha("c3b1e872")),
+                commit(fullSha("d4f0c9aa"), fullSha("b2d9f6c0")),
+                commit(fullSha("c3b1e872"), fullSha("a1c8e5d3")),
+                commit(fullSha("b2d9f6c0"), fullSha("a1c8e5d3")),
+                commit(fullSha("a1c8e5d3")));
+        var tags = List.of(tag("v2.0.0", fullSha("d4f0c9aa")), tag("v1.0.0", fullSha("b2d9f6c0")));
+        var commitTable = new CommitTable();
+        history.forEach(commitTable::append);
+
+        var releases = TagTimeline.split(commitTable, tags, fullSha("a1c8e5d3"));
+
+        assertThat(releases).extracting(Release::version).containsExactly(TagTimeline.UNRELEASED, "v2.0.0", "v1.0.0");
+        assertThat(releases.get(0).commits()).extracting(CommitView::sha)
+                .containsExactly(fullSha("e5a2bd1b"), fullSha("c3b1e872"));
+        assertThat(releases.get(1).commits()).extracting(CommitView::sha).containsExactly(fullSha("d4f0c9aa"));
+        assertThat(releases.get(2).commits()).extracting(CommitView::sha).containsExactly(fullSha("b2d9f6c0"));
+    }
+
+    @Test
+    void givenABranchMergedAcrossTheSinceTag_keepsItsCommitsListedAfterTheTag() {
+        // The feature branch started before v1.0.0 and was merged after it, so the history of main lists its first
+        // commit after the tagged one
+        var since = commit(fullSha("b2d9f6c0"), fullSha("a1c8e5d3"));
+        var comparison = new CommitComparison("ahead", 3, List.of(
+                commit(fullSha("c3b1e872"), fullSha("a1c8e5d3")),
+                commit(fullSha("d4f0c9aa"), fullSha("b2d9f6c0")),
+                commit(fullSha("e5a2bd1b"), fullSha("d4f0c9aa"), fullSha("c3b1e872"))));
+        var tags = List.of(tag("v2.0.0", fullSha("d4f0c9aa")), tag("v1.0.0", fullSha("b2d9f6c0")));
+        var gitHubClient = new FakeGitHubClient(tags, Map.of(fullSha("b2d9f6c0") + "...main", comparison), since);
+
+        var releases = new TagTimeline(gitHubClient).getReleases("owner", "repo", "main", "v1.0.0");
+
+        assertThat(releases).extracting(Release::version).containsExactly(TagTimeline.UNRELEASED, "v2.0.0");
+        assertThat(releases.get(0).commits()).extracting(CommitView::sha)
+                .containsExactly(fullSha("e5a2bd1b"), fullSha("c3b1e872"));
+        assertThat(releases.get(1).commits()).extracting(CommitView::sha).containsExactly(fullSha("d4f0c9aa"));
+    }
+
+    private static String fullSha(String abbreviatedSha) {
+        return abbreviatedSha + "0".repeat(40 - abbreviatedSha.length());
+    }
+
+    private static Tag tag(String name, String sha) {
+        return new Tag(name, new Tag.CommitReference(sha));
+    }
+
+    private static Commit commit(String sha, String... parents) {
+        return new Commit(sha, new CommitDetails("Commit " + sha, new Author("joe@example.com", Instant.EPOCH)),
+                "https://github.com/commit/" + sha, null, Arrays.stream(parents).map(CommitParent::new).toList());
+    }
+
+    private record FakeGitHubClient(List<Tag> tags, Map<String, CommitComparison> comparisons, Commit since)
+            implements GitHubClient {
+
+        @Override
+        public List<Tag> listTags(String owner, String repo, int page, int perPage) {
+            return page == 1 ? tags : List.of();
+        }
+
+        @Override
+        public CommitComparison compareCommits(String owner, String repo, String base, String head, int page, int perPage) {
+            return comparisons.get(base + "..." + head);
+        }
+
+        @Override
+        public Commit getCommit(String owner, String repo, String ref) {
+            return since;
+        }
+
+        @Override
+        public GitHubProject getProject(String owner, String repo) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Commit> getCommitsPage(String owner, String repo, String sha, int page, int perPage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Commit> getFilteredCommitsPage(String owner, String repo, String sha, int page, int perPage,
+                                                   Map<String, Object> filter) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}